@@ -0,0 +1,107 @@
+package com.interview.config;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+/**
+ * Access log written off the request path.
+ * <p>
+ * Request threads only put an entry into a lock-free {@link AccessLogBuffer}; a single background thread
+ * formats and logs the entries under the {@code access} logger, so requests never wait on the appender. When
+ * the writer falls behind and the buffer fills, new entries are dropped rather than blocking. Drops are
+ * counted in the {@code athlete.access_log.dropped} meter and summarized in the log once the writer catches up.
+ * </p>
+ */
+@Slf4j(topic = "access")
+@Component
+public class AccessLog {
+
+    private static final long IDLE_WAIT_NANOS = TimeUnit.MILLISECONDS.toNanos(10);
+    private static final long CLOSE_TIMEOUT_MILLIS = 1000;
+
+    private final AccessLogBuffer<Entry> buffer;
+    private final Counter droppedCounter;
+    private final AtomicLong unreportedDrops = new AtomicLong();
+    private final Thread writer;
+
+    private volatile boolean running = true;
+
+    public AccessLog(final AccessLogProperties properties, final MeterRegistry meterRegistry) {
+        this.buffer = new AccessLogBuffer<>(properties.getBufferSize());
+        this.droppedCounter = meterRegistry.counter("athlete.access_log.dropped");
+        this.writer = Thread.ofPlatform().name("access-log-writer").daemon().start(this::drain);
+    }
+
+    /**
+     * Queues an entry for the writer without blocking.
+     *
+     * @param entry the entry
+     * @return false if the buffer was full and the entry was dropped
+     */
+    public boolean record(final Entry entry) {
+        if (buffer.offer(entry)) {
+            return true;
+        }
+        droppedCounter.increment();
+        unreportedDrops.incrementAndGet();
+        return false;
+    }
+
+    /**
+     * Stops the writer once it has logged every queued entry.
+     */
+    @PreDestroy
+    public void close() throws InterruptedException {
+        running = false;
+        LockSupport.unpark(writer);
+        writer.join(CLOSE_TIMEOUT_MILLIS);
+    }
+
+    /**
+     * A completed request.
+     *
+     * @param method        the HTTP method
+     * @param route         the matched route template, or the request path if no route matched
+     * @param status        the response status
+     * @param bytes         the response body size
+     * @param durationNanos the time from receiving the request to completing the response
+     */
+    public record Entry(String method, String route, int status, long bytes, long durationNanos) {}
+
+    // --- Private helper methods ---
+
+    private void drain() {
+        while (true) {
+            final Entry entry = buffer.poll();
+            if (entry != null) {
+                write(entry);
+                continue;
+            }
+            final long dropped = unreportedDrops.getAndSet(0);
+            if (dropped > 0) {
+                log.warn("Dropped {} access log entries, buffer of {} was full", dropped, buffer.capacity());
+            }
+            if (!running) {
+                return;
+            }
+            LockSupport.parkNanos(IDLE_WAIT_NANOS);
+        }
+    }
+
+    private static void write(final Entry entry) {
+        log.info(
+                "method={}, route={}, status={}, bytes={}, durationMs={}",
+                entry.method(),
+                entry.route(),
+                entry.status(),
+                entry.bytes(),
+                String.format(Locale.ROOT, "%.3f", entry.durationNanos() / 1_000_000.0));
+    }
+}
@@ -0,0 +1,78 @@
+package com.interview.config;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Bounded lock-free ring buffer with many producers and a single consumer.
+ * <p>
+ * Every slot carries a sequence number telling whose turn it is: producers claim the next position with a
+ * single CAS and publish the element by advancing the slot's sequence, and the consumer takes it by advancing
+ * the sequence once more, a lap ahead. A producer finding the slot of its position still unconsumed reports
+ * the buffer as full instead of waiting.
+ * </p>
+ */
+final class AccessLogBuffer<E> {
+
+    private final AtomicReferenceArray<E> elements;
+    private final AtomicLongArray sequences;
+    private final AtomicLong tail = new AtomicLong();
+    private final int mask;
+
+    // Only touched by the consumer
+    private long head;
+
+    AccessLogBuffer(final int capacity) {
+        final int size = Integer.highestOneBit(Math.max(1, capacity - 1)) << 1;
+        this.elements = new AtomicReferenceArray<>(size);
+        this.sequences = new AtomicLongArray(size);
+        this.mask = size - 1;
+        for (int i = 0; i < size; i++) {
+            sequences.set(i, i);
+        }
+    }
+
+    /**
+     * Adds an element without blocking. Safe to call from any thread.
+     *
+     * @param element the element
+     * @return false if the buffer was full and the element was not added
+     */
+    boolean offer(final E element) {
+        while (true) {
+            final long position = tail.get();
+            final int index = (int) position & mask;
+            final long sequence = sequences.get(index);
+            if (sequence < position) {
+                return false;
+            }
+            if (sequence == position && tail.compareAndSet(position, position + 1)) {
+                elements.lazySet(index, element);
+                sequences.set(index, position + 1);
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Removes the oldest element. Must only be called from the single consumer thread.
+     *
+     * @return the element, or null if the buffer is empty
+     */
+    E poll() {
+        final int index = (int) head & mask;
+        if (sequences.get(index) != head + 1) {
+            return null;
+        }
+        final E element = elements.get(index);
+        elements.lazySet(index, null);
+        sequences.set(index, head + mask + 1);
+        head++;
+        return element;
+    }
+
+    int capacity() {
+        return mask + 1;
+    }
+}
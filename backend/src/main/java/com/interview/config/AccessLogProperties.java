@@ -0,0 +1,32 @@
+package com.interview.config;
+
+import java.time.Duration;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * Configuration properties for the access log.
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "access-log")
+public class AccessLogProperties {
+
+    /**
+     * Number of entries buffered for the writer, rounded up to a power of two. Entries arriving while the
+     * buffer is full are dropped.
+     */
+    private int bufferSize = 8192;
+
+    /**
+     * Share of successful (2xx and 3xx) responses that are logged, between 0 and 1. Client and server errors
+     * are always logged.
+     */
+    private double successSampleRate = 1.0;
+
+    /**
+     * Requests taking at least this long are always logged, whatever their status.
+     */
+    private Duration slowThreshold = Duration.ofSeconds(1);
+}
@@ -0,0 +1,146 @@
+package com.interview.config;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Limits the number of requests in flight, adapting the limit to measured latency.
+ * <p>
+ * The limit follows a gradient: each latency sample is compared with the long-term average, and while
+ * latency stays within {@code rtt-tolerance} of it the limit grows by about its square root; once queueing
+ * in the database or connection pool pushes latency up, the limit shrinks in proportion, by at most half per
+ * sample. New estimates are smoothed, and samples taken while less than half the limit was in use are not
+ * allowed to raise it, since low demand says nothing about capacity.
+ * </p>
+ * <p>
+ * Low priority requests may only fill {@code low-priority-share} of the limit, so high priority ones are shed
+ * last. The current limit, the requests in flight and the rejections by priority are published as
+ * {@code athlete.concurrency.limit}, {@code athlete.concurrency.in_flight} and
+ * {@code athlete.concurrency.rejected}.
+ * </p>
+ */
+public final class AdaptiveConcurrencyLimiter {
+
+    private static final String REJECTED_METER = "athlete.concurrency.rejected";
+    private static final double MIN_GRADIENT = 0.5;
+    private static final double LONG_RTT_DECAY_THRESHOLD = 2.0;
+    private static final double LONG_RTT_DECAY = 0.95;
+
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final ReentrantLock updateLock = new ReentrantLock();
+    private final int minLimit;
+    private final int maxLimit;
+    private final double smoothing;
+    private final double rttTolerance;
+    private final double longRttWeight;
+    private final double lowPriorityShare;
+    private final Counter rejectedHigh;
+    private final Counter rejectedLow;
+
+    // Guarded by updateLock
+    private double estimate;
+    private double longRtt;
+
+    private volatile int limit;
+
+    public AdaptiveConcurrencyLimiter(final ConcurrencyLimitProperties properties, final MeterRegistry meterRegistry) {
+        this.minLimit = properties.getMinLimit();
+        this.maxLimit = properties.getMaxLimit();
+        this.smoothing = properties.getSmoothing();
+        this.rttTolerance = properties.getRttTolerance();
+        this.longRttWeight = 2.0 / (properties.getLongWindow() + 1);
+        this.lowPriorityShare = properties.getLowPriorityShare();
+        this.estimate = Math.max(minLimit, Math.min(maxLimit, properties.getInitialLimit()));
+        this.limit = (int) estimate;
+
+        Gauge.builder("athlete.concurrency.limit", this, AdaptiveConcurrencyLimiter::limit)
+                .register(meterRegistry);
+        Gauge.builder("athlete.concurrency.in_flight", inFlight, AtomicInteger::get)
+                .register(meterRegistry);
+        this.rejectedHigh = meterRegistry.counter(REJECTED_METER, "priority", "high");
+        this.rejectedLow = meterRegistry.counter(REJECTED_METER, "priority", "low");
+    }
+
+    /**
+     * Admits a request if the limit for its priority has room. Every admitted request must be released.
+     *
+     * @param highPriority whether the request may use the whole limit
+     * @return true if the request was admitted, false if it must be shed
+     */
+    public boolean tryAcquire(final boolean highPriority) {
+        final int allowed = highPriority ? limit : Math.max(1, (int) (limit * lowPriorityShare));
+        while (true) {
+            final int current = inFlight.get();
+            if (current >= allowed) {
+                (highPriority ? rejectedHigh : rejectedLow).increment();
+                return false;
+            }
+            if (inFlight.compareAndSet(current, current + 1)) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Releases an admitted request and feeds its latency into the limit.
+     *
+     * @param rttNanos how long the request took
+     */
+    public void release(final long rttNanos) {
+        final int current = inFlight.getAndDecrement();
+        update(Math.max(1, rttNanos), current);
+    }
+
+    /**
+     * Releases an admitted request whose latency says nothing about load, such as a failed or streamed one.
+     */
+    public void release() {
+        inFlight.decrementAndGet();
+    }
+
+    /**
+     * Returns the current concurrency limit.
+     *
+     * @return the limit for high priority requests
+     */
+    public int limit() {
+        return limit;
+    }
+
+    /**
+     * Returns the number of admitted requests not yet released.
+     *
+     * @return the requests in flight
+     */
+    public int inFlight() {
+        return inFlight.get();
+    }
+
+    // --- Private helper methods ---
+
+    private void update(final long rtt, final int inFlightAtCompletion) {
+        // Samples arriving while another one is applied are dropped; under load there are plenty more
+        if (!updateLock.tryLock()) {
+            return;
+        }
+        try {
+            longRtt = longRtt == 0 ? rtt : longRtt + (rtt - longRtt) * longRttWeight;
+            // After a lasting drop in latency, let the average catch up quickly so the limit can grow again
+            if (longRtt / rtt > LONG_RTT_DECAY_THRESHOLD) {
+                longRtt *= LONG_RTT_DECAY;
+            }
+            final double gradient = Math.max(MIN_GRADIENT, Math.min(1.0, rttTolerance * longRtt / rtt));
+            final double target = estimate * gradient + Math.sqrt(estimate);
+            if (target > estimate && inFlightAtCompletion < estimate / 2) {
+                return;
+            }
+            estimate = Math.max(minLimit, Math.min(maxLimit, estimate * (1 - smoothing) + target * smoothing));
+            limit = (int) estimate;
+        } finally {
+            updateLock.unlock();
+        }
+    }
+}
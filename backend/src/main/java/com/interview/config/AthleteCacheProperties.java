@@ -0,0 +1,55 @@
+package com.interview.config;
+
+import java.time.Duration;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+/**
+ * Configuration properties for the in-memory athlete caches.
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "athlete.cache")
+public class AthleteCacheProperties {
+
+    /**
+     * Total row counts per normalized filter.
+     */
+    private Spec count = new Spec(1000, Duration.ofMinutes(5));
+
+    /**
+     * Finished list responses per normalized filter, page and sort.
+     */
+    private Spec page = new Spec(500, Duration.ofMinutes(1));
+
+    /**
+     * Athlete entities by ID, bounded by their estimated heap footprint.
+     */
+    private WeightedSpec entity = new WeightedSpec(DataSize.ofMegabytes(16), Duration.ofMinutes(10));
+
+    /**
+     * Size and expiry settings of a single cache.
+     */
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Spec {
+        private long maximumSize;
+        private Duration ttl;
+    }
+
+    /**
+     * Expiry settings of a cache bounded by the estimated size of its entries rather than their number.
+     */
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class WeightedSpec {
+        private DataSize maximumWeight;
+        private Duration ttl;
+    }
+}
@@ -0,0 +1,55 @@
+package com.interview.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+/**
+ * Configuration properties for bulk CSV imports.
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "athlete.import")
+public class AthleteImportProperties {
+
+    /**
+     * Directory that import files are resolved against; files outside it are rejected.
+     */
+    private String directory = "imports";
+
+    /**
+     * Size of the file regions that are memory-mapped and parsed in parallel.
+     */
+    private DataSize chunkSize = DataSize.ofMegabytes(8);
+
+    /**
+     * Number of threads parsing and validating chunks.
+     */
+    private int parserThreads = Runtime.getRuntime().availableProcessors();
+
+    /**
+     * Number of threads writing batches to the database.
+     */
+    private int writerThreads = 2;
+
+    /**
+     * Rows per insert batch handed from parsers to writers.
+     */
+    private int batchSize = 1000;
+
+    /**
+     * Maximum number of batches waiting to be written; parsers block when it is full.
+     */
+    private int queueCapacity = 8;
+
+    /**
+     * Maximum number of rejected rows reported per job.
+     */
+    private int maxRejectionSamples = 100;
+
+    /**
+     * Maximum number of finished jobs kept for status queries.
+     */
+    private int retainedJobs = 100;
+}
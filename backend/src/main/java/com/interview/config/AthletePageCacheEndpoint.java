@@ -0,0 +1,26 @@
+package com.interview.config;
+
+import com.interview.service.AthletePageCache;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+
+/**
+ * Actuator endpoint listing the most frequently hit cached athlete listings at {@code /actuator/athletepages}.
+ */
+@Component
+@Endpoint(id = "athletepages")
+@RequiredArgsConstructor
+public class AthletePageCacheEndpoint {
+
+    private static final int LIMIT = 20;
+
+    private final AthletePageCache pageCache;
+
+    @ReadOperation
+    public List<AthletePageCache.PageStats> hottest() {
+        return pageCache.hottest(LIMIT);
+    }
+}
@@ -0,0 +1,38 @@
+package com.interview.config;
+
+import java.util.HashSet;
+import java.util.Set;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * Configuration properties for identifying the client behind a request.
+ * <p>
+ * Clients are identified by {@link #header} (typically an API key) when it carries one of the
+ * {@link #apiKeys}, and by remote address otherwise.
+ * </p>
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "client-identity")
+public class ClientIdentityProperties {
+
+    /**
+     * Request header identifying the client; requests without a known key in it are identified by remote
+     * address.
+     */
+    private String header = "X-API-Key";
+
+    /**
+     * API keys that identify a client. Any other key is ignored, so rotating made-up keys cannot pass for
+     * new clients.
+     */
+    private Set<String> apiKeys = new HashSet<>();
+
+    /**
+     * Whether to honor any key in the header without checking it against {@link #apiKeys}. Only for
+     * deployments where a gateway in front has already authenticated the key.
+     */
+    private boolean trustHeader;
+}
@@ -0,0 +1,45 @@
+package com.interview.config;
+
+import jakarta.servlet.http.HttpServletRequest;
+import java.util.Set;
+import org.springframework.stereotype.Component;
+
+/**
+ * Identifies the client behind a request, shared by everything that keeps per-client state: rate limit
+ * buckets and read-your-writes stickiness.
+ * <p>
+ * The client header is only honored for keys listed in {@code client-identity.api-keys}, or for any key once
+ * {@code client-identity.trust-header} is set. Otherwise a client could present a fresh made-up key with
+ * every request and be treated as a new client each time, resetting its rate limit.
+ * </p>
+ */
+@Component
+public class ClientIds {
+
+    private static final int MAX_CLIENT_ID_LENGTH = 128;
+
+    private final String header;
+    private final Set<String> apiKeys;
+    private final boolean trustHeader;
+
+    public ClientIds(final ClientIdentityProperties properties) {
+        this.header = properties.getHeader();
+        this.apiKeys = Set.copyOf(properties.getApiKeys());
+        this.trustHeader = properties.isTrustHeader();
+    }
+
+    /**
+     * Identifies the client by its header value if that is a known key, otherwise by remote address. The two
+     * are prefixed differently so an API key can never be mistaken for an address.
+     *
+     * @param request the request
+     * @return the client's id
+     */
+    public String of(final HttpServletRequest request) {
+        final String value = header == null ? null : request.getHeader(header);
+        if (value != null && !value.isBlank() && (trustHeader || apiKeys.contains(value))) {
+            return "key:" + (value.length() > MAX_CLIENT_ID_LENGTH ? value.substring(0, MAX_CLIENT_ID_LENGTH) : value);
+        }
+        return "addr:" + request.getRemoteAddr();
+    }
+}
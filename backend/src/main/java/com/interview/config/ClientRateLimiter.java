@@ -0,0 +1,136 @@
+package com.interview.config;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.github.bucket4j.Bandwidth;
+import io.github.bucket4j.Bucket;
+import io.github.bucket4j.ConsumptionProbe;
+import jakarta.servlet.http.HttpServletRequest;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import org.springframework.http.server.PathContainer;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+
+/**
+ * Token-bucket rate limiter with a separate bucket per client and route limit.
+ * <p>
+ * Buckets live in a Caffeine cache bounded by {@code rate-limit.max-buckets} that drops buckets idle for
+ * {@code rate-limit.bucket-idle-timeout}, so memory stays bounded however many clients appear. Lookups of
+ * existing buckets do not lock, and each bucket is updated lock-free, so clients never contend with each
+ * other and a noisy client only exhausts its own quota.
+ * </p>
+ */
+public class ClientRateLimiter {
+
+    private static final int DEFAULT_LIMIT = -1;
+
+    private final Cache<BucketKey, Bucket> buckets;
+    private final List<Route> routes;
+    private final Limit defaultLimit;
+    private final ClientIds clientIds;
+
+    public ClientRateLimiter(final RateLimitProperties properties, final ClientIds clientIds) {
+        this.buckets = Caffeine.newBuilder()
+                .maximumSize(properties.getMaxBuckets())
+                .expireAfterAccess(properties.getBucketIdleTimeout())
+                .build();
+        this.defaultLimit =
+                new Limit(properties.getCapacity(), properties.getRefillAmount(), properties.getRefillDuration());
+        this.clientIds = clientIds;
+        this.routes = new ArrayList<>();
+        for (RateLimitProperties.RouteLimit route : properties.getRoutes()) {
+            routes.add(new Route(
+                    route.getMethod(),
+                    PathPatternParser.defaultInstance.parse(route.getPath()),
+                    new Limit(route.getCapacity(), route.getRefillAmount(), route.getRefillDuration())));
+        }
+    }
+
+    /**
+     * Takes tokens from the bucket of the requesting client for the request's route.
+     *
+     * @param request the request, identifying both client and route
+     * @param tokens  number of tokens to take
+     * @return the outcome, including the remaining tokens and, if rejected, the wait until enough refill
+     */
+    public ConsumptionProbe tryConsume(final HttpServletRequest request, final long tokens) {
+        return tryConsume(request, tokens, 0);
+    }
+
+    /**
+     * Takes tokens from the bucket of the requesting client for the request's route, but only if at least
+     * {@code reserve} tokens remain afterwards. Costs above the bucket capacity are capped to it, and the
+     * reserve is waived where it would not fit, so every request can eventually pass.
+     *
+     * @param request the request, identifying both client and route
+     * @param tokens  number of tokens to take
+     * @param reserve number of tokens that must remain in the bucket
+     * @return the outcome, including the remaining tokens and, if rejected, the wait until enough refill
+     */
+    public ConsumptionProbe tryConsume(final HttpServletRequest request, final long tokens, final long reserve) {
+        final int route = resolveRoute(request);
+        final Limit limit = limit(route);
+        final long cost = Math.min(tokens, limit.capacity());
+        final long required = cost + reserve <= limit.capacity() ? reserve : 0;
+
+        final Bucket bucket = buckets.get(new BucketKey(clientIds.of(request), route), this::newBucket);
+        final ConsumptionProbe probe = bucket.tryConsumeAndReturnRemaining(cost);
+        if (!probe.isConsumed() || probe.getRemainingTokens() >= required) {
+            return probe;
+        }
+        // Dipped into the reserve: give the tokens back and report when cost plus reserve will be available
+        bucket.addTokens(cost);
+        final long wait = bucket.estimateAbilityToConsume(cost + required).getNanosToWaitForRefill();
+        return ConsumptionProbe.rejected(probe.getRemainingTokens() + cost, Math.max(wait, 1), wait);
+    }
+
+    /**
+     * Returns the number of buckets currently held, for monitoring.
+     *
+     * @return the approximate number of buckets
+     */
+    public long bucketCount() {
+        return buckets.estimatedSize();
+    }
+
+    // --- Private helper methods ---
+
+    private int resolveRoute(final HttpServletRequest request) {
+        if (routes.isEmpty()) {
+            return DEFAULT_LIMIT;
+        }
+        final PathContainer path = PathContainer.parsePath(request.getRequestURI());
+        for (int i = 0; i < routes.size(); i++) {
+            if (routes.get(i).matches(request.getMethod(), path)) {
+                return i;
+            }
+        }
+        return DEFAULT_LIMIT;
+    }
+
+    private Limit limit(final int route) {
+        return route == DEFAULT_LIMIT ? defaultLimit : routes.get(route).limit();
+    }
+
+    private Bucket newBucket(final BucketKey key) {
+        final Limit limit = limit(key.route());
+        return Bucket.builder()
+                .addLimit(Bandwidth.builder()
+                        .capacity(limit.capacity())
+                        .refillIntervally(limit.refillAmount(), limit.refillDuration())
+                        .build())
+                .build();
+    }
+
+    private record BucketKey(String client, int route) {}
+
+    private record Limit(int capacity, int refillAmount, Duration refillDuration) {}
+
+    private record Route(String method, PathPattern path, Limit limit) {
+        boolean matches(final String requestMethod, final PathContainer requestPath) {
+            return (method == null || method.equalsIgnoreCase(requestMethod)) && path.matches(requestPath);
+        }
+    }
+}
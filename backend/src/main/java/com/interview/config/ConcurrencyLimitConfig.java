@@ -0,0 +1,21 @@
+package com.interview.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Configuration for the adaptive concurrency limit.
+ */
+@Configuration
+@RequiredArgsConstructor
+public class ConcurrencyLimitConfig {
+
+    private final ConcurrencyLimitProperties concurrencyLimitProperties;
+
+    @Bean
+    public AdaptiveConcurrencyLimiter concurrencyLimiter(final MeterRegistry meterRegistry) {
+        return new AdaptiveConcurrencyLimiter(concurrencyLimitProperties, meterRegistry);
+    }
+}
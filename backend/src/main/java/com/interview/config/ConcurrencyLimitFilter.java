@@ -0,0 +1,85 @@
+package com.interview.config;
+
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+/**
+ * Load shedding filter - admits requests up to an adaptive concurrency limit and answers the rest with 503.
+ * Point reads, the requests no costlier than a point lookup, may use the whole limit; listings, searches,
+ * exports and writes are shed first. Actuator requests are never limited, so health checks keep working.
+ */
+@Component
+@RequiredArgsConstructor
+public class ConcurrencyLimitFilter extends OncePerRequestFilter {
+
+    private static final String ACTUATOR_PATH = "/actuator";
+
+    private final AdaptiveConcurrencyLimiter limiter;
+    private final RequestCostModel costModel;
+    private final ConcurrencyLimitProperties properties;
+
+    @Override
+    protected boolean shouldNotFilter(final HttpServletRequest request) {
+        return request.getRequestURI().startsWith(ACTUATOR_PATH);
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+
+        final boolean pointRead = !costModel.isExpensive(costModel.cost(request));
+        if (!limiter.tryAcquire(pointRead)) {
+            response.setStatus(HttpStatus.SERVICE_UNAVAILABLE.value());
+            response.setHeader(
+                    HttpHeaders.RETRY_AFTER,
+                    Long.toString(Math.max(1, properties.getRetryAfter().toSeconds())));
+            response.getWriter().write("Service overloaded");
+            return;
+        }
+
+        final long start = System.nanoTime();
+        boolean completed = false;
+        try {
+            filterChain.doFilter(request, response);
+            completed = true;
+        } finally {
+            if (request.isAsyncStarted()) {
+                // Streamed responses hold their slot until done; their duration reflects size, not load
+                request.getAsyncContext().addListener(new ReleasingListener());
+            } else if (completed && response.getStatus() < HttpStatus.INTERNAL_SERVER_ERROR.value()) {
+                limiter.release(System.nanoTime() - start);
+            } else {
+                limiter.release();
+            }
+        }
+    }
+
+    private final class ReleasingListener implements AsyncListener {
+
+        @Override
+        public void onComplete(final AsyncEvent event) {
+            limiter.release();
+        }
+
+        @Override
+        public void onTimeout(final AsyncEvent event) {}
+
+        @Override
+        public void onError(final AsyncEvent event) {}
+
+        @Override
+        public void onStartAsync(final AsyncEvent event) {
+            event.getAsyncContext().addListener(this);
+        }
+    }
+}
@@ -0,0 +1,48 @@
+package com.interview.config;
+
+import java.time.Duration;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * Configuration properties for the adaptive concurrency limit.
+ * <p>
+ * The limit starts at {@link #initialLimit} and moves between {@link #minLimit} and {@link #maxLimit} as
+ * measured latency rises above or falls back to its long-term average.
+ * </p>
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "concurrency-limit")
+public class ConcurrencyLimitProperties {
+
+    private int initialLimit = 20;
+    private int minLimit = 4;
+    private int maxLimit = 200;
+
+    /**
+     * Weight of each new limit estimate, between 0 (never move) and 1 (jump straight to it).
+     */
+    private double smoothing = 0.2;
+
+    /**
+     * How far latency may exceed its long-term average before the limit starts to shrink.
+     */
+    private double rttTolerance = 1.5;
+
+    /**
+     * Number of samples the long-term latency average spans.
+     */
+    private int longWindow = 600;
+
+    /**
+     * Share of the limit usable by requests costlier than a point lookup; the rest is kept for point reads.
+     */
+    private double lowPriorityShare = 0.75;
+
+    /**
+     * Delay suggested to shed clients in the {@code Retry-After} header.
+     */
+    private Duration retryAfter = Duration.ofSeconds(1);
+}
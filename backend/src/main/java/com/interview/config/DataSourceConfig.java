@@ -0,0 +1,128 @@
+package com.interview.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import javax.sql.DataSource;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+/**
+ * Configuration for routing read-only transactions to read replicas and everything else to the primary.
+ */
+@Configuration
+@RequiredArgsConstructor
+public class DataSourceConfig {
+
+    private static final long MIN_CONNECTION_TIMEOUT_MILLIS = 250;
+
+    private final DataSourceRoutingProperties properties;
+
+    /**
+     * The primary database, configured through {@code spring.datasource}.
+     */
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(final DataSourceProperties dataSourceProperties) {
+        return dataSourceProperties
+                .initializeDataSourceBuilder()
+                .type(HikariDataSource.class)
+                .build();
+    }
+
+    @Bean
+    public ReadWriteRoutingDataSource routingDataSource(
+            final HikariDataSource primaryDataSource,
+            final ClientIds clientIds,
+            final DatabaseBulkhead databaseBulkhead,
+            final MeterRegistry meterRegistry) {
+        return new ReadWriteRoutingDataSource(
+                primaryDataSource,
+                replicaDataSources(properties.getReplicas(), meterRegistry),
+                properties.getSyncInterval() != null,
+                properties.getStickiness(),
+                properties.getMaxStickyClients(),
+                clientIds,
+                databaseBulkhead,
+                meterRegistry);
+    }
+
+    /**
+     * Compartments sized to the pools: writes get their share of the primary pool, reads the rest of it, and
+     * each replica its whole pool.
+     */
+    @Bean
+    public DatabaseBulkhead databaseBulkhead(
+            final HikariDataSource primaryDataSource,
+            final DatabaseBulkheadProperties bulkheadProperties,
+            final MeterRegistry meterRegistry) {
+        final int primaryPool = primaryDataSource.getMaximumPoolSize();
+        final int writePermits = (int) Math.max(1, Math.round(primaryPool * bulkheadProperties.getWriteShare()));
+        final int readPermits = Math.max(1, primaryPool - writePermits);
+        final Map<String, Integer> replicaPermits = new LinkedHashMap<>();
+        for (DataSourceRoutingProperties.Replica replica : properties.getReplicas()) {
+            replicaPermits.put(replicaName(replicaPermits.size()), replica.getMaximumPoolSize());
+        }
+        return new DatabaseBulkhead(readPermits, writePermits, replicaPermits, bulkheadProperties, meterRegistry);
+    }
+
+    /**
+     * The data source used by JPA and everything else. Connections are routed at their first statement and
+     * hold a permit of their pool's bulkhead compartment.
+     */
+    @Bean
+    @Primary
+    public DataSource dataSource(final ReadWriteRoutingDataSource routingDataSource) {
+        return new LazyConnectionDataSourceProxy(routingDataSource);
+    }
+
+    @Bean
+    public ReplicaMonitor replicaMonitor(
+            final HikariDataSource primaryDataSource, final ReadWriteRoutingDataSource routingDataSource) {
+        final Runnable sync = properties.getSyncInterval() == null
+                ? null
+                : new H2ReplicaSync(primaryDataSource, routingDataSource.replicas(), routingDataSource);
+        return new ReplicaMonitor(routingDataSource, properties, sync);
+    }
+
+    // --- Private helper methods ---
+
+    /**
+     * Creates a pool per replica, named replica-1, replica-2 and so on. Connection attempts time out with
+     * the health check, so an unreachable replica is taken out of rotation quickly.
+     */
+    private Map<String, DataSource> replicaDataSources(
+            final List<DataSourceRoutingProperties.Replica> replicas, final MeterRegistry meterRegistry) {
+        final Map<String, DataSource> dataSources = new LinkedHashMap<>();
+        for (DataSourceRoutingProperties.Replica replica : replicas) {
+            final String name = replicaName(dataSources.size());
+            final HikariDataSource dataSource = DataSourceBuilder.create()
+                    .type(HikariDataSource.class)
+                    .url(replica.getUrl())
+                    .username(replica.getUsername())
+                    .password(replica.getPassword())
+                    .build();
+            dataSource.setPoolName(name);
+            dataSource.setMaximumPoolSize(replica.getMaximumPoolSize());
+            dataSource.setConnectionTimeout(Math.max(
+                    MIN_CONNECTION_TIMEOUT_MILLIS,
+                    properties.getHealthCheckTimeout().toMillis()));
+            dataSource.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(meterRegistry));
+            dataSources.put(name, dataSource);
+        }
+        return dataSources;
+    }
+
+    private static String replicaName(final int index) {
+        return "replica-" + (index + 1);
+    }
+}
@@ -0,0 +1,62 @@
+package com.interview.config;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * Configuration properties for routing reads to replicas.
+ * <p>
+ * The primary is configured through {@code spring.datasource}. Read-only transactions go to the replicas
+ * listed here; without replicas, everything goes to the primary.
+ * </p>
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "athlete.datasource")
+public class DataSourceRoutingProperties {
+
+    /**
+     * Read replicas of the primary.
+     */
+    private List<Replica> replicas = new ArrayList<>();
+
+    /**
+     * How long a client's reads stay on the primary after its last write commits, so it sees its own
+     * writes despite replication lag. Clients are identified by {@link ClientIds}. Cache loads likewise skip
+     * replicas that do not report their position until this long after the last write.
+     */
+    private Duration stickiness = Duration.ofSeconds(5);
+
+    /**
+     * Maximum number of clients tracked for stickiness; the oldest writers are dropped beyond this.
+     */
+    private long maxStickyClients = 100_000;
+
+    /**
+     * Interval between replica health checks; a failed replica is out of rotation until a check passes.
+     */
+    private Duration healthCheckInterval = Duration.ofSeconds(5);
+
+    private Duration healthCheckTimeout = Duration.ofSeconds(1);
+
+    /**
+     * Interval at which the replicas are overwritten with a copy of the primary, or null if they replicate
+     * on their own. Only meant for local H2 databases that stand in for replicas.
+     */
+    private Duration syncInterval;
+
+    /**
+     * Connection settings of a single replica.
+     */
+    @Data
+    public static class Replica {
+        private String url;
+        private String username;
+        private String password;
+        private int maximumPoolSize = 10;
+    }
+}
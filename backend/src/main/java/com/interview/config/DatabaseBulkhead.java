@@ -0,0 +1,225 @@
+package com.interview.config;
+
+import com.interview.exception.ServiceOverloadedException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import javax.sql.DataSource;
+
+/**
+ * Bulkhead bounding how many callers hold database connections, with a compartment per connection pool and,
+ * on the primary, separate compartments for reads and writes.
+ * <p>
+ * Each compartment is a fair semaphore with as many permits as connections it may use, so callers queue here
+ * instead of in the connection pool. The queue is bounded in length and wait time; callers beyond either bound
+ * are rejected with {@link ServiceOverloadedException}, answered with 503, instead of waiting out the pool's
+ * connection timeout.
+ * </p>
+ * <p>
+ * Permits are taken once the target pool has been chosen, so each compartment bounds the pool it belongs to.
+ * Reads that fall back to the primary, for instance while every replica is out of rotation, compete for the
+ * primary's read share only and can never take the connections writes need, and vice versa.
+ * </p>
+ */
+public class DatabaseBulkhead {
+
+    /**
+     * Compartment of read-only transactions served by the primary.
+     */
+    public static final String READ = "read";
+
+    /**
+     * Compartment of everything else, always served by the primary.
+     */
+    public static final String WRITE = "write";
+
+    private final Map<String, Compartment> compartments = new HashMap<>();
+
+    /**
+     * @param readPermits    connections of the primary available to read-only transactions
+     * @param writePermits   connections of the primary available to everything else
+     * @param replicaPermits connections of each replica by name, queued like primary reads
+     * @param properties     queue bounds of the read and write compartments
+     * @param meterRegistry  registry for queue depth, wait time and rejection metrics
+     */
+    public DatabaseBulkhead(
+            final int readPermits,
+            final int writePermits,
+            final Map<String, Integer> replicaPermits,
+            final DatabaseBulkheadProperties properties,
+            final MeterRegistry meterRegistry) {
+        compartments.put(READ, new Compartment(READ, readPermits, properties.getRead(), meterRegistry));
+        compartments.put(WRITE, new Compartment(WRITE, writePermits, properties.getWrite(), meterRegistry));
+        replicaPermits.forEach((name, permits) ->
+                compartments.put(name, new Compartment(name, permits, properties.getRead(), meterRegistry)));
+    }
+
+    /**
+     * Connects to a data source with a permit of the given compartment, held until the connection is closed.
+     *
+     * @param compartment the compartment of the data source's pool
+     * @param target      the data source to connect to
+     * @return the connection, which returns the permit when closed
+     * @throws ServiceOverloadedException if the queue is full or the wait exceeds its bound
+     * @throws SQLException               if the connection fails; the permit is returned
+     */
+    public Connection connect(final String compartment, final DataSource target) throws SQLException {
+        acquire(compartment);
+        try {
+            return releasing(target.getConnection(), compartment);
+        } catch (SQLException | RuntimeException ex) {
+            release(compartment);
+            throw ex;
+        }
+    }
+
+    /**
+     * Takes a permit from a compartment, queueing within its bounds if none is free.
+     *
+     * @param compartment the compartment
+     * @throws ServiceOverloadedException if the queue is full or the wait exceeds its bound
+     */
+    public void acquire(final String compartment) {
+        compartment(compartment).acquire();
+    }
+
+    /**
+     * Returns a permit taken with {@link #acquire(String)}.
+     *
+     * @param compartment the compartment the permit was taken from
+     */
+    public void release(final String compartment) {
+        compartment(compartment).permits.release();
+    }
+
+    /**
+     * Returns the number of callers waiting for a permit.
+     *
+     * @param compartment the compartment
+     * @return the current queue depth
+     */
+    public int queued(final String compartment) {
+        return compartment(compartment).queued.get();
+    }
+
+    // --- Private helper methods ---
+
+    private Compartment compartment(final String name) {
+        final Compartment compartment = compartments.get(name);
+        if (compartment == null) {
+            throw new IllegalArgumentException("Unknown bulkhead compartment '" + name + "'");
+        }
+        return compartment;
+    }
+
+    /**
+     * Wraps a connection so closing it returns the permit, once however often it is closed.
+     */
+    private Connection releasing(final Connection connection, final String compartment) {
+        final AtomicBoolean released = new AtomicBoolean();
+        return (Connection) Proxy.newProxyInstance(
+                Connection.class.getClassLoader(), new Class<?>[] {Connection.class}, (proxy, method, args) -> {
+                    switch (method.getName()) {
+                        case "equals" -> {
+                            return proxy == args[0];
+                        }
+                        case "hashCode" -> {
+                            return System.identityHashCode(proxy);
+                        }
+                        default -> {}
+                    }
+                    if ("close".equals(method.getName())) {
+                        try {
+                            connection.close();
+                        } finally {
+                            if (released.compareAndSet(false, true)) {
+                                release(compartment);
+                            }
+                        }
+                        return null;
+                    }
+                    try {
+                        return method.invoke(connection, args);
+                    } catch (InvocationTargetException ex) {
+                        throw ex.getTargetException();
+                    }
+                });
+    }
+
+    private static final class Compartment {
+        private final String name;
+        private final Semaphore permits;
+        private final AtomicInteger queued = new AtomicInteger();
+        private final int maxQueue;
+        private final long maxWaitNanos;
+        private final Timer waitTimer;
+        private final Counter queueFullCounter;
+        private final Counter timeoutCounter;
+
+        private Compartment(
+                final String name,
+                final int permits,
+                final DatabaseBulkheadProperties.Compartment properties,
+                final MeterRegistry meterRegistry) {
+            this.name = name;
+            this.permits = new Semaphore(permits, true);
+            this.maxQueue = properties.getMaxQueue();
+            this.maxWaitNanos = properties.getMaxWait().toNanos();
+            this.waitTimer = meterRegistry.timer("athlete.bulkhead.wait", "compartment", name);
+            this.queueFullCounter =
+                    meterRegistry.counter("athlete.bulkhead.rejected", "compartment", name, "reason", "queue_full");
+            this.timeoutCounter =
+                    meterRegistry.counter("athlete.bulkhead.rejected", "compartment", name, "reason", "timeout");
+            Gauge.builder("athlete.bulkhead.queue", queued, AtomicInteger::get)
+                    .tag("compartment", name)
+                    .register(meterRegistry);
+            Gauge.builder("athlete.bulkhead.available", this.permits, Semaphore::availablePermits)
+                    .tag("compartment", name)
+                    .register(meterRegistry);
+        }
+
+        private void acquire() {
+            final long start = System.nanoTime();
+            try {
+                // A zero timeout still honors fairness, unlike tryAcquire(), so callers cannot overtake the queue
+                if (permits.tryAcquire(0, TimeUnit.NANOSECONDS)) {
+                    waitTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+                    return;
+                }
+                if (queued.incrementAndGet() > maxQueue) {
+                    queued.decrementAndGet();
+                    queueFullCounter.increment();
+                    throw new ServiceOverloadedException("Database " + name + " queue is full");
+                }
+                final boolean acquired;
+                try {
+                    acquired = permits.tryAcquire(maxWaitNanos, TimeUnit.NANOSECONDS);
+                } finally {
+                    queued.decrementAndGet();
+                }
+                waitTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+                if (!acquired) {
+                    timeoutCounter.increment();
+                    throw new ServiceOverloadedException("Timed out waiting "
+                            + Duration.ofNanos(maxWaitNanos).toMillis() + " ms for a database " + name
+                            + " connection");
+                }
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                throw new ServiceOverloadedException("Interrupted waiting for a database " + name + " connection");
+            }
+        }
+    }
+}
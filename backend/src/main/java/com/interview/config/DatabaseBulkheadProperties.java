@@ -0,0 +1,53 @@
+package com.interview.config;
+
+import java.time.Duration;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * Configuration properties for the database bulkhead.
+ * <p>
+ * The primary's connections are split into a read compartment for read-only transactions and a write
+ * compartment for everything else: writes get {@link #writeShare} of the primary pool and reads the rest of it.
+ * Every replica gets a compartment of its whole pool, queued with the {@link #read} settings.
+ * </p>
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "athlete.bulkhead")
+public class DatabaseBulkheadProperties {
+
+    /**
+     * Share of the primary pool reserved for writes; at least one connection.
+     */
+    private double writeShare = 0.3;
+
+    /**
+     * Queueing of reads, on the primary and on each replica.
+     */
+    private Compartment read = new Compartment(200, Duration.ofMillis(500));
+
+    private Compartment write = new Compartment(50, Duration.ofMillis(500));
+
+    /**
+     * Queueing settings of a single compartment.
+     */
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Compartment {
+
+        /**
+         * Maximum number of callers waiting for a connection; callers beyond this are rejected at once.
+         */
+        private int maxQueue;
+
+        /**
+         * Longest a queued caller waits for a connection before it is rejected.
+         */
+        private Duration maxWait;
+    }
+}
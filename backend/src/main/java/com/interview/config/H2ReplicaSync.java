@@ -0,0 +1,145 @@
+package com.interview.config;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import javax.sql.DataSource;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Keeps local H2 databases in sync with the primary by copying it, so they can stand in for read replicas
+ * during development.
+ * <p>
+ * Each run copies every table of the primary into a replica within a single replica transaction, so readers
+ * of the replica see either the previous or the new copy, never a mix. The replica's schema is created from
+ * the primary's when it has none. A replica is only copied when writes have committed since its last copy,
+ * and is then reported at the write position read before copying, so the router never reads it while it
+ * lags behind.
+ * </p>
+ */
+@Slf4j
+public class H2ReplicaSync implements Runnable {
+
+    private static final int BATCH_SIZE = 1000;
+
+    private final DataSource primary;
+    private final Map<String, DataSource> replicas;
+    private final ReadWriteRoutingDataSource router;
+    private final Map<String, Long> positions = new HashMap<>();
+
+    public H2ReplicaSync(
+            final DataSource primary, final Map<String, DataSource> replicas, final ReadWriteRoutingDataSource router) {
+        this.primary = primary;
+        this.replicas = replicas;
+        this.router = router;
+    }
+
+    /**
+     * Copies the primary into every replica that has fallen behind it.
+     */
+    @Override
+    public void run() {
+        final long position = router.committedWrites();
+        replicas.forEach((name, replica) -> {
+            if (positions.getOrDefault(name, -1L) == position) {
+                return;
+            }
+            try {
+                final long start = System.nanoTime();
+                final long rows = copy(replica);
+                positions.put(name, position);
+                router.replicated(name, position);
+                log.debug("Copied {} rows to replica {} in {} ms", rows, name, (System.nanoTime() - start) / 1_000_000);
+            } catch (SQLException ex) {
+                log.warn("Failed to copy the primary to replica {}: {}", name, ex.getMessage());
+            }
+        });
+    }
+
+    // --- Private helper methods ---
+
+    private long copy(final DataSource replica) throws SQLException {
+        try (Connection source = primary.getConnection();
+                Connection target = replica.getConnection()) {
+            final List<String> tables = tables(source);
+            if (tables(target).isEmpty()) {
+                createSchema(source, target);
+            }
+            target.setAutoCommit(false);
+            try {
+                long rows = 0;
+                for (String table : tables) {
+                    rows += copyTable(source, target, '"' + table.replace("\"", "\"\"") + '"');
+                }
+                target.commit();
+                return rows;
+            } catch (SQLException ex) {
+                target.rollback();
+                throw ex;
+            } finally {
+                target.setAutoCommit(true);
+            }
+        }
+    }
+
+    private List<String> tables(final Connection connection) throws SQLException {
+        final List<String> tables = new ArrayList<>();
+        try (Statement statement = connection.createStatement();
+                ResultSet result = statement.executeQuery("SELECT TABLE_NAME FROM INFORMATION_SCHEMA.TABLES "
+                        + "WHERE TABLE_SCHEMA = 'PUBLIC' AND TABLE_TYPE = 'BASE TABLE'")) {
+            while (result.next()) {
+                tables.add(result.getString(1));
+            }
+        }
+        return tables;
+    }
+
+    /**
+     * Replays the primary's DDL on the replica. Users are skipped, since the replica has its own.
+     */
+    private void createSchema(final Connection source, final Connection target) throws SQLException {
+        try (Statement script = source.createStatement();
+                ResultSet statements = script.executeQuery("SCRIPT NODATA NOPASSWORDS NOSETTINGS");
+                Statement ddl = target.createStatement()) {
+            while (statements.next()) {
+                final String sql = statements.getString(1);
+                if (!sql.startsWith("CREATE USER")) {
+                    ddl.execute(sql);
+                }
+            }
+        }
+    }
+
+    private long copyTable(final Connection source, final Connection target, final String table) throws SQLException {
+        try (Statement delete = target.createStatement()) {
+            delete.executeUpdate("DELETE FROM " + table);
+        }
+        long rows = 0;
+        try (Statement select = source.createStatement();
+                ResultSet result = select.executeQuery("SELECT * FROM " + table)) {
+            final int columns = result.getMetaData().getColumnCount();
+            final String placeholders = String.join(", ", Collections.nCopies(columns, "?"));
+            try (PreparedStatement insert =
+                    target.prepareStatement("INSERT INTO " + table + " VALUES (" + placeholders + ")")) {
+                while (result.next()) {
+                    for (int column = 1; column <= columns; column++) {
+                        insert.setObject(column, result.getObject(column));
+                    }
+                    insert.addBatch();
+                    if (++rows % BATCH_SIZE == 0) {
+                        insert.executeBatch();
+                    }
+                }
+                insert.executeBatch();
+            }
+        }
+        return rows;
+    }
+}
@@ -0,0 +1,21 @@
+package com.interview.config;
+
+import com.interview.dto.AthleteResponse;
+import org.springframework.boot.autoconfigure.jackson.Jackson2ObjectMapperBuilderCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Configuration for JSON serialization.
+ */
+@Configuration
+public class JacksonConfig {
+
+    /**
+     * Writes every athlete field unless a response is narrowed to a sparse fieldset.
+     */
+    @Bean
+    public Jackson2ObjectMapperBuilderCustomizer athleteFieldFilter() {
+        return builder -> builder.filters(AthleteResponse.ALL_FIELDS);
+    }
+}
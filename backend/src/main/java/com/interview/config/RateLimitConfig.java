@@ -1,7 +1,5 @@
 package com.interview.config;
 
-import io.github.bucket4j.Bandwidth;
-import io.github.bucket4j.Bucket;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -14,13 +12,15 @@ import org.springframework.context.annotation.Configuration;
 public class RateLimitConfig {
 
     private final RateLimitProperties rateLimitProperties;
+    private final ClientIds clientIds;
 
     @Bean
-    public Bucket rateLimitBucket() {
-        Bandwidth limit = Bandwidth.builder()
-                .capacity(rateLimitProperties.getCapacity())
-                .refillIntervally(rateLimitProperties.getRefillAmount(), rateLimitProperties.getRefillDuration())
-                .build();
-        return Bucket.builder().addLimit(limit).build();
+    public ClientRateLimiter rateLimiter() {
+        return new ClientRateLimiter(rateLimitProperties, clientIds);
+    }
+
+    @Bean
+    public RequestCostModel requestCostModel() {
+        return new RequestCostModel(rateLimitProperties.getCost());
     }
 }
@@ -1,34 +1,66 @@
 package com.interview.config;
 
-import io.github.bucket4j.Bucket;
+import io.github.bucket4j.ConsumptionProbe;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import java.io.IOException;
-import lombok.RequiredArgsConstructor;
+import java.util.concurrent.TimeUnit;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 /**
- * Rate limiting filter using Bucket4j - global rate limiting.
+ * Rate limiting filter using Bucket4j - per-client, per-route rate limiting.
+ * Requests are charged by their estimated cost, and expensive ones must leave a reserve so that point
+ * lookups are throttled last. Every response carries the client's remaining tokens; rejected requests also
+ * say when to retry. Rejections are counted in {@code athlete.rate_limit.rejected}, tagged with the priority
+ * of the request: {@code high} for point lookups, {@code low} for costlier requests.
  */
 @Component
-@RequiredArgsConstructor
 public class RateLimitFilter extends OncePerRequestFilter {
 
-    private final Bucket rateLimitBucket;
+    public static final String REMAINING_HEADER = "X-RateLimit-Remaining";
+
+    private static final String REJECTED_METER = "athlete.rate_limit.rejected";
+
+    private final ClientRateLimiter rateLimiter;
+    private final RequestCostModel costModel;
+    private final Counter rejectedHigh;
+    private final Counter rejectedLow;
+
+    public RateLimitFilter(
+            final ClientRateLimiter rateLimiter, final RequestCostModel costModel, final MeterRegistry meterRegistry) {
+        this.rateLimiter = rateLimiter;
+        this.costModel = costModel;
+        this.rejectedHigh = meterRegistry.counter(REJECTED_METER, "priority", "high");
+        this.rejectedLow = meterRegistry.counter(REJECTED_METER, "priority", "low");
+    }
 
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
             throws ServletException, IOException {
 
-        if (rateLimitBucket.tryConsume(1)) {
+        final long cost = costModel.cost(request);
+        final boolean expensive = costModel.isExpensive(cost);
+        final long reserve = expensive ? costModel.reserve() : 0;
+        final ConsumptionProbe probe = rateLimiter.tryConsume(request, cost, reserve);
+        response.setHeader(REMAINING_HEADER, Long.toString(probe.getRemainingTokens()));
+        if (probe.isConsumed()) {
             filterChain.doFilter(request, response);
         } else {
+            (expensive ? rejectedLow : rejectedHigh).increment();
             response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+            response.setHeader(HttpHeaders.RETRY_AFTER, Long.toString(retryAfterSeconds(probe)));
             response.getWriter().write("Too many requests");
         }
     }
+
+    private static long retryAfterSeconds(final ConsumptionProbe probe) {
+        return Math.max(1, TimeUnit.NANOSECONDS.toSeconds(probe.getNanosToWaitForRefill() + 999_999_999L));
+    }
 }
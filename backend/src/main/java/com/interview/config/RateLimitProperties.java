@@ -1,19 +1,127 @@
 package com.interview.config;
 
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import lombok.AllArgsConstructor;
 import lombok.Data;
+import lombok.NoArgsConstructor;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.stereotype.Component;
 
 /**
  * Configuration properties for rate limiting.
+ * <p>
+ * Every client gets its own buckets: one per route limit it uses, and one under the default limit for all
+ * other requests. Clients are identified by {@link ClientIds}.
+ * </p>
  */
 @Data
 @Component
 @ConfigurationProperties(prefix = "rate-limit")
 public class RateLimitProperties {
 
+    /**
+     * Default per-client limit, applied to requests that match no route limit.
+     */
     private int capacity = 1000;
+
     private int refillAmount = 1000;
     private Duration refillDuration = Duration.ofMinutes(1);
+
+    /**
+     * Maximum number of buckets kept; the least recently used are dropped beyond this.
+     */
+    private long maxBuckets = 100_000;
+
+    /**
+     * Buckets unused for this long are dropped. Should not be shorter than the longest refill duration,
+     * or an idle client would get a full bucket back early.
+     */
+    private Duration bucketIdleTimeout = Duration.ofMinutes(10);
+
+    /**
+     * Per-route limits, matched in order against the request method and path.
+     */
+    private List<RouteLimit> routes = new ArrayList<>();
+
+    /**
+     * Token cost of requests by how expensive they are to serve.
+     */
+    private Cost cost = new Cost();
+
+    /**
+     * Token weights of the request cost model. A point lookup by ID is the unit.
+     */
+    @Data
+    public static class Cost {
+
+        private long pointLookup = 1;
+
+        /**
+         * Creating, replacing, patching or deleting a single athlete.
+         */
+        private long write = 2;
+
+        /**
+         * Base cost of a listing, before the per-row, count, search and match surcharges.
+         */
+        private long list = 1;
+
+        /**
+         * Listings are charged one token per started block of this many requested rows.
+         */
+        private int rowsPerToken = 20;
+
+        /**
+         * Surcharge for the total count query of page-based listings.
+         */
+        private long count = 2;
+
+        /**
+         * Surcharge for name searches, which need a pattern scan.
+         */
+        private long search = 5;
+
+        /**
+         * Surcharge for {@code CONTAINS} nationality or discipline matches, which cannot use an index.
+         */
+        private long unindexedMatch = 5;
+
+        private long export = 100;
+
+        /**
+         * Batch creates, imports and bulk deletes.
+         */
+        private long bulk = 50;
+
+        /**
+         * Tokens that requests costlier than a point lookup may not take, so point lookups keep being served
+         * after expensive traffic has drained the rest of the bucket.
+         */
+        private long reserve = 100;
+    }
+
+    /**
+     * Limit for requests matching a path pattern and, optionally, a method.
+     */
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class RouteLimit {
+
+        /**
+         * HTTP method to match, or null for any method.
+         */
+        private String method;
+
+        /**
+         * Path pattern to match, for example {@code /api/v1/athletes/export} or {@code /api/v1/athletes/*}.
+         */
+        private String path;
+
+        private int capacity;
+        private int refillAmount;
+        private Duration refillDuration;
+    }
 }
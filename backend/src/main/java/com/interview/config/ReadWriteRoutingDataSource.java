@@ -0,0 +1,306 @@
+package com.interview.config;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.interview.repository.CurrentReads;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.io.Closeable;
+import java.io.IOException;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import javax.sql.DataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.Ordered;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+/**
+ * Routes connections between the primary database and its read replicas.
+ * <p>
+ * Read-only transactions are spread over the replicas in turn; everything else goes to the primary. The
+ * transaction's read-only flag is only known once it has begun, so this must sit behind a
+ * {@link org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy}, which fetches the connection at
+ * the first statement.
+ * </p>
+ * <p>
+ * A client that wrote is read from the primary until the stickiness window after its write has passed, so
+ * it always sees its own writes. A replica is only read while it is healthy and, where its position is
+ * known, has applied every committed write. A replica whose connection fails is taken out of rotation until
+ * {@link #checkReplicas(Duration)} finds it healthy again; reads then fall back to the primary.
+ * </p>
+ * <p>
+ * Every connection holds a permit of the {@link DatabaseBulkhead} compartment of the pool it was routed to:
+ * writes the primary's write compartment, reads the chosen replica's compartment or, when they fall back,
+ * the primary's read compartment.
+ * </p>
+ * <p>
+ * Reads marked by {@link CurrentReads}, which fill the caches, only go to a replica known to have applied
+ * every committed write, and to the primary otherwise; a lagging replica could refill a cache with rows older
+ * than the write that just invalidated it. A replica that does not report its position is assumed to have
+ * caught up once the stickiness window after the last committed write has passed.
+ * </p>
+ */
+@Slf4j
+public final class ReadWriteRoutingDataSource extends AbstractDataSource implements Closeable {
+
+    private final DataSource primary;
+    private final DatabaseBulkhead bulkhead;
+    private final List<Replica> replicas = new ArrayList<>();
+    private final Cache<String, Boolean> recentWriters;
+    private final ClientIds clientIds;
+    private final AtomicLong committedWrites = new AtomicLong();
+    private final long stickinessNanos;
+    private volatile long lastWriteNanos;
+    private final AtomicInteger nextReplica = new AtomicInteger();
+    private final Counter primaryConnections;
+    private final Counter replicaConnections;
+    private final Counter replicaFailures;
+
+    /**
+     * @param primary         the primary database
+     * @param replicas        the replicas by name
+     * @param trackPositions  whether replica positions are reported through {@link #replicated(String, long)};
+     *                        if so, a replica is not read before its first report
+     * @param stickiness      how long a client is read from the primary after a write, and how long replicas
+     *                        that do not report their position are assumed to lag
+     * @param maxStickyClients maximum number of clients tracked for stickiness
+     * @param clientIds       identifies the client behind the current request
+     * @param bulkhead        bulkhead with a read and write compartment for the primary and one per replica
+     * @param meterRegistry   registry for routing metrics
+     */
+    public ReadWriteRoutingDataSource(
+            final DataSource primary,
+            final Map<String, DataSource> replicas,
+            final boolean trackPositions,
+            final Duration stickiness,
+            final long maxStickyClients,
+            final ClientIds clientIds,
+            final DatabaseBulkhead bulkhead,
+            final MeterRegistry meterRegistry) {
+        this.primary = primary;
+        this.bulkhead = bulkhead;
+        replicas.forEach((name, dataSource) -> this.replicas.add(new Replica(name, dataSource, trackPositions)));
+        this.stickinessNanos = stickiness.toNanos();
+        this.lastWriteNanos = System.nanoTime() - stickinessNanos;
+        this.recentWriters = Caffeine.newBuilder()
+                .maximumSize(maxStickyClients)
+                .expireAfterWrite(stickiness)
+                .build();
+        this.clientIds = clientIds;
+        this.primaryConnections = meterRegistry.counter("athlete.datasource.connections", "target", "primary");
+        this.replicaConnections = meterRegistry.counter("athlete.datasource.connections", "target", "replica");
+        this.replicaFailures = meterRegistry.counter("athlete.datasource.replica.failures");
+        Gauge.builder("athlete.datasource.replicas.available", this, ReadWriteRoutingDataSource::availableReplicas)
+                .register(meterRegistry);
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            recordWrite();
+            primaryConnections.increment();
+            return bulkhead.connect(DatabaseBulkhead.WRITE, primary);
+        }
+        if (!replicas.isEmpty()) {
+            final String client = currentClient();
+            if (client == null || recentWriters.getIfPresent(client) == null) {
+                final Connection connection = replicaConnection(CurrentReads.required());
+                if (connection != null) {
+                    return connection;
+                }
+            }
+        }
+        primaryConnections.increment();
+        return bulkhead.connect(DatabaseBulkhead.READ, primary);
+    }
+
+    @Override
+    public Connection getConnection(final String username, final String password) throws SQLException {
+        throw new SQLFeatureNotSupportedException("Connections are routed with the configured credentials");
+    }
+
+    /**
+     * Returns the replicas by name.
+     *
+     * @return the replicas' data sources
+     */
+    public Map<String, DataSource> replicas() {
+        final Map<String, DataSource> dataSources = new LinkedHashMap<>();
+        for (Replica replica : replicas) {
+            dataSources.put(replica.name, replica.dataSource);
+        }
+        return dataSources;
+    }
+
+    /**
+     * Returns the number of write transactions committed so far, the position replicas are compared with.
+     *
+     * @return the number of committed write transactions
+     */
+    public long committedWrites() {
+        return committedWrites.get();
+    }
+
+    /**
+     * Records that a replica has applied every write up to the given position.
+     *
+     * @param name     the replica's name
+     * @param position the number of committed writes it reflects
+     */
+    public void replicated(final String name, final long position) {
+        for (Replica replica : replicas) {
+            if (replica.name.equals(name)) {
+                replica.position = position;
+            }
+        }
+    }
+
+    /**
+     * Validates a connection to every replica, taking failed replicas out of rotation and returning
+     * recovered ones.
+     *
+     * @param timeout how long to wait for each replica
+     */
+    public void checkReplicas(final Duration timeout) {
+        for (Replica replica : replicas) {
+            boolean healthy;
+            try (Connection connection = replica.dataSource.getConnection()) {
+                healthy = connection.isValid(Math.max(1, (int) timeout.toSeconds()));
+            } catch (SQLException ex) {
+                healthy = false;
+            }
+            if (healthy != replica.healthy) {
+                if (healthy) {
+                    log.info("Replica {} is back in rotation", replica.name);
+                } else {
+                    log.warn("Replica {} failed its health check and is out of rotation", replica.name);
+                }
+                replica.healthy = healthy;
+            }
+        }
+    }
+
+    /**
+     * Returns the number of replicas currently in rotation.
+     *
+     * @return the number of healthy replicas
+     */
+    public int availableReplicas() {
+        int available = 0;
+        for (Replica replica : replicas) {
+            if (replica.healthy) {
+                available++;
+            }
+        }
+        return available;
+    }
+
+    /**
+     * Closes the replicas' connection pools; the primary is managed separately.
+     */
+    @Override
+    public void close() throws IOException {
+        for (Replica replica : replicas) {
+            if (replica.dataSource instanceof Closeable closeable) {
+                closeable.close();
+            }
+        }
+    }
+
+    // --- Private helper methods ---
+
+    /**
+     * Connects to the next healthy replica that has caught up with the primary, or returns null if none can
+     * serve the read. The read queues for the chosen replica's compartment, so a busy replica rejects it
+     * rather than pushing it onto the primary.
+     *
+     * @param current whether the read must see every committed write, which replicas that do not report
+     *                their position only serve once the stickiness window after the last write has passed
+     */
+    private Connection replicaConnection(final boolean current) {
+        final long position = committedWrites.get();
+        final boolean settled = System.nanoTime() - lastWriteNanos >= stickinessNanos;
+        for (int attempt = 0; attempt < replicas.size(); attempt++) {
+            final Replica replica = replicas.get(Math.floorMod(nextReplica.getAndIncrement(), replicas.size()));
+            if (!replica.healthy || replica.position < position || current && !replica.tracked && !settled) {
+                continue;
+            }
+            try {
+                final Connection connection = bulkhead.connect(replica.name, replica.dataSource);
+                replicaConnections.increment();
+                return connection;
+            } catch (SQLException ex) {
+                replica.healthy = false;
+                replicaFailures.increment();
+                log.warn("Replica {} failed to connect and is out of rotation: {}", replica.name, ex.getMessage());
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Makes the writing client sticky to the primary, and advances the write position once the transaction
+     * commits. Stickiness is renewed on commit, so the window covers the time after the write is visible.
+     * The position advances before any other after-commit callback, such as the caches' invalidation, so a
+     * cache load that starts after the invalidation is never routed to a replica missing the write.
+     */
+    private void recordWrite() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        final String client = currentClient();
+        if (client != null) {
+            recentWriters.put(client, Boolean.TRUE);
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public int getOrder() {
+                return Ordered.HIGHEST_PRECEDENCE;
+            }
+
+            @Override
+            public void afterCommit() {
+                lastWriteNanos = System.nanoTime();
+                committedWrites.incrementAndGet();
+                if (client != null) {
+                    recentWriters.put(client, Boolean.TRUE);
+                }
+            }
+        });
+    }
+
+    private String currentClient() {
+        if (RequestContextHolder.getRequestAttributes() instanceof ServletRequestAttributes attributes) {
+            return clientIds.of(attributes.getRequest());
+        }
+        return null;
+    }
+
+    private static final class Replica {
+        private final String name;
+        private final DataSource dataSource;
+        private final boolean tracked;
+        private volatile long position;
+        private volatile boolean healthy = true;
+
+        private Replica(final String name, final DataSource dataSource, final boolean tracked) {
+            this.name = name;
+            this.dataSource = dataSource;
+            this.tracked = tracked;
+            this.position = tracked ? -1 : Long.MAX_VALUE;
+        }
+    }
+}
@@ -0,0 +1,78 @@
+package com.interview.config;
+
+import jakarta.annotation.PreDestroy;
+import java.time.Duration;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+
+/**
+ * Runs the replica health checks and, for local stand-ins, the copies of the primary in the background.
+ * <p>
+ * Both start once the application is ready, so replicas are never copied from a primary whose schema and
+ * seed data are still being created.
+ * </p>
+ */
+@Slf4j
+public class ReplicaMonitor {
+
+    private final ReadWriteRoutingDataSource router;
+    private final DataSourceRoutingProperties properties;
+    private final Runnable sync;
+    private final ScheduledExecutorService scheduler = Executors.newScheduledThreadPool(
+            2, Thread.ofPlatform().name("replica-monitor-", 0).daemon().factory());
+
+    /**
+     * @param router     the data source whose replicas are monitored
+     * @param properties the health check and sync intervals
+     * @param sync       copies the primary into the replicas, or null if they replicate on their own
+     */
+    public ReplicaMonitor(
+            final ReadWriteRoutingDataSource router,
+            final DataSourceRoutingProperties properties,
+            final Runnable sync) {
+        this.router = router;
+        this.properties = properties;
+        this.sync = sync;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        if (properties.getReplicas().isEmpty()) {
+            return;
+        }
+        final Duration timeout = properties.getHealthCheckTimeout();
+        schedule(() -> router.checkReplicas(timeout), properties.getHealthCheckInterval());
+        if (sync != null) {
+            schedule(sync, properties.getSyncInterval());
+        }
+        log.info(
+                "Routing read-only transactions to {} replicas",
+                properties.getReplicas().size());
+    }
+
+    @PreDestroy
+    public void stop() {
+        scheduler.shutdownNow();
+    }
+
+    // --- Private helper methods ---
+
+    private void schedule(final Runnable task, final Duration interval) {
+        scheduler.scheduleWithFixedDelay(
+                () -> {
+                    try {
+                        task.run();
+                    } catch (RuntimeException ex) {
+                        // An uncaught exception would cancel every later run
+                        log.warn("Replica task failed", ex);
+                    }
+                },
+                0,
+                interval.toMillis(),
+                TimeUnit.MILLISECONDS);
+    }
+}
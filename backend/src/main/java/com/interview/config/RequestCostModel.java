@@ -0,0 +1,126 @@
+package com.interview.config;
+
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.http.server.PathContainer;
+import org.springframework.http.server.RequestPath;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+
+/**
+ * Estimates how expensive a request is, in rate limit tokens.
+ * <p>
+ * A point lookup by ID is the unit of cost. Listings are charged per page size and extra for the count
+ * query, name searches and {@code CONTAINS} matches, which cannot use the filter indexes; exports and bulk
+ * operations are charged a flat high price. The weights come from {@code rate-limit.cost.*}.
+ * </p>
+ * <p>
+ * Requests are classified with path patterns against the decoded path, the way Spring MVC matches its
+ * handlers, so {@code ;} path parameters and percent-encoding cannot make an export look like a point lookup.
+ * </p>
+ */
+public class RequestCostModel {
+
+    private static final PathPattern EXPORT = parse("/api/v1/athletes/export");
+    private static final PathPattern IMPORTS = parse("/api/v1/athletes/imports/**");
+    private static final PathPattern BATCH = parse("/api/v1/athletes:batch");
+    private static final PathPattern LIST = parse("/api/v1/athletes");
+    private static final PathPattern LIST_SLASH = parse("/api/v1/athletes/");
+    private static final PathPattern ATHLETE = parse("/api/v1/athletes/**");
+    private static final int DEFAULT_PAGE_SIZE = 10;
+
+    private final RateLimitProperties.Cost weights;
+
+    public RequestCostModel(final RateLimitProperties.Cost weights) {
+        this.weights = weights;
+    }
+
+    /**
+     * Returns the token cost of a request.
+     *
+     * @param request the request
+     * @return the number of tokens to charge, at least 1
+     */
+    public long cost(final HttpServletRequest request) {
+        final PathContainer path = RequestPath.parse(request.getRequestURI(), request.getContextPath())
+                .pathWithinApplication();
+        final String method = request.getMethod();
+
+        if (EXPORT.matches(path)) {
+            return weights.getExport();
+        }
+        if (BATCH.matches(path) || IMPORTS.matches(path) && "POST".equals(method)) {
+            return weights.getBulk();
+        }
+        if (LIST.matches(path) || LIST_SLASH.matches(path)) {
+            if ("GET".equals(method)) {
+                return listCost(request);
+            }
+            return "DELETE".equals(method) ? weights.getBulk() : weights.getWrite();
+        }
+        if (ATHLETE.matches(path)) {
+            return "GET".equals(method) ? weights.getPointLookup() : weights.getWrite();
+        }
+        return weights.getPointLookup();
+    }
+
+    /**
+     * Whether a request of this cost is more expensive than a point lookup, and so must leave the reserve.
+     *
+     * @param cost the request cost
+     * @return true for requests costlier than a point lookup
+     */
+    public boolean isExpensive(final long cost) {
+        return cost > weights.getPointLookup();
+    }
+
+    /**
+     * Tokens that expensive requests must leave in the bucket.
+     *
+     * @return the reserve
+     */
+    public long reserve() {
+        return weights.getReserve();
+    }
+
+    // --- Private helper methods ---
+
+    private long listCost(final HttpServletRequest request) {
+        long cost = weights.getList();
+
+        final int size = parseSize(request.getParameter("size"));
+        cost += (size + weights.getRowsPerToken() - 1) / weights.getRowsPerToken();
+
+        // Cursor pages never count; page requests count unless the client opts out
+        if (request.getParameter("cursor") == null && !"false".equalsIgnoreCase(request.getParameter("withTotal"))) {
+            cost += weights.getCount();
+        }
+        if (hasText(request.getParameter("search"))) {
+            cost += weights.getSearch();
+        }
+        if ("CONTAINS".equalsIgnoreCase(request.getParameter("match"))
+                && (hasText(request.getParameter("nationality")) || hasText(request.getParameter("discipline")))) {
+            cost += weights.getUnindexedMatch();
+        }
+        return cost;
+    }
+
+    private static int parseSize(final String size) {
+        if (size == null) {
+            return DEFAULT_PAGE_SIZE;
+        }
+        try {
+            // Out-of-range sizes are rejected by the controller; charge them as the largest page here
+            return Math.max(1, Math.min(Integer.parseInt(size.trim()), 100));
+        } catch (NumberFormatException ex) {
+            return DEFAULT_PAGE_SIZE;
+        }
+    }
+
+    private static PathPattern parse(final String pattern) {
+        return PathPatternParser.defaultInstance.parse(pattern);
+    }
+
+    private static boolean hasText(final String value) {
+        return value != null && !value.isBlank();
+    }
+}
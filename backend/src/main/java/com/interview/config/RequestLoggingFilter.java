@@ -1,33 +1,208 @@
 package com.interview.config;
 
-import jakarta.servlet.Filter;
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
-import jakarta.servlet.ServletRequest;
-import jakarta.servlet.ServletResponse;
-import jakarta.servlet.annotation.WebFilter;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.WriteListener;
 import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpServletResponseWrapper;
 import java.io.IOException;
-import lombok.extern.slf4j.Slf4j;
+import java.io.PrintWriter;
+import java.io.Writer;
+import java.util.concurrent.ThreadLocalRandom;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
 
-@Slf4j
+/**
+ * Access logging filter - records method, route template, status, response size and duration of every request
+ * in the {@link AccessLog}. Successful responses are sampled at {@code access-log.success-sample-rate}; errors
+ * and requests slower than {@code access-log.slow-threshold} are always recorded. Streamed responses are
+ * recorded when they complete.
+ */
 @Component
-@WebFilter("/*")
-public class RequestLoggingFilter implements Filter {
+@RequiredArgsConstructor
+// Wraps the rate limit and load shedding filters, so the requests they reject are logged too
+@Order(Ordered.HIGHEST_PRECEDENCE + 1)
+public class RequestLoggingFilter extends OncePerRequestFilter {
+
+    private final AccessLog accessLog;
+    private final AccessLogProperties properties;
 
     @Override
-    public void doFilter(ServletRequest request, ServletResponse response, FilterChain chain)
-            throws IOException, ServletException {
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+
+        final long start = System.nanoTime();
+        final CountingResponse counting = new CountingResponse(response);
+        try {
+            filterChain.doFilter(request, counting);
+        } finally {
+            if (request.isAsyncStarted()) {
+                request.getAsyncContext().addListener(new RecordingListener(request, counting, start));
+            } else {
+                record(request, counting, start);
+            }
+        }
+    }
+
+    // --- Private helper methods ---
+
+    private void record(final HttpServletRequest request, final CountingResponse response, final long start) {
+        final long duration = System.nanoTime() - start;
+        final int status = response.getStatus();
+        if (status < HttpStatus.BAD_REQUEST.value()
+                && duration < properties.getSlowThreshold().toNanos()
+                && ThreadLocalRandom.current().nextDouble() >= properties.getSuccessSampleRate()) {
+            return;
+        }
+        accessLog.record(new AccessLog.Entry(request.getMethod(), route(request), status, response.bytes, duration));
+    }
+
+    /**
+     * The route template of the matched handler, such as {@code /api/v1/athletes/{id}}, or the request path if
+     * the request was answered before reaching one.
+     */
+    private static String route(final HttpServletRequest request) {
+        final Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        return pattern != null ? pattern.toString() : request.getRequestURI();
+    }
+
+    private final class RecordingListener implements AsyncListener {
 
-        if (request instanceof HttpServletRequest req) {
-            log.info(
-                    "Incoming request: method={}, uri={}, remoteAddress={}",
-                    req.getMethod(),
-                    req.getRequestURI(),
-                    req.getRemoteAddr());
+        private final HttpServletRequest request;
+        private final CountingResponse response;
+        private final long start;
+
+        RecordingListener(final HttpServletRequest request, final CountingResponse response, final long start) {
+            this.request = request;
+            this.response = response;
+            this.start = start;
+        }
+
+        @Override
+        public void onComplete(final AsyncEvent event) {
+            record(request, response, start);
         }
 
-        chain.doFilter(request, response);
+        @Override
+        public void onTimeout(final AsyncEvent event) {}
+
+        @Override
+        public void onError(final AsyncEvent event) {}
+
+        @Override
+        public void onStartAsync(final AsyncEvent event) {
+            event.getAsyncContext().addListener(this);
+        }
+    }
+
+    /**
+     * Counts the bytes written to the response body. Characters written through the writer are counted by
+     * their UTF-8 length.
+     */
+    private static final class CountingResponse extends HttpServletResponseWrapper {
+
+        private volatile long bytes;
+        private ServletOutputStream outputStream;
+        private PrintWriter writer;
+
+        CountingResponse(final HttpServletResponse response) {
+            super(response);
+        }
+
+        @Override
+        public ServletOutputStream getOutputStream() throws IOException {
+            if (outputStream == null) {
+                outputStream = new CountingOutputStream(super.getOutputStream());
+            }
+            return outputStream;
+        }
+
+        @Override
+        public PrintWriter getWriter() throws IOException {
+            if (writer == null) {
+                writer = new PrintWriter(new CountingWriter(super.getWriter()));
+            }
+            return writer;
+        }
+
+        private final class CountingOutputStream extends ServletOutputStream {
+
+            private final ServletOutputStream delegate;
+
+            CountingOutputStream(final ServletOutputStream delegate) {
+                this.delegate = delegate;
+            }
+
+            @Override
+            public void write(final int b) throws IOException {
+                delegate.write(b);
+                bytes++;
+            }
+
+            @Override
+            public void write(final byte[] b, final int off, final int len) throws IOException {
+                delegate.write(b, off, len);
+                bytes += len;
+            }
+
+            @Override
+            public void flush() throws IOException {
+                delegate.flush();
+            }
+
+            @Override
+            public void close() throws IOException {
+                delegate.close();
+            }
+
+            @Override
+            public boolean isReady() {
+                return delegate.isReady();
+            }
+
+            @Override
+            public void setWriteListener(final WriteListener writeListener) {
+                delegate.setWriteListener(writeListener);
+            }
+        }
+
+        private final class CountingWriter extends Writer {
+
+            private final Writer delegate;
+
+            CountingWriter(final Writer delegate) {
+                this.delegate = delegate;
+            }
+
+            @Override
+            public void write(final char[] buf, final int off, final int len) throws IOException {
+                delegate.write(buf, off, len);
+                long count = 0;
+                for (int i = off; i < off + len; i++) {
+                    final char c = buf[i];
+                    count += c < 0x80 ? 1 : c < 0x800 || Character.isSurrogate(c) ? 2 : 3;
+                }
+                bytes += count;
+            }
+
+            @Override
+            public void flush() throws IOException {
+                delegate.flush();
+            }
+
+            @Override
+            public void close() throws IOException {
+                delegate.close();
+            }
+        }
     }
 }
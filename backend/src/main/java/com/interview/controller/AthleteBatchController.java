@@ -0,0 +1,162 @@
+package com.interview.controller;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.interview.dto.AthleteMapper;
+import com.interview.dto.AthleteRequest;
+import com.interview.dto.BatchItemResult;
+import com.interview.dto.BatchResponse;
+import com.interview.exception.BatchTooLargeException;
+import com.interview.exception.DuplicateAthleteException;
+import com.interview.model.Athlete;
+import com.interview.service.AthleteService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.ArraySchema;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.parameters.RequestBody;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.http.server.ServletServerHttpRequest;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * REST controller for batch operations on athlete resources.
+ * Kept separate from {@link AthleteController} because custom-method paths such as
+ * {@code /api/v1/athletes:batch} cannot be expressed relative to its class-level mapping.
+ */
+@RestController
+@RequiredArgsConstructor
+@Tag(name = "Athletes", description = "Athlete management API with filtering, pagination, and sorting")
+public class AthleteBatchController {
+
+    private final AthleteService service;
+    private final ObjectMapper objectMapper;
+    private final Validator validator;
+
+    @Value("${athlete.batch.max-size:1000}")
+    private int maxBatchSize;
+
+    @Operation(
+            summary = "Create athletes in bulk",
+            description = "Creates up to the configured maximum number of athletes from a JSON array in one "
+                    + "transaction. Every item is validated independently; results are reported per item in "
+                    + "request order using the same status codes and error bodies as the single-item endpoint.",
+            requestBody =
+                    @RequestBody(
+                            content =
+                                    @Content(
+                                            array =
+                                                    @ArraySchema(
+                                                            schema = @Schema(implementation = AthleteRequest.class)))))
+    @ApiResponse(responseCode = "201", description = "All athletes created")
+    @ApiResponse(responseCode = "207", description = "Some athletes were rejected, see per-item results")
+    @ApiResponse(responseCode = "400", description = "Body is not a JSON array")
+    @ApiResponse(responseCode = "413", description = "Batch exceeds the maximum size")
+    @PostMapping(path = "/api/v1/athletes:batch", consumes = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<BatchResponse> createAthletes(final HttpServletRequest request) throws IOException {
+        final List<BatchItemResult> results = new ArrayList<>();
+        final List<Athlete> valid = new ArrayList<>();
+        final List<Integer> validIndexes = new ArrayList<>();
+
+        // Read items one at a time so an oversized batch is rejected before it is buffered
+        try (JsonParser parser = objectMapper.createParser(request.getInputStream())) {
+            if (parser.nextToken() != JsonToken.START_ARRAY) {
+                throw notReadable("Request body must be a JSON array of athletes", null, request);
+            }
+            JsonToken token;
+            while ((token = parser.nextToken()) != JsonToken.END_ARRAY) {
+                if (token == null) {
+                    throw notReadable("Unexpected end of JSON array", null, request);
+                }
+                final int index = results.size();
+                if (index >= maxBatchSize) {
+                    throw new BatchTooLargeException(maxBatchSize);
+                }
+                final JsonNode node = parser.readValueAsTree();
+                results.add(readItem(index, node, valid, validIndexes));
+            }
+        } catch (JsonProcessingException ex) {
+            throw notReadable("JSON parse error: " + ex.getOriginalMessage(), ex, request);
+        }
+
+        final List<Optional<Athlete>> created = service.createAll(valid);
+        for (int i = 0; i < created.size(); i++) {
+            final int index = validIndexes.get(i);
+            final Athlete athlete = valid.get(i);
+            results.set(
+                    index,
+                    created.get(i)
+                            .map(saved -> BatchItemResult.created(index, AthleteMapper.toResponse(saved)))
+                            .orElseGet(() -> BatchItemResult.failed(
+                                    index,
+                                    HttpStatus.CONFLICT,
+                                    new DuplicateAthleteException(athlete.getFirstName(), athlete.getLastName())
+                                            .getMessage())));
+        }
+
+        final int succeeded = (int) results.stream()
+                .filter(result -> result.getStatus() == HttpStatus.CREATED.value())
+                .count();
+        final int failed = results.size() - succeeded;
+        final HttpStatus status = failed == 0 ? HttpStatus.CREATED : HttpStatus.MULTI_STATUS;
+
+        return ResponseEntity.status(status).body(new BatchResponse(succeeded, failed, results));
+    }
+
+    // --- Private helper methods ---
+
+    /**
+     * Converts and validates a single item. Valid items are queued for creation and get a placeholder result.
+     *
+     * @return the rejection result, or null if the item was queued
+     */
+    private BatchItemResult readItem(
+            final int index, final JsonNode node, final List<Athlete> valid, final List<Integer> validIndexes) {
+        final AthleteRequest item;
+        try {
+            item = objectMapper.treeToValue(node, AthleteRequest.class);
+        } catch (JsonProcessingException ex) {
+            return BatchItemResult.failed(index, HttpStatus.BAD_REQUEST, ex.getOriginalMessage());
+        }
+        if (item == null) {
+            return BatchItemResult.failed(index, HttpStatus.BAD_REQUEST, "Item must be a JSON object");
+        }
+
+        final Map<String, String> fieldErrors = new HashMap<>();
+        for (ConstraintViolation<AthleteRequest> violation : validator.validate(item)) {
+            fieldErrors.put(violation.getPropertyPath().toString(), violation.getMessage());
+        }
+        if (!fieldErrors.isEmpty()) {
+            return BatchItemResult.invalid(index, fieldErrors);
+        }
+
+        valid.add(AthleteMapper.toDomain(item));
+        validIndexes.add(index);
+        return null;
+    }
+
+    private HttpMessageNotReadableException notReadable(
+            final String message, final Throwable cause, final HttpServletRequest request) {
+        return new HttpMessageNotReadableException(message, cause, new ServletServerHttpRequest(request));
+    }
+}
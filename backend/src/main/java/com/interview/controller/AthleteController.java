@@ -1,11 +1,27 @@
 package com.interview.controller;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.interview.dto.AthleteCursor;
+import com.interview.dto.AthleteEtag;
+import com.interview.dto.AthleteExportWriter;
 import com.interview.dto.AthleteMapper;
 import com.interview.dto.AthleteRequest;
 import com.interview.dto.AthleteResponse;
+import com.interview.dto.CursorPagedResponse;
+import com.interview.dto.DeleteResponse;
+import com.interview.dto.ExportFormat;
 import com.interview.dto.PagedResponse;
+import com.interview.exception.InvalidCursorException;
+import com.interview.exception.InvalidPatchException;
+import com.interview.exception.MissingDeleteCriteriaException;
+import com.interview.exception.PreconditionFailedException;
 import com.interview.model.Athlete;
-import com.interview.repository.AthleteSpecification;
+import com.interview.model.AthleteRow;
+import com.interview.repository.AthleteFilter;
+import com.interview.repository.MatchMode;
+import com.interview.service.AthletePageCache;
 import com.interview.service.AthleteService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -13,17 +29,30 @@ import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.ConstraintViolation;
 import jakarta.validation.Valid;
+import jakarta.validation.Validator;
 import jakarta.validation.constraints.Max;
 import jakarta.validation.constraints.Positive;
 import jakarta.validation.constraints.PositiveOrZero;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
 import java.util.Set;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.*;
-import org.springframework.data.jpa.domain.Specification;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.http.converter.json.MappingJacksonValue;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 /**
  * REST controller for athlete resources.
@@ -34,12 +63,24 @@ import org.springframework.web.bind.annotation.*;
 @Tag(name = "Athletes", description = "Athlete management API with filtering, pagination, and sorting")
 public class AthleteController {
 
+    /**
+     * Media type of JSON Merge Patch documents (RFC 7396).
+     */
+    public static final String MERGE_PATCH_JSON_VALUE = "application/merge-patch+json";
+
     private static final int MAX_SIZE = 100;
     private static final String DEFAULT_SORT_FIELD = "id";
     private static final Set<String> ALLOWED_SORT_FIELDS =
             Set.of("id", "firstName", "lastName", "nationality", "discipline");
+    private static final Set<String> ALLOWED_FIELDS = Set.of(
+            "id", "version", "firstName", "lastName", "birthDate", "nationality", "discipline", "personalBest", "bio");
+    private static final Set<String> PATCHABLE_FIELDS =
+            Set.of("firstName", "lastName", "birthDate", "nationality", "discipline", "personalBest", "bio");
 
     private final AthleteService service;
+    private final AthletePageCache pageCache;
+    private final ObjectMapper objectMapper;
+    private final Validator validator;
 
     @Operation(
             summary = "Get all athletes",
@@ -50,16 +91,22 @@ public class AthleteController {
             description = "Successfully retrieved athletes",
             content = @Content(schema = @Schema(implementation = PagedResponse.class)))
     @GetMapping
-    public ResponseEntity<PagedResponse<AthleteResponse>> getAllAthletes(
-            @Parameter(description = "Filter by nationality (case-insensitive partial match)", example = "USA")
+    public ResponseEntity<MappingJacksonValue> getAllAthletes(
+            @Parameter(description = "Filter by nationality (case-insensitive, see match)", example = "USA")
                     @RequestParam(required = false)
                     String nationality,
-            @Parameter(description = "Filter by discipline (case-insensitive partial match)", example = "100m")
+            @Parameter(description = "Filter by discipline (case-insensitive, see match)", example = "100m")
                     @RequestParam(required = false)
                     String discipline,
             @Parameter(description = "Search by first or last name (case-insensitive partial match)", example = "bolt")
                     @RequestParam(required = false)
                     String search,
+            @Parameter(
+                            description = "How nationality and discipline match: EXACT, PREFIX (index-friendly) or "
+                                    + "CONTAINS (full scan)",
+                            example = "PREFIX")
+                    @RequestParam(defaultValue = "PREFIX")
+                    MatchMode match,
             @Parameter(description = "Page number (0-based)", example = "0")
                     @RequestParam(defaultValue = "0")
                     @PositiveOrZero
@@ -73,28 +120,179 @@ public class AthleteController {
                     @RequestParam(defaultValue = DEFAULT_SORT_FIELD)
                     String sortBy,
             @Parameter(description = "Sort direction", example = "ASC") @RequestParam(defaultValue = "ASC")
-                    String direction) {
+                    String direction,
+            @Parameter(description = "Include totalElements/totalPages (false skips the COUNT query)")
+                    @RequestParam(defaultValue = "true")
+                    boolean withTotal,
+            @Parameter(
+                            description = "Fields to return, comma-separated; the id is always returned and unknown "
+                                    + "fields are ignored",
+                            example = "firstName,lastName")
+                    @RequestParam(required = false)
+                    Set<String> fields) {
 
-        final Specification<Athlete> spec = buildSpecification(nationality, discipline, search);
+        final AthleteFilter filter = new AthleteFilter(nationality, discipline, search, match);
 
         // Validate sort field
-        final String sortField = ALLOWED_SORT_FIELDS.contains(sortBy) ? sortBy : DEFAULT_SORT_FIELD;
-        final Sort.Direction sortDirection =
-                direction.equalsIgnoreCase("DESC") ? Sort.Direction.DESC : Sort.Direction.ASC;
+        final String sortField = resolveSortField(sortBy);
+        final Sort.Direction sortDirection = resolveDirection(direction);
+        final Set<String> selected = resolveFields(fields);
+        final Set<String> attributes = AthleteMapper.toAttributes(selected);
 
         final Pageable pageable = PageRequest.of(page, size, Sort.by(sortDirection, sortField));
-        final Page<Athlete> athletePage = service.findAll(spec, pageable);
+        // Rows are selected straight into projections, so listing never loads or tracks entities and only
+        // reads the selected columns
+        final PagedResponse<AthleteResponse> response =
+                pageCache.get(filter.normalized(), pageable, withTotal, selected, () -> {
+                    if (!withTotal) {
+                        return toPagedResponse(service.findRowSlice(filter, pageable, attributes));
+                    }
+                    return toPagedResponse(service.findRows(filter, pageable, attributes));
+                });
+
+        return ResponseEntity.ok(withFields(response, selected));
+    }
+
+    @Operation(
+            summary = "Get athletes by cursor",
+            description = "Retrieves athletes using keyset (cursor) pagination. Pass an empty cursor for the first "
+                    + "page, then the returned nextCursor for each following page. No total count is computed, "
+                    + "so latency stays flat however deep the client scrolls.")
+    @ApiResponse(
+            responseCode = "200",
+            description = "Successfully retrieved athletes",
+            content = @Content(schema = @Schema(implementation = CursorPagedResponse.class)))
+    @ApiResponse(responseCode = "400", description = "Invalid cursor")
+    @GetMapping(params = "cursor")
+    public ResponseEntity<CursorPagedResponse<AthleteResponse>> getAthletesByCursor(
+            @Parameter(description = "Opaque cursor from a previous response (empty for the first page)") @RequestParam
+                    String cursor,
+            @Parameter(description = "Filter by nationality (case-insensitive, see match)", example = "USA")
+                    @RequestParam(required = false)
+                    String nationality,
+            @Parameter(description = "Filter by discipline (case-insensitive, see match)", example = "100m")
+                    @RequestParam(required = false)
+                    String discipline,
+            @Parameter(description = "Search by first or last name (case-insensitive partial match)", example = "bolt")
+                    @RequestParam(required = false)
+                    String search,
+            @Parameter(
+                            description = "How nationality and discipline match: EXACT, PREFIX (index-friendly) or "
+                                    + "CONTAINS (full scan)",
+                            example = "PREFIX")
+                    @RequestParam(defaultValue = "PREFIX")
+                    MatchMode match,
+            @Parameter(description = "Page size (1–100)", example = "10")
+                    @RequestParam(defaultValue = "10")
+                    @Positive
+                    @Max(MAX_SIZE)
+                    int size,
+            @Parameter(description = "Sort field", example = "lastName")
+                    @RequestParam(defaultValue = DEFAULT_SORT_FIELD)
+                    String sortBy,
+            @Parameter(description = "Sort direction", example = "ASC") @RequestParam(defaultValue = "ASC")
+                    String direction) {
+
+        final AthleteFilter filter = new AthleteFilter(nationality, discipline, search, match);
+        final String sortField = resolveSortField(sortBy);
+        final Sort.Direction sortDirection = resolveDirection(direction);
+
+        final ScrollPosition position;
+        if (cursor.isBlank()) {
+            position = ScrollPosition.keyset();
+        } else {
+            final AthleteCursor decoded = AthleteCursor.decode(cursor);
+            if (!decoded.matches(sortField, sortDirection)) {
+                throw new InvalidCursorException();
+            }
+            position = decoded.toScrollPosition();
+        }
+
+        // Always break ties on id so the keyset is unique
+        Sort sort = Sort.by(sortDirection, sortField);
+        if (!DEFAULT_SORT_FIELD.equals(sortField)) {
+            sort = sort.and(Sort.by(sortDirection, DEFAULT_SORT_FIELD));
+        }
+
+        final Window<Athlete> window = service.findAll(filter, position, sort, size);
+
+        return ResponseEntity.ok(toCursorPagedResponse(window, size, sortField, sortDirection));
+    }
+
+    @Operation(
+            summary = "Export athletes",
+            description = "Streams every athlete matching the filters as NDJSON or CSV. Rows are read through a "
+                    + "forward-only database cursor and written directly to the response, so memory use is "
+                    + "independent of table size.")
+    @ApiResponse(responseCode = "200", description = "Export streamed successfully")
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportAthletes(
+            @Parameter(description = "Filter by nationality (case-insensitive, see match)", example = "USA")
+                    @RequestParam(required = false)
+                    String nationality,
+            @Parameter(description = "Filter by discipline (case-insensitive, see match)", example = "100m")
+                    @RequestParam(required = false)
+                    String discipline,
+            @Parameter(description = "Search by first or last name (case-insensitive partial match)", example = "bolt")
+                    @RequestParam(required = false)
+                    String search,
+            @Parameter(
+                            description = "How nationality and discipline match: EXACT, PREFIX (index-friendly) or "
+                                    + "CONTAINS (full scan)",
+                            example = "PREFIX")
+                    @RequestParam(defaultValue = "PREFIX")
+                    MatchMode match,
+            @Parameter(description = "Export format", example = "CSV") @RequestParam(defaultValue = "NDJSON")
+                    ExportFormat format) {
+
+        final AthleteFilter filter = new AthleteFilter(nationality, discipline, search, match);
+
+        final StreamingResponseBody body = out -> {
+            try (AthleteExportWriter writer = AthleteExportWriter.create(format, out, objectMapper)) {
+                service.export(filter, athlete -> {
+                    try {
+                        writer.write(AthleteMapper.toResponse(athlete));
+                    } catch (IOException ex) {
+                        throw new UncheckedIOException(ex);
+                    }
+                });
+            }
+        };
 
-        return ResponseEntity.ok(toPagedResponse(athletePage));
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(format.getContentType()))
+                .header(
+                        HttpHeaders.CONTENT_DISPOSITION,
+                        "attachment; filename=athletes." + format.name().toLowerCase(Locale.ROOT))
+                .body(body);
     }
 
     @Operation(summary = "Get athlete by ID", description = "Retrieves a specific athlete by their unique identifier")
-    @ApiResponse(responseCode = "200", description = "Athlete found")
+    @ApiResponse(
+            responseCode = "200",
+            description = "Athlete found",
+            content = @Content(schema = @Schema(implementation = AthleteResponse.class)))
+    @ApiResponse(responseCode = "304", description = "Athlete unchanged since the version in If-None-Match")
     @ApiResponse(responseCode = "404", description = "Athlete not found")
     @GetMapping("/{id}")
-    public ResponseEntity<AthleteResponse> getAthleteById(@PathVariable Long id) {
+    public ResponseEntity<MappingJacksonValue> getAthleteById(
+            @PathVariable Long id,
+            @Parameter(
+                            description = "Fields to return, comma-separated; the id is always returned and unknown "
+                                    + "fields are ignored",
+                            example = "firstName,lastName")
+                    @RequestParam(required = false)
+                    Set<String> fields,
+            WebRequest request) {
         final Athlete athlete = service.findById(id); // May throw AthleteNotFoundException
-        return ResponseEntity.ok(AthleteMapper.toResponse(athlete));
+        final Set<String> selected = resolveFields(fields);
+        final String etag = AthleteEtag.of(athlete.getVersion(), selected);
+        // Answer revalidations before mapping or serializing anything
+        if (request.checkNotModified(etag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).build();
+        }
+        // The athlete comes from the entity cache, so fields only narrow the payload
+        return ResponseEntity.ok().eTag(etag).body(withFields(AthleteMapper.toResponse(athlete), selected));
     }
 
     @Operation(summary = "Create a new athlete", description = "Creates a new athlete with the provided data")
@@ -105,50 +303,185 @@ public class AthleteController {
     public ResponseEntity<AthleteResponse> createAthlete(@Valid @RequestBody final AthleteRequest request) {
         final Athlete athlete = AthleteMapper.toDomain(request);
         final Athlete saved = service.save(athlete);
-        return ResponseEntity.status(HttpStatus.CREATED).body(AthleteMapper.toResponse(saved));
+        return ResponseEntity.status(HttpStatus.CREATED)
+                .eTag(AthleteEtag.of(saved.getVersion()))
+                .body(AthleteMapper.toResponse(saved));
     }
 
     @Operation(summary = "Update an athlete", description = "Updates an existing athlete with the provided data")
     @ApiResponse(responseCode = "200", description = "Athlete updated successfully")
     @ApiResponse(responseCode = "400", description = "Invalid athlete data")
     @ApiResponse(responseCode = "404", description = "Athlete not found")
+    @ApiResponse(responseCode = "412", description = "Athlete does not have the version in If-Match")
     @PutMapping("/{id}")
     public ResponseEntity<AthleteResponse> updateAthlete(
-            @PathVariable Long id, @Valid @RequestBody AthleteRequest request) {
+            @PathVariable Long id,
+            @Valid @RequestBody AthleteRequest request,
+            @Parameter(description = "Update only if the athlete still has this ETag")
+                    @RequestHeader(name = HttpHeaders.IF_MATCH, required = false)
+                    String ifMatch) {
         final Athlete existing = service.findById(id); // May throw AthleteNotFoundException
+        final Set<Long> versions = AthleteEtag.parseIfMatch(ifMatch);
+        if (versions != null && !versions.contains(existing.getVersion())) {
+            throw new PreconditionFailedException(id);
+        }
+        // The save is conditional on the version read above, so a concurrent write in between also fails
         AthleteMapper.updateFromRequest(existing, request);
         final Athlete updated = service.save(existing);
-        return ResponseEntity.ok(AthleteMapper.toResponse(updated));
+        return ResponseEntity.ok().eTag(AthleteEtag.of(updated.getVersion())).body(AthleteMapper.toResponse(updated));
+    }
+
+    @Operation(
+            summary = "Partially update an athlete",
+            description = "Applies a JSON Merge Patch (RFC 7396): fields present in the body are set, absent fields "
+                    + "are left unchanged. The change is written with a single UPDATE of only the given columns, "
+                    + "without reading the athlete first, and is skipped entirely if the athlete already holds "
+                    + "the values.")
+    @ApiResponse(responseCode = "204", description = "Athlete updated, or already held the values")
+    @ApiResponse(responseCode = "400", description = "Patch is not a JSON object or sets invalid values")
+    @ApiResponse(responseCode = "404", description = "Athlete not found")
+    @ApiResponse(responseCode = "409", description = "Patch would duplicate another athlete")
+    @ApiResponse(responseCode = "412", description = "Athlete does not have the version in If-Match")
+    @PatchMapping(
+            path = "/{id}",
+            consumes = {MERGE_PATCH_JSON_VALUE, MediaType.APPLICATION_JSON_VALUE})
+    public ResponseEntity<Void> patchAthlete(
+            @PathVariable Long id,
+            @RequestBody JsonNode patch,
+            @Parameter(description = "Update only if the athlete still has this ETag")
+                    @RequestHeader(name = HttpHeaders.IF_MATCH, required = false)
+                    String ifMatch) {
+        if (!patch.isObject()) {
+            throw new InvalidPatchException(Map.of("body", "Merge patch must be a JSON object"));
+        }
+
+        final Map<String, String> fieldErrors = new HashMap<>();
+        final Set<String> fields = new HashSet<>();
+        patch.fieldNames().forEachRemaining(field -> {
+            if (PATCHABLE_FIELDS.contains(field)) {
+                fields.add(field);
+            } else {
+                fieldErrors.put(field, "Unknown or read-only field");
+            }
+        });
+
+        final AthleteRequest values;
+        try {
+            values = objectMapper.treeToValue(patch, AthleteRequest.class);
+        } catch (JsonProcessingException ex) {
+            throw new InvalidPatchException(Map.of("body", ex.getOriginalMessage()));
+        }
+        // Validate only the fields being set; null removes a value, so required fields reject it
+        for (String field : fields) {
+            for (ConstraintViolation<AthleteRequest> violation : validator.validateProperty(values, field)) {
+                fieldErrors.put(field, violation.getMessage());
+            }
+        }
+        if (!fieldErrors.isEmpty()) {
+            throw new InvalidPatchException(fieldErrors);
+        }
+
+        final Set<Long> versions = AthleteEtag.parseIfMatch(ifMatch);
+        final boolean changed = service.patch(id, AthleteMapper.toChanges(values, fields), versions);
+        // With a single expected version the new ETag is known without reading the athlete back
+        if (versions != null && versions.size() == 1) {
+            final long version = versions.iterator().next();
+            return ResponseEntity.noContent()
+                    .eTag(AthleteEtag.of(changed ? version + 1 : version))
+                    .build();
+        }
+        return ResponseEntity.noContent().build();
     }
 
     @Operation(summary = "Delete an athlete", description = "Deletes an athlete by their unique identifier")
     @ApiResponse(responseCode = "204", description = "Athlete deleted successfully")
+    @ApiResponse(responseCode = "412", description = "Athlete does not exist with the version in If-Match")
     @DeleteMapping("/{id}")
-    public ResponseEntity<Void> deleteAthlete(@PathVariable Long id) {
-        service.deleteById(id);
+    public ResponseEntity<Void> deleteAthlete(
+            @PathVariable Long id,
+            @Parameter(description = "Delete only if the athlete still has this ETag")
+                    @RequestHeader(name = HttpHeaders.IF_MATCH, required = false)
+                    String ifMatch) {
+        if (ifMatch != null) {
+            // A null version set (If-Match: *) still requires the athlete to exist
+            service.deleteById(id, AthleteEtag.parseIfMatch(ifMatch));
+        } else {
+            service.deleteById(id);
+        }
         return ResponseEntity.noContent().build();
     }
 
-    // --- Private helper methods ---
-
-    private Specification<Athlete> buildSpecification(
-            final String nationality, final String discipline, final String search) {
-        Specification<Athlete> spec = (root, query, cb) -> cb.conjunction();
+    @Operation(
+            summary = "Delete athletes in bulk",
+            description = "Deletes the athletes with the given IDs, or every athlete matching the same filters as "
+                    + "the list endpoint. Rows are removed with set-based deletes in chunks, each committed on its "
+                    + "own. At least one id or filter is required.")
+    @ApiResponse(
+            responseCode = "200",
+            description = "Athletes deleted",
+            content = @Content(schema = @Schema(implementation = DeleteResponse.class)))
+    @ApiResponse(responseCode = "400", description = "Neither ids nor filters given")
+    @DeleteMapping
+    public ResponseEntity<DeleteResponse> deleteAthletes(
+            @Parameter(description = "IDs to delete; when given, filters are ignored", example = "1,2,3")
+                    @RequestParam(name = "id", required = false)
+                    List<Long> ids,
+            @Parameter(description = "Filter by nationality (case-insensitive, see match)", example = "USA")
+                    @RequestParam(required = false)
+                    String nationality,
+            @Parameter(description = "Filter by discipline (case-insensitive, see match)", example = "100m")
+                    @RequestParam(required = false)
+                    String discipline,
+            @Parameter(description = "Search by first or last name (case-insensitive partial match)", example = "bolt")
+                    @RequestParam(required = false)
+                    String search,
+            @Parameter(
+                            description = "How nationality and discipline match: EXACT, PREFIX (index-friendly) or "
+                                    + "CONTAINS (full scan)",
+                            example = "PREFIX")
+                    @RequestParam(defaultValue = "PREFIX")
+                    MatchMode match) {
 
-        if (nationality != null && !nationality.isBlank()) {
-            spec = spec.and(AthleteSpecification.hasNationality(nationality));
+        if (ids != null && !ids.isEmpty()) {
+            return ResponseEntity.ok(new DeleteResponse(service.deleteAllById(ids)));
         }
-        if (discipline != null && !discipline.isBlank()) {
-            spec = spec.and(AthleteSpecification.hasDiscipline(discipline));
+
+        final AthleteFilter filter = new AthleteFilter(nationality, discipline, search, match).normalized();
+        if (filter.nationality() == null && filter.discipline() == null && filter.search() == null) {
+            throw new MissingDeleteCriteriaException();
         }
-        if (search != null && !search.isBlank()) {
-            spec = spec.and(AthleteSpecification.nameContains(search));
+        return ResponseEntity.ok(new DeleteResponse(service.deleteAll(filter)));
+    }
+
+    // --- Private helper methods ---
+
+    private String resolveSortField(final String sortBy) {
+        return ALLOWED_SORT_FIELDS.contains(sortBy) ? sortBy : DEFAULT_SORT_FIELD;
+    }
+
+    /**
+     * Keeps the allowed fields, or returns null for every field if none were requested or none are allowed.
+     */
+    private Set<String> resolveFields(final Set<String> fields) {
+        if (fields == null) {
+            return null;
         }
+        final Set<String> selected = new HashSet<>(fields);
+        selected.retainAll(ALLOWED_FIELDS);
+        return selected.isEmpty() || selected.equals(ALLOWED_FIELDS) ? null : Set.copyOf(selected);
+    }
+
+    private MappingJacksonValue withFields(final Object body, final Set<String> fields) {
+        final MappingJacksonValue value = new MappingJacksonValue(body);
+        value.setFilters(AthleteResponse.onlyFields(fields));
+        return value;
+    }
 
-        return spec;
+    private Sort.Direction resolveDirection(final String direction) {
+        return direction.equalsIgnoreCase("DESC") ? Sort.Direction.DESC : Sort.Direction.ASC;
     }
 
-    private PagedResponse<AthleteResponse> toPagedResponse(final Page<Athlete> page) {
+    private PagedResponse<AthleteResponse> toPagedResponse(final Page<AthleteRow> page) {
         return new PagedResponse<>(
                 page.getContent().stream().map(AthleteMapper::toResponse).toList(),
                 page.getNumber(),
@@ -158,4 +491,28 @@ public class AthleteController {
                 page.isFirst(),
                 page.isLast());
     }
+
+    private PagedResponse<AthleteResponse> toPagedResponse(final Slice<AthleteRow> slice) {
+        return new PagedResponse<>(
+                slice.getContent().stream().map(AthleteMapper::toResponse).toList(),
+                slice.getNumber(),
+                slice.getSize(),
+                null,
+                null,
+                slice.isFirst(),
+                slice.isLast());
+    }
+
+    private CursorPagedResponse<AthleteResponse> toCursorPagedResponse(
+            final Window<Athlete> window, final int size, final String sortField, final Sort.Direction direction) {
+        final String nextCursor = window.hasNext() && !window.isEmpty()
+                ? AthleteCursor.from(window.positionAt(window.size() - 1), sortField, direction)
+                        .encode()
+                : null;
+        return new CursorPagedResponse<>(
+                window.getContent().stream().map(AthleteMapper::toResponse).toList(),
+                size,
+                nextCursor,
+                nextCursor == null);
+    }
 }
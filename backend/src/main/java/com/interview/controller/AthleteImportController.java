@@ -0,0 +1,54 @@
+package com.interview.controller;
+
+import com.interview.dto.ImportJobResponse;
+import com.interview.dto.ImportRequest;
+import com.interview.service.AthleteImportJob;
+import com.interview.service.AthleteImportService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
+
+/**
+ * REST controller for bulk CSV imports of athletes.
+ */
+@RestController
+@RequestMapping("/api/v1/athletes/imports")
+@RequiredArgsConstructor
+@Tag(name = "Athlete Imports", description = "Bulk CSV import of athletes running as background jobs")
+public class AthleteImportController {
+
+    private final AthleteImportService service;
+
+    @Operation(
+            summary = "Start a CSV import",
+            description = "Starts importing a CSV file from the server's import directory in the background. "
+                    + "The header row must name the firstName, lastName, birthDate, nationality and discipline "
+                    + "columns; files produced by the CSV export are accepted as-is.")
+    @ApiResponse(responseCode = "202", description = "Import job started")
+    @ApiResponse(responseCode = "400", description = "File is missing, unreadable or outside the import directory")
+    @PostMapping
+    public ResponseEntity<ImportJobResponse> startImport(@Valid @RequestBody final ImportRequest request) {
+        final AthleteImportJob job = service.start(request.getFile());
+        return ResponseEntity.accepted()
+                .location(ServletUriComponentsBuilder.fromCurrentRequest()
+                        .path("/{jobId}")
+                        .buildAndExpand(job.getId())
+                        .toUri())
+                .body(job.toResponse());
+    }
+
+    @Operation(
+            summary = "Get import job status",
+            description = "Reports progress, throughput and a sample of rejected rows for an import job")
+    @ApiResponse(responseCode = "200", description = "Import job found")
+    @ApiResponse(responseCode = "404", description = "Import job not found or no longer retained")
+    @GetMapping("/{jobId}")
+    public ResponseEntity<ImportJobResponse> getImport(@PathVariable final String jobId) {
+        return ResponseEntity.ok(service.findJob(jobId).toResponse());
+    }
+}
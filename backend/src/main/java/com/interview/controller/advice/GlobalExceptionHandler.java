@@ -1,11 +1,22 @@
 package com.interview.controller.advice;
 
 import com.interview.exception.AthleteNotFoundException;
+import com.interview.exception.BatchTooLargeException;
 import com.interview.exception.DuplicateAthleteException;
+import com.interview.exception.ImportJobNotFoundException;
+import com.interview.exception.InvalidCursorException;
+import com.interview.exception.InvalidImportFileException;
+import com.interview.exception.InvalidPatchException;
+import com.interview.exception.MissingDeleteCriteriaException;
+import com.interview.exception.PreconditionFailedException;
+import com.interview.exception.ServiceOverloadedException;
 import java.time.Instant;
 import java.util.HashMap;
 import java.util.Map;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.HttpStatusCode;
@@ -26,18 +37,104 @@ import org.springframework.web.servlet.mvc.method.annotation.ResponseEntityExcep
 @ControllerAdvice
 public class GlobalExceptionHandler extends ResponseEntityExceptionHandler {
 
+    private static final String RETRY_AFTER_SECONDS = "1";
+
     @ExceptionHandler(AthleteNotFoundException.class)
     public ResponseEntity<Object> handleNotFound(final AthleteNotFoundException ex) {
         log.warn("Resource not found: {}", ex.getMessage());
         return buildErrorResponse(ex, HttpStatus.NOT_FOUND);
     }
 
+    @ExceptionHandler(ImportJobNotFoundException.class)
+    public ResponseEntity<Object> handleImportJobNotFound(final ImportJobNotFoundException ex) {
+        log.warn("Resource not found: {}", ex.getMessage());
+        return buildErrorResponse(ex, HttpStatus.NOT_FOUND);
+    }
+
     @ExceptionHandler(DuplicateAthleteException.class)
     public ResponseEntity<Object> handleDuplicate(final DuplicateAthleteException ex) {
         log.warn("Duplicate athlete attempt: {}", ex.getMessage());
         return buildErrorResponse(ex, HttpStatus.CONFLICT);
     }
 
+    @ExceptionHandler(DataIntegrityViolationException.class)
+    public ResponseEntity<Object> handleDataIntegrityViolation(final DataIntegrityViolationException ex) {
+        log.warn("Data integrity violation: {}", ex.getMostSpecificCause().getMessage());
+        return buildErrorResponse(
+                new IllegalStateException("Request conflicts with existing data"), HttpStatus.CONFLICT);
+    }
+
+    @ExceptionHandler(PreconditionFailedException.class)
+    public ResponseEntity<Object> handlePreconditionFailed(final PreconditionFailedException ex) {
+        log.warn("Precondition failed: {}", ex.getMessage());
+        return buildErrorResponse(ex, HttpStatus.PRECONDITION_FAILED);
+    }
+
+    @ExceptionHandler(OptimisticLockingFailureException.class)
+    public ResponseEntity<Object> handleOptimisticLockingFailure(final OptimisticLockingFailureException ex) {
+        // Every update is conditional on the version it read, so losing a race is a failed precondition
+        log.warn("Concurrent modification: {}", ex.getMessage());
+        return buildErrorResponse(
+                new IllegalStateException("Athlete was modified concurrently"), HttpStatus.PRECONDITION_FAILED);
+    }
+
+    @ExceptionHandler(InvalidCursorException.class)
+    public ResponseEntity<Object> handleInvalidCursor(final InvalidCursorException ex) {
+        log.warn("Invalid pagination cursor: {}", ex.getMessage());
+        return buildErrorResponse(ex, HttpStatus.BAD_REQUEST);
+    }
+
+    @ExceptionHandler(InvalidPatchException.class)
+    public ResponseEntity<Object> handleInvalidPatch(final InvalidPatchException ex) {
+        log.warn(
+                "Rejected merge patch: {} field errors found",
+                ex.getFieldErrors().size());
+
+        final Map<String, Object> body = new HashMap<>();
+        body.put("timestamp", Instant.now());
+        body.put("status", HttpStatus.BAD_REQUEST.value());
+        body.put("errors", ex.getFieldErrors());
+        return new ResponseEntity<>(body, HttpStatus.BAD_REQUEST);
+    }
+
+    @ExceptionHandler(MissingDeleteCriteriaException.class)
+    public ResponseEntity<Object> handleMissingDeleteCriteria(final MissingDeleteCriteriaException ex) {
+        log.warn("Rejected unbounded bulk delete: {}", ex.getMessage());
+        return buildErrorResponse(ex, HttpStatus.BAD_REQUEST);
+    }
+
+    @ExceptionHandler(BatchTooLargeException.class)
+    public ResponseEntity<Object> handleBatchTooLarge(final BatchTooLargeException ex) {
+        log.warn("Rejected oversized batch: {}", ex.getMessage());
+        return buildErrorResponse(ex, HttpStatus.PAYLOAD_TOO_LARGE);
+    }
+
+    @ExceptionHandler(InvalidImportFileException.class)
+    public ResponseEntity<Object> handleInvalidImportFile(final InvalidImportFileException ex) {
+        log.warn("Rejected import file: {}", ex.getMessage());
+        return buildErrorResponse(ex, HttpStatus.BAD_REQUEST);
+    }
+
+    @ExceptionHandler(ServiceOverloadedException.class)
+    public ResponseEntity<Object> handleOverloaded(final ServiceOverloadedException ex) {
+        log.warn("Shedding request: {}", ex.getMessage());
+        final ResponseEntity<Object> response = buildErrorResponse(ex, HttpStatus.SERVICE_UNAVAILABLE);
+        return ResponseEntity.status(response.getStatusCode())
+                .header(HttpHeaders.RETRY_AFTER, RETRY_AFTER_SECONDS)
+                .body(response.getBody());
+    }
+
+    @ExceptionHandler(DataAccessResourceFailureException.class)
+    public ResponseEntity<Object> handleDatabaseUnavailable(final DataAccessResourceFailureException ex) {
+        // Typically a connection acquire timeout; the database may have capacity again shortly
+        log.warn("Database unavailable: {}", ex.getMostSpecificCause().getMessage());
+        final ResponseEntity<Object> response = buildErrorResponse(
+                new IllegalStateException("Database is temporarily unavailable"), HttpStatus.SERVICE_UNAVAILABLE);
+        return ResponseEntity.status(response.getStatusCode())
+                .header(HttpHeaders.RETRY_AFTER, RETRY_AFTER_SECONDS)
+                .body(response.getBody());
+    }
+
     @ExceptionHandler(Exception.class)
     public ResponseEntity<Object> handleAllUnhandledExceptions(final Exception ex) {
         log.error("Unexpected error occurred: {}", ex.getMessage(), ex);
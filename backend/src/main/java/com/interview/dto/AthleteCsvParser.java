@@ -0,0 +1,117 @@
+package com.interview.dto;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Parses athlete CSV records into request DTOs so imports go through the same validation as the API.
+ * <p>
+ * Columns are matched by header name, so files produced by the CSV export can be imported as-is; the
+ * {@code id} and {@code version} columns and unknown columns are ignored. Fields may be quoted with RFC 4180
+ * escaping, and quoted fields may contain line breaks.
+ * </p>
+ */
+public class AthleteCsvParser {
+
+    private static final List<String> REQUIRED_COLUMNS =
+            List.of("firstName", "lastName", "birthDate", "nationality", "discipline");
+
+    private final Map<String, Integer> columns = new HashMap<>();
+
+    /**
+     * Creates a parser for records with the given header line.
+     *
+     * @param header the CSV header line
+     * @throws IllegalArgumentException if a required column is missing
+     */
+    public AthleteCsvParser(final String header) {
+        final List<String> names = splitLine(header);
+        for (int i = 0; i < names.size(); i++) {
+            columns.put(names.get(i).trim(), i);
+        }
+        for (String required : REQUIRED_COLUMNS) {
+            if (!columns.containsKey(required)) {
+                throw new IllegalArgumentException("CSV header is missing required column '" + required + "'");
+            }
+        }
+    }
+
+    /**
+     * Parses a single CSV record.
+     *
+     * @param line the record, without its line terminator
+     * @return the request DTO, not yet validated
+     * @throws IllegalArgumentException if the line is malformed or the birth date cannot be parsed
+     */
+    public AthleteRequest parse(final String line) {
+        final List<String> fields = splitLine(line);
+        try {
+            final String birthDate = field(fields, "birthDate");
+            return new AthleteRequest(
+                    field(fields, "firstName"),
+                    field(fields, "lastName"),
+                    birthDate == null ? null : LocalDate.parse(birthDate),
+                    field(fields, "nationality"),
+                    field(fields, "discipline"),
+                    field(fields, "personalBest"),
+                    field(fields, "bio"));
+        } catch (DateTimeParseException ex) {
+            throw new IllegalArgumentException("Invalid birthDate '" + ex.getParsedString() + "'", ex);
+        }
+    }
+
+    private String field(final List<String> fields, final String column) {
+        final Integer index = columns.get(column);
+        if (index == null || index >= fields.size()) {
+            return null;
+        }
+        final String value = fields.get(index);
+        return value.isEmpty() ? null : value;
+    }
+
+    /**
+     * Splits a CSV line into fields, unescaping quoted fields.
+     *
+     * @param line the CSV line
+     * @return the field values
+     * @throws IllegalArgumentException if a quoted field is not terminated
+     */
+    static List<String> splitLine(final String line) {
+        final List<String> fields = new ArrayList<>();
+        final StringBuilder current = new StringBuilder();
+        boolean quoted = false;
+        int i = 0;
+        while (i < line.length()) {
+            final char c = line.charAt(i);
+            if (quoted) {
+                if (c == '"') {
+                    if (i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                        current.append('"');
+                        i++;
+                    } else {
+                        quoted = false;
+                    }
+                } else {
+                    current.append(c);
+                }
+            } else if (c == '"' && current.isEmpty()) {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(current.toString());
+                current.setLength(0);
+            } else {
+                current.append(c);
+            }
+            i++;
+        }
+        if (quoted) {
+            throw new IllegalArgumentException("Unterminated quoted field");
+        }
+        fields.add(current.toString());
+        return fields;
+    }
+}
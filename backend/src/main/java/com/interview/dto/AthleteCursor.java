@@ -0,0 +1,109 @@
+package com.interview.dto;
+
+import com.interview.exception.InvalidCursorException;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+
+/**
+ * Opaque keyset cursor for athlete listings.
+ * <p>
+ * Captures the sort the cursor was issued for together with the (sortField, id) values of the last row
+ * returned, so the next page can seek directly past it instead of skipping an offset.
+ * </p>
+ *
+ * @param sortField the sort field the cursor was issued for
+ * @param direction the sort direction the cursor was issued for
+ * @param sortValue the sort field value of the last returned row (null when sorting by id)
+ * @param id        the id of the last returned row
+ */
+public record AthleteCursor(String sortField, Sort.Direction direction, String sortValue, Long id) {
+
+    private static final String ID_FIELD = "id";
+    private static final char SEPARATOR = '\u001F';
+
+    /**
+     * Builds a cursor from the scroll position of the last row of a window.
+     *
+     * @param position  keyset position of the last returned row
+     * @param sortField the sort field in use
+     * @param direction the sort direction in use
+     * @return cursor pointing past the given position
+     */
+    public static AthleteCursor from(
+            final ScrollPosition position, final String sortField, final Sort.Direction direction) {
+        final Map<String, ?> keys = ((KeysetScrollPosition) position).getKeys();
+        final Object sortValue = ID_FIELD.equals(sortField) ? null : keys.get(sortField);
+        return new AthleteCursor(
+                sortField,
+                direction,
+                sortValue == null ? null : sortValue.toString(),
+                ((Number) keys.get(ID_FIELD)).longValue());
+    }
+
+    /**
+     * Decodes a cursor previously produced by {@link #encode()}.
+     *
+     * @param token the opaque cursor token
+     * @return the decoded cursor
+     * @throws InvalidCursorException if the token is malformed
+     */
+    public static AthleteCursor decode(final String token) {
+        try {
+            final String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            final String[] parts = raw.split(String.valueOf(SEPARATOR), -1);
+            if (parts.length != 4) {
+                throw new InvalidCursorException();
+            }
+            final String sortValue = parts[2].isEmpty() ? null : parts[2];
+            return new AthleteCursor(parts[0], Sort.Direction.fromString(parts[1]), sortValue, Long.valueOf(parts[3]));
+        } catch (IllegalArgumentException ex) {
+            throw new InvalidCursorException();
+        }
+    }
+
+    /**
+     * Encodes this cursor as an opaque, URL-safe token.
+     *
+     * @return the cursor token
+     */
+    public String encode() {
+        final String raw = sortField
+                + SEPARATOR
+                + direction.name()
+                + SEPARATOR
+                + (sortValue == null ? "" : sortValue)
+                + SEPARATOR
+                + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Checks whether this cursor was issued for the given sort.
+     *
+     * @param field the requested sort field
+     * @param dir   the requested sort direction
+     * @return true if the cursor can continue a listing with this sort
+     */
+    public boolean matches(final String field, final Sort.Direction dir) {
+        return sortField.equals(field) && direction == dir;
+    }
+
+    /**
+     * Converts this cursor to the keyset position to continue scrolling from.
+     *
+     * @return forward keyset scroll position
+     */
+    public ScrollPosition toScrollPosition() {
+        final Map<String, Object> keys = new LinkedHashMap<>();
+        if (!ID_FIELD.equals(sortField)) {
+            keys.put(sortField, sortValue);
+        }
+        keys.put(ID_FIELD, id);
+        return ScrollPosition.forward(keys);
+    }
+}
@@ -0,0 +1,85 @@
+package com.interview.dto;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * Strong entity tags for athletes, derived from their optimistic lock version.
+ * <p>
+ * The tag of an athlete is its version in quotes, for example {@code "3"}. A new version is assigned on every
+ * update, so equal tags mean byte-for-byte equal representations of the same athlete. A partial representation
+ * limited to a set of fields appends a hash of those fields, for example {@code "3-5e1a9c02"}, so it never
+ * validates a cached copy of the full representation or of another fieldset.
+ * </p>
+ */
+public final class AthleteEtag {
+
+    private static final String ANY = "*";
+    private static final String WEAK_PREFIX = "W/";
+    private static final char FIELDS_SEPARATOR = '-';
+
+    private AthleteEtag() {}
+
+    /**
+     * Formats the entity tag for a version.
+     *
+     * @param version the athlete version
+     * @return the quoted version
+     */
+    public static String of(final Long version) {
+        return "\"" + version + "\"";
+    }
+
+    /**
+     * Formats the entity tag for a version, limited to a set of fields.
+     *
+     * @param version the athlete version
+     * @param fields  the fields of the representation, or null for all fields
+     * @return the quoted version, followed by a hash of the fields if limited to them
+     */
+    public static String of(final Long version, final Set<String> fields) {
+        if (fields == null) {
+            return of(version);
+        }
+        // The id is always returned, so fieldsets that differ only by it share a representation
+        final Set<String> normalized = new TreeSet<>(fields);
+        normalized.add("id");
+        return "\"" + version + FIELDS_SEPARATOR
+                + Integer.toHexString(String.join(",", normalized).hashCode()) + "\"";
+    }
+
+    /**
+     * Parses the versions named by an {@code If-Match} header.
+     * Weak and malformed tags are ignored, since If-Match uses the strong comparison and they never match.
+     * A tag of a partial representation names the version it was taken from, since the condition is on the
+     * athlete's state rather than on a particular representation of it.
+     *
+     * @param ifMatch the header value, possibly null
+     * @return null if the header is absent or {@code *} (no version condition), otherwise the accepted
+     *     versions, which may be empty if no tag can match
+     */
+    public static Set<Long> parseIfMatch(final String ifMatch) {
+        if (ifMatch == null || ifMatch.isBlank() || ANY.equals(ifMatch.trim())) {
+            return null;
+        }
+        final Set<Long> versions = new HashSet<>();
+        for (String tag : ifMatch.split(",")) {
+            final String trimmed = tag.trim();
+            if (trimmed.startsWith(WEAK_PREFIX)
+                    || trimmed.length() < 3
+                    || !trimmed.startsWith("\"")
+                    || !trimmed.endsWith("\"")) {
+                continue;
+            }
+            final String opaque = trimmed.substring(1, trimmed.length() - 1);
+            final int separator = opaque.indexOf(FIELDS_SEPARATOR);
+            try {
+                versions.add(Long.parseLong(separator < 0 ? opaque : opaque.substring(0, separator)));
+            } catch (NumberFormatException ex) {
+                // Not one of our tags, so it cannot match
+            }
+        }
+        return versions;
+    }
+}
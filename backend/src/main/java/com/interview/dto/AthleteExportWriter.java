@@ -0,0 +1,44 @@
+package com.interview.dto;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * Writes athletes one at a time to an export stream without buffering the whole result.
+ */
+public interface AthleteExportWriter extends AutoCloseable {
+
+    /**
+     * Writes a single athlete record.
+     *
+     * @param athlete the athlete to write
+     * @throws IOException if the underlying stream fails
+     */
+    void write(AthleteResponse athlete) throws IOException;
+
+    /**
+     * Flushes any buffered output. Does not close the underlying stream.
+     *
+     * @throws IOException if the underlying stream fails
+     */
+    @Override
+    void close() throws IOException;
+
+    /**
+     * Creates a writer for the given format.
+     *
+     * @param format       the export format
+     * @param out          the stream to write to
+     * @param objectMapper mapper used for JSON serialization
+     * @return a new export writer
+     * @throws IOException if the writer cannot be created
+     */
+    static AthleteExportWriter create(
+            final ExportFormat format, final OutputStream out, final ObjectMapper objectMapper) throws IOException {
+        return switch (format) {
+            case NDJSON -> new NdjsonAthleteExportWriter(out, objectMapper);
+            case CSV -> new CsvAthleteExportWriter(out);
+        };
+    }
+}
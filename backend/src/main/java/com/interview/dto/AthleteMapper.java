@@ -1,9 +1,12 @@
 package com.interview.dto;
 
 import com.interview.model.Athlete;
-import java.time.Instant;
+import com.interview.model.AthleteRow;
 import java.time.LocalDate;
-import java.time.ZoneId;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * Mapper for converting between Athlete domain model and DTOs.
@@ -11,6 +14,8 @@ import java.time.ZoneId;
  */
 public class AthleteMapper {
 
+    private static final long MILLIS_PER_DAY = 86_400_000L;
+
     /**
      * Converts request DTO to domain model.
      *
@@ -38,6 +43,7 @@ public class AthleteMapper {
     public static AthleteResponse toResponse(final Athlete athlete) {
         return AthleteResponse.builder()
                 .id(athlete.getId())
+                .version(athlete.getVersion())
                 .firstName(athlete.getFirstName())
                 .lastName(athlete.getLastName())
                 .birthDate(toLocalDate(athlete.getBirthTimestamp()))
@@ -48,6 +54,26 @@ public class AthleteMapper {
                 .build();
     }
 
+    /**
+     * Converts a read-only row projection to response DTO.
+     *
+     * @param row the row projection
+     * @return response DTO
+     */
+    public static AthleteResponse toResponse(final AthleteRow row) {
+        return AthleteResponse.builder()
+                .id(row.id())
+                .version(row.version())
+                .firstName(row.firstName())
+                .lastName(row.lastName())
+                .birthDate(toLocalDate(row.birthTimestamp()))
+                .nationality(row.nationality())
+                .discipline(row.discipline())
+                .personalBest(row.personalBest())
+                .bio(row.bio())
+                .build();
+    }
+
     /**
      * Updates an existing domain model with data from request DTO.
      *
@@ -65,7 +91,61 @@ public class AthleteMapper {
     }
 
     /**
-     * Converts LocalDate to epoch milliseconds timestamp.
+     * Converts the fields set by a merge patch into entity attribute changes.
+     * Derived columns are included, so changing the nationality also changes its normalized key.
+     *
+     * @param patch  the patch values, bound to the request DTO
+     * @param fields names of the request fields present in the patch
+     * @return entity attribute names mapped to their new values, in a stable order
+     */
+    public static Map<String, Object> toChanges(final AthleteRequest patch, final Set<String> fields) {
+        final Map<String, Object> changes = new LinkedHashMap<>();
+        if (fields.contains("firstName")) {
+            changes.put("firstName", patch.getFirstName());
+        }
+        if (fields.contains("lastName")) {
+            changes.put("lastName", patch.getLastName());
+        }
+        if (fields.contains("birthDate")) {
+            changes.put("birthTimestamp", toTimestamp(patch.getBirthDate()));
+        }
+        if (fields.contains("nationality")) {
+            changes.put("nationality", patch.getNationality());
+            changes.put("nationalityKey", Athlete.toKey(patch.getNationality()));
+        }
+        if (fields.contains("discipline")) {
+            changes.put("discipline", patch.getDiscipline());
+            changes.put("disciplineKey", Athlete.toKey(patch.getDiscipline()));
+        }
+        if (fields.contains("personalBest")) {
+            changes.put("personalBest", patch.getPersonalBest());
+        }
+        if (fields.contains("bio")) {
+            changes.put("bio", patch.getBio());
+        }
+        return changes;
+    }
+
+    /**
+     * Converts response field names to the entity attributes they are read from.
+     *
+     * @param fields response field names, or null for every field
+     * @return entity attribute names, or null for every attribute
+     */
+    public static Set<String> toAttributes(final Set<String> fields) {
+        if (fields == null) {
+            return null;
+        }
+        final Set<String> attributes = new HashSet<>();
+        for (String field : fields) {
+            attributes.add("birthDate".equals(field) ? "birthTimestamp" : field);
+        }
+        return attributes;
+    }
+
+    /**
+     * Converts LocalDate to epoch milliseconds timestamp at UTC midnight. Computed from the epoch day, which
+     * is what going through a UTC {@code ZonedDateTime} amounts to, without resolving a zone on every call.
      *
      * @param date the LocalDate to convert
      * @return epoch milliseconds, or null if date is null
@@ -74,7 +154,7 @@ public class AthleteMapper {
         if (date == null) {
             return null;
         }
-        return date.atStartOfDay(ZoneId.of("UTC")).toInstant().toEpochMilli();
+        return date.toEpochDay() * MILLIS_PER_DAY;
     }
 
     /**
@@ -87,6 +167,6 @@ public class AthleteMapper {
         if (timestamp == null) {
             return null;
         }
-        return Instant.ofEpochMilli(timestamp).atZone(ZoneId.of("UTC")).toLocalDate();
+        return LocalDate.ofEpochDay(Math.floorDiv(timestamp, MILLIS_PER_DAY));
     }
 }
@@ -1,6 +1,12 @@
 package com.interview.dto;
 
+import com.fasterxml.jackson.annotation.JsonFilter;
+import com.fasterxml.jackson.databind.ser.FilterProvider;
+import com.fasterxml.jackson.databind.ser.impl.SimpleBeanPropertyFilter;
+import com.fasterxml.jackson.databind.ser.impl.SimpleFilterProvider;
 import java.time.LocalDate;
+import java.util.HashSet;
+import java.util.Set;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -9,13 +15,34 @@ import lombok.NoArgsConstructor;
 /**
  * Response DTO for athlete data.
  * Decouples API contract from domain model.
+ * <p>
+ * Serialization goes through the {@value #FIELD_FILTER} property filter, so a response can be narrowed to a
+ * sparse fieldset with {@link #onlyFields(Set)}; every ObjectMapper that writes athletes must provide the
+ * filter, normally {@link #ALL_FIELDS}.
+ * </p>
  */
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
+@JsonFilter(AthleteResponse.FIELD_FILTER)
 public class AthleteResponse {
+
+    public static final String FIELD_FILTER = "athleteFields";
+
+    /**
+     * Filters that write every field.
+     */
+    public static final FilterProvider ALL_FIELDS =
+            new SimpleFilterProvider().addFilter(FIELD_FILTER, SimpleBeanPropertyFilter.serializeAll());
+
     private Long id;
+
+    /**
+     * Version of the athlete; its quoted form is the entity tag accepted by If-Match and If-None-Match.
+     */
+    private Long version;
+
     private String firstName;
     private String lastName;
     private LocalDate birthDate;
@@ -23,4 +50,19 @@ public class AthleteResponse {
     private String discipline;
     private String personalBest;
     private String bio;
+
+    /**
+     * Filters that write only the given fields and the id.
+     *
+     * @param fields the fields to write, or null for every field
+     * @return filters to serialize athletes with
+     */
+    public static FilterProvider onlyFields(final Set<String> fields) {
+        if (fields == null) {
+            return ALL_FIELDS;
+        }
+        final Set<String> written = new HashSet<>(fields);
+        written.add("id");
+        return new SimpleFilterProvider().addFilter(FIELD_FILTER, SimpleBeanPropertyFilter.filterOutAllExcept(written));
+    }
 }
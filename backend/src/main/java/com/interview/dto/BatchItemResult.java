@@ -0,0 +1,37 @@
+package com.interview.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import java.util.Map;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.http.HttpStatus;
+
+/**
+ * Outcome of a single item in a batch request.
+ * Mirrors the error bodies produced by the global exception handler for the equivalent single-item request.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class BatchItemResult {
+    private int index;
+    private int status;
+    private String error;
+    private String message;
+    private Map<String, String> errors;
+    private AthleteResponse athlete;
+
+    public static BatchItemResult created(final int index, final AthleteResponse athlete) {
+        return new BatchItemResult(index, HttpStatus.CREATED.value(), null, null, null, athlete);
+    }
+
+    public static BatchItemResult invalid(final int index, final Map<String, String> errors) {
+        return new BatchItemResult(index, HttpStatus.BAD_REQUEST.value(), null, null, errors, null);
+    }
+
+    public static BatchItemResult failed(final int index, final HttpStatus status, final String message) {
+        return new BatchItemResult(index, status.value(), status.getReasonPhrase(), message, null, null);
+    }
+}
@@ -0,0 +1,60 @@
+package com.interview.dto;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Writes athletes as RFC 4180 CSV with a header row. The version column carries the athlete's entity tag
+ * value, so an exported row can be used for a conditional update.
+ */
+class CsvAthleteExportWriter implements AthleteExportWriter {
+
+    private static final String HEADER =
+            "id,version,firstName,lastName,birthDate,nationality,discipline,personalBest,bio";
+
+    private final Writer writer;
+
+    CsvAthleteExportWriter(final OutputStream out) throws IOException {
+        this.writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        writer.write(HEADER);
+        writer.write("\r\n");
+    }
+
+    @Override
+    public void write(final AthleteResponse athlete) throws IOException {
+        writer.write(String.valueOf(athlete.getId()));
+        writeField(athlete.getVersion() == null ? null : athlete.getVersion().toString());
+        writeField(athlete.getFirstName());
+        writeField(athlete.getLastName());
+        writeField(
+                athlete.getBirthDate() == null ? null : athlete.getBirthDate().toString());
+        writeField(athlete.getNationality());
+        writeField(athlete.getDiscipline());
+        writeField(athlete.getPersonalBest());
+        writeField(athlete.getBio());
+        writer.write("\r\n");
+    }
+
+    @Override
+    public void close() throws IOException {
+        writer.flush();
+    }
+
+    private void writeField(final String value) throws IOException {
+        writer.write(',');
+        if (value == null) {
+            return;
+        }
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+            writer.write(value);
+            return;
+        }
+        writer.write('"');
+        writer.write(value.replace("\"", "\"\""));
+        writer.write('"');
+    }
+}
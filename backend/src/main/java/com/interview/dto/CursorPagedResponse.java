@@ -0,0 +1,22 @@
+package com.interview.dto;
+
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Generic wrapper for keyset (cursor) paginated API responses.
+ * Carries no totals, so producing it never requires a COUNT query.
+ *
+ * @param <T> the type of elements in the page content
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CursorPagedResponse<T> {
+    private List<T> content;
+    private int size;
+    private String nextCursor;
+    private boolean last;
+}
@@ -0,0 +1,15 @@
+package com.interview.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Response for bulk deletes with the number of athletes removed.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class DeleteResponse {
+    private long deleted;
+}
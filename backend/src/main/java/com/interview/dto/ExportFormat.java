@@ -0,0 +1,19 @@
+package com.interview.dto;
+
+/**
+ * Supported athlete export formats.
+ */
+public enum ExportFormat {
+    NDJSON("application/x-ndjson"),
+    CSV("text/csv");
+
+    private final String contentType;
+
+    ExportFormat(final String contentType) {
+        this.contentType = contentType;
+    }
+
+    public String getContentType() {
+        return contentType;
+    }
+}
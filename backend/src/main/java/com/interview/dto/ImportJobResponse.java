@@ -0,0 +1,32 @@
+package com.interview.dto;
+
+import java.time.Instant;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Response DTO describing the progress of a bulk import job.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ImportJobResponse {
+    private String id;
+    private String file;
+    private String state;
+    private long totalBytes;
+    private long processedBytes;
+    private double progress;
+    private long rowsRead;
+    private long rowsImported;
+    private long rowsRejected;
+    private double rowsPerSecond;
+    private Instant startedAt;
+    private Instant finishedAt;
+    private String error;
+    private List<String> rejections;
+}
@@ -0,0 +1,18 @@
+package com.interview.dto;
+
+import jakarta.validation.constraints.NotBlank;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Request DTO for starting a bulk import job.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ImportRequest {
+
+    @NotBlank(message = "File is required")
+    private String file;
+}
@@ -0,0 +1,39 @@
+package com.interview.dto;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * Writes athletes as newline-delimited JSON, one object per line.
+ */
+class NdjsonAthleteExportWriter implements AthleteExportWriter {
+
+    private final JsonGenerator generator;
+    private final ObjectWriter writer;
+
+    NdjsonAthleteExportWriter(final OutputStream out, final ObjectMapper objectMapper) throws IOException {
+        this.generator = objectMapper.getFactory().createGenerator(out);
+        this.generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        this.generator.setRootValueSeparator(null);
+        // Exports always carry every field
+        this.writer = objectMapper
+                .writerFor(AthleteResponse.class)
+                .with(AthleteResponse.ALL_FIELDS)
+                .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+    }
+
+    @Override
+    public void write(final AthleteResponse athlete) throws IOException {
+        writer.writeValue(generator, athlete);
+        generator.writeRaw('\n');
+    }
+
+    @Override
+    public void close() throws IOException {
+        generator.close();
+    }
+}
@@ -1,5 +1,6 @@
 package com.interview.dto;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import java.util.List;
 import lombok.AllArgsConstructor;
 import lombok.Data;
@@ -7,6 +8,7 @@ import lombok.NoArgsConstructor;
 
 /**
  * Generic wrapper for paginated API responses with metadata.
+ * Totals are omitted when the page was fetched as a count-free slice.
  *
  * @param <T> the type of elements in the page content
  */
@@ -17,8 +19,13 @@ public class PagedResponse<T> {
     private List<T> content;
     private int page;
     private int size;
-    private long totalElements;
-    private int totalPages;
+
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Long totalElements;
+
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Integer totalPages;
+
     private boolean first;
     private boolean last;
 }
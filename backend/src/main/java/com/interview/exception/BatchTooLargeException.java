@@ -0,0 +1,10 @@
+package com.interview.exception;
+
+/**
+ * Thrown when a batch request contains more items than allowed.
+ */
+public class BatchTooLargeException extends RuntimeException {
+    public BatchTooLargeException(final int maxSize) {
+        super("Batch must not contain more than " + maxSize + " items");
+    }
+}
@@ -0,0 +1,10 @@
+package com.interview.exception;
+
+/**
+ * Thrown when an import job with the specified ID is unknown or no longer retained.
+ */
+public class ImportJobNotFoundException extends RuntimeException {
+    public ImportJobNotFoundException(final String id) {
+        super("Import job with ID " + id + " not found.");
+    }
+}
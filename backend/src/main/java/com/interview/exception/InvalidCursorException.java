@@ -0,0 +1,10 @@
+package com.interview.exception;
+
+/**
+ * Thrown when a pagination cursor cannot be decoded or does not match the requested sort.
+ */
+public class InvalidCursorException extends RuntimeException {
+    public InvalidCursorException() {
+        super("Invalid or expired pagination cursor");
+    }
+}
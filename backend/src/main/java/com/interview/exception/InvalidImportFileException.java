@@ -0,0 +1,10 @@
+package com.interview.exception;
+
+/**
+ * Thrown when an import file does not exist, is not readable, or lies outside the import directory.
+ */
+public class InvalidImportFileException extends RuntimeException {
+    public InvalidImportFileException(final String file) {
+        super("Import file '" + file + "' is not a readable file in the import directory");
+    }
+}
@@ -0,0 +1,18 @@
+package com.interview.exception;
+
+import java.util.Map;
+import lombok.Getter;
+
+/**
+ * Thrown when a merge patch is not a JSON object or sets fields to invalid values.
+ */
+@Getter
+public class InvalidPatchException extends RuntimeException {
+
+    private final Map<String, String> fieldErrors;
+
+    public InvalidPatchException(final Map<String, String> fieldErrors) {
+        super("Invalid merge patch: " + fieldErrors);
+        this.fieldErrors = Map.copyOf(fieldErrors);
+    }
+}
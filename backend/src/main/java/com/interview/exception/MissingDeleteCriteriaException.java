@@ -0,0 +1,10 @@
+package com.interview.exception;
+
+/**
+ * Thrown when a bulk delete names neither IDs nor any filter, which would delete every athlete.
+ */
+public class MissingDeleteCriteriaException extends RuntimeException {
+    public MissingDeleteCriteriaException() {
+        super("Bulk delete requires at least one id or filter parameter");
+    }
+}
@@ -0,0 +1,10 @@
+package com.interview.exception;
+
+/**
+ * Thrown when a conditional write names a version that the athlete no longer has.
+ */
+public class PreconditionFailedException extends RuntimeException {
+    public PreconditionFailedException(final Long id) {
+        super(String.format("Athlete with id %d does not have the expected version", id));
+    }
+}
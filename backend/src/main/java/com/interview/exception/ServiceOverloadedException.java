@@ -0,0 +1,11 @@
+package com.interview.exception;
+
+/**
+ * Thrown when a request is shed because the service cannot handle it within its latency budget.
+ * Clients should retry after a short delay.
+ */
+public class ServiceOverloadedException extends RuntimeException {
+    public ServiceOverloadedException(final String message) {
+        super(message);
+    }
+}
@@ -4,10 +4,18 @@ import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.PrePersist;
+import jakarta.persistence.PreUpdate;
+import jakarta.persistence.SequenceGenerator;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import jakarta.persistence.Version;
+import java.util.Locale;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.DynamicUpdate;
 
 /**
  * Represents an athlete participating in a track and field event.
@@ -19,16 +27,38 @@ import lombok.NoArgsConstructor;
  * Used for storing and retrieving athlete data from the database.
  */
 @Entity
+@DynamicUpdate
+@Table(
+        uniqueConstraints =
+                @UniqueConstraint(
+                        name = Athlete.DUPLICATE_CHECK_CONSTRAINT,
+                        columnNames = {"first_name", "last_name", "birth_timestamp"}))
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder(toBuilder = true)
 public class Athlete {
 
+    /**
+     * Unique constraint on the natural key (see {@link AthleteKey}); its index also serves duplicate lookups.
+     */
+    public static final String DUPLICATE_CHECK_CONSTRAINT = "uk_athlete_duplicate_check";
+
+    /**
+     * Sequence-generated so Hibernate can batch inserts; the pooled optimizer reserves
+     * {@code allocationSize} ids per sequence call.
+     */
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "athlete_seq")
+    @SequenceGenerator(name = "athlete_seq", sequenceName = "athlete_seq", allocationSize = 50)
     private Long id;
 
+    /**
+     * Optimistic lock version, incremented by every update and exposed to clients as the entity tag.
+     */
+    @Version
+    private Long version;
+
     private String firstName;
 
     private String lastName;
@@ -42,4 +72,32 @@ public class Athlete {
     private String personalBest;
 
     private String bio;
+
+    /**
+     * Trimmed, lower-cased copy of {@link #nationality}. Filters compare against this column so they can use
+     * a plain index instead of wrapping the original column in {@code lower()}.
+     */
+    private String nationalityKey;
+
+    /**
+     * Trimmed, lower-cased copy of {@link #discipline}, maintained like {@link #nationalityKey}.
+     */
+    private String disciplineKey;
+
+    @PrePersist
+    @PreUpdate
+    void updateKeys() {
+        nationalityKey = toKey(nationality);
+        disciplineKey = toKey(discipline);
+    }
+
+    /**
+     * Folds a filterable value into its key form.
+     *
+     * @param value the original value
+     * @return the trimmed, lower-cased value, or null if the value is null
+     */
+    public static String toKey(final String value) {
+        return value == null ? null : value.trim().toLowerCase(Locale.ROOT);
+    }
 }
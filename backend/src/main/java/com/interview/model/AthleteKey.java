@@ -0,0 +1,21 @@
+package com.interview.model;
+
+/**
+ * Natural key identifying an athlete for duplicate detection.
+ *
+ * @param firstName      the athlete's first name
+ * @param lastName       the athlete's last name
+ * @param birthTimestamp the athlete's birth timestamp
+ */
+public record AthleteKey(String firstName, String lastName, Long birthTimestamp) {
+
+    /**
+     * Extracts the natural key of an athlete.
+     *
+     * @param athlete the athlete
+     * @return the athlete's natural key
+     */
+    public static AthleteKey of(final Athlete athlete) {
+        return new AthleteKey(athlete.getFirstName(), athlete.getLastName(), athlete.getBirthTimestamp());
+    }
+}
@@ -0,0 +1,26 @@
+package com.interview.model;
+
+/**
+ * Read-only projection of an athlete's columns, selected directly by list queries.
+ * Rows are not entities: they are never managed, snapshotted or dirty-checked.
+ *
+ * @param id             the athlete's ID
+ * @param version        the athlete's version
+ * @param firstName      the athlete's first name
+ * @param lastName       the athlete's last name
+ * @param birthTimestamp the athlete's birth timestamp
+ * @param nationality    the athlete's nationality
+ * @param discipline     the athlete's discipline
+ * @param personalBest   the athlete's personal best
+ * @param bio            the athlete's bio, or null if it was not selected
+ */
+public record AthleteRow(
+        Long id,
+        Long version,
+        String firstName,
+        String lastName,
+        Long birthTimestamp,
+        String nationality,
+        String discipline,
+        String personalBest,
+        String bio) {}
@@ -0,0 +1,48 @@
+package com.interview.repository;
+
+import java.util.Locale;
+
+/**
+ * Filter criteria for athlete listings, shared by every endpoint that accepts the list filters.
+ * Blank values mean "no filter" for that attribute.
+ *
+ * @param nationality nationality filter
+ * @param discipline  discipline filter
+ * @param search      first or last name search term
+ * @param match       how nationality and discipline are matched; null means {@link MatchMode#PREFIX}
+ */
+public record AthleteFilter(String nationality, String discipline, String search, MatchMode match) {
+
+    /**
+     * Filter matching every athlete.
+     */
+    public static final AthleteFilter NONE = new AthleteFilter(null, null, null);
+
+    /**
+     * Creates a filter using the default {@link MatchMode#PREFIX} match mode.
+     */
+    public AthleteFilter(final String nationality, final String discipline, final String search) {
+        this(nationality, discipline, search, null);
+    }
+
+    /**
+     * Returns the canonical form of this filter: trimmed, lower-cased, and with blanks collapsed to null.
+     * Two filters that select the same rows have equal normalized forms, so it is safe to use as a cache key.
+     *
+     * @return the normalized filter
+     */
+    public AthleteFilter normalized() {
+        return new AthleteFilter(
+                normalize(nationality),
+                normalize(discipline),
+                normalize(search),
+                match == null ? MatchMode.PREFIX : match);
+    }
+
+    private static String normalize(final String value) {
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+        return value.trim().toLowerCase(Locale.ROOT);
+    }
+}
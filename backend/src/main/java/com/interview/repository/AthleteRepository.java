@@ -1,13 +1,22 @@
 package com.interview.repository;
 
 import com.interview.model.Athlete;
+import com.interview.model.AthleteKey;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
 /**
  * Repository for {@link Athlete} entities with support for specifications, pagination, and sorting.
  */
-public interface AthleteRepository extends JpaRepository<Athlete, Long>, JpaSpecificationExecutor<Athlete> {
+public interface AthleteRepository
+        extends JpaRepository<Athlete, Long>, JpaSpecificationExecutor<Athlete>, AthleteRepositoryCustom {
 
     /**
      * Checks if an athlete exists with the given first name, last name, and birth timestamp.
@@ -18,4 +27,65 @@ public interface AthleteRepository extends JpaRepository<Athlete, Long>, JpaSpec
      * @return true if athlete exists, false otherwise
      */
     boolean existsByFirstNameAndLastNameAndBirthTimestamp(String firstName, String lastName, Long birthTimestamp);
+
+    /**
+     * Finds the natural keys of existing athletes whose first name, last name, and birth timestamp each appear
+     * in the given collections. The result is a superset of the exact matches; callers filter it by key.
+     *
+     * @param firstNames      candidate first names
+     * @param lastNames       candidate last names
+     * @param birthTimestamps candidate birth timestamps
+     * @return keys of existing athletes matching the candidates
+     */
+    @Query("select new com.interview.model.AthleteKey(a.firstName, a.lastName, a.birthTimestamp) from Athlete a "
+            + "where a.firstName in :firstNames and a.lastName in :lastNames "
+            + "and a.birthTimestamp in :birthTimestamps")
+    List<AthleteKey> findKeysIn(
+            @Param("firstNames") Collection<String> firstNames,
+            @Param("lastNames") Collection<String> lastNames,
+            @Param("birthTimestamps") Collection<Long> birthTimestamps);
+
+    /**
+     * Deletes an athlete with a single DELETE statement, without loading it first.
+     *
+     * @param id the athlete ID
+     * @return number of rows deleted, 0 if the athlete did not exist
+     */
+    @Transactional
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("delete from Athlete a where a.id = :id")
+    int removeById(@Param("id") Long id);
+
+    /**
+     * Deletes an athlete with a single DELETE statement if its version is one of the expected ones.
+     *
+     * @param id       the athlete ID
+     * @param versions the expected versions
+     * @return number of rows deleted, 0 if the athlete does not exist or has another version
+     */
+    @Transactional
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("delete from Athlete a where a.id = :id and a.version in :versions")
+    int removeByIdAndVersionIn(@Param("id") Long id, @Param("versions") Collection<Long> versions);
+
+    /**
+     * Reads only the version of an athlete.
+     *
+     * @param id the athlete ID
+     * @return the version, or empty if the athlete does not exist
+     */
+    @Query("select a.version from Athlete a where a.id = :id")
+    Optional<Long> findVersionById(@Param("id") Long id);
+
+    /**
+     * Deletes the athletes with the given IDs with a single DELETE statement, without loading them first.
+     * IDs that do not exist are ignored.
+     *
+     * @param ids the athlete IDs
+     * @return number of rows deleted
+     */
+    @Transactional
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("delete from Athlete a where a.id in :ids")
+    int removeAllById(@Param("ids") Collection<Long> ids);
 }
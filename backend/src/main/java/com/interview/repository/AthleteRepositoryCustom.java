@@ -0,0 +1,67 @@
+package com.interview.repository;
+
+import com.interview.model.Athlete;
+import com.interview.model.AthleteRow;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+/**
+ * Custom {@link AthleteRepository} operations that Spring Data cannot derive.
+ */
+public interface AthleteRepositoryCustom {
+
+    /**
+     * Streams every athlete matching the specification through a forward-only cursor.
+     * Each athlete is detached once the action returns, so memory stays constant regardless of table size.
+     * Must be called within a transaction.
+     *
+     * @param spec   filter criteria
+     * @param sort   sort order
+     * @param action callback invoked for each athlete
+     * @return number of athletes streamed
+     */
+    long forEach(Specification<Athlete> spec, Sort sort, Consumer<Athlete> action);
+
+    /**
+     * Selects a page of athletes matching the specification directly into {@link AthleteRow} projections.
+     * No entities are loaded, so nothing enters the persistence context. Fetches one extra row to determine
+     * whether a next page exists.
+     *
+     * @param spec       filter criteria
+     * @param pageable   pagination and sorting parameters
+     * @param attributes entity attributes to select, or null for all; the id is always selected and the
+     *                   other columns are left null in the rows
+     * @return slice of matching rows
+     */
+    Slice<AthleteRow> findRows(Specification<Athlete> spec, Pageable pageable, Set<String> attributes);
+
+    /**
+     * Finds the IDs of athletes matching the specification in ascending order, seeking past the given ID.
+     *
+     * @param spec    filter criteria
+     * @param afterId only IDs greater than this are returned; null starts from the beginning
+     * @param limit   maximum number of IDs to return
+     * @return matching IDs in ascending order
+     */
+    List<Long> findIds(Specification<Athlete> spec, Long afterId, int limit);
+
+    /**
+     * Sets the given attributes of one athlete with a single UPDATE statement, without loading it first.
+     * Only the given columns and the version are written, and the row is left untouched if it already holds
+     * every value or its version is not one of the expected ones.
+     * Must be called within a transaction; the persistence context is flushed before and cleared after.
+     *
+     * @param id       the athlete ID
+     * @param changes  entity attribute names, which must come from trusted code, mapped to their new values
+     * @param versions expected versions, or null to update whatever the version
+     * @return 1 if the row was changed, 0 if it does not exist, has another version or already holds the values
+     */
+    int update(Long id, Map<String, Object> changes, Collection<Long> versions);
+}
@@ -0,0 +1,160 @@
+package com.interview.repository;
+
+import com.interview.model.Athlete;
+import com.interview.model.AthleteRow;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Query;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.StringJoiner;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+
+/**
+ * Implementation of {@link AthleteRepositoryCustom} using the JPA criteria API directly.
+ */
+public class AthleteRepositoryCustomImpl implements AthleteRepositoryCustom {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    /**
+     * Number of rows the JDBC driver fetches per round trip while streaming.
+     */
+    @Value("${athlete.export.fetch-size:500}")
+    private int fetchSize;
+
+    @Override
+    public long forEach(final Specification<Athlete> spec, final Sort sort, final Consumer<Athlete> action) {
+        final CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        final CriteriaQuery<Athlete> query = cb.createQuery(Athlete.class);
+        final Root<Athlete> root = query.from(Athlete.class);
+        final Predicate predicate = spec.toPredicate(root, query, cb);
+        query.select(root);
+        if (predicate != null) {
+            query.where(predicate);
+        }
+        query.orderBy(QueryUtils.toOrders(sort, root, cb));
+
+        long count = 0;
+        try (Stream<Athlete> athletes = entityManager
+                .createQuery(query)
+                .setHint(HibernateHints.HINT_FETCH_SIZE, fetchSize)
+                .setHint(HibernateHints.HINT_READ_ONLY, true)
+                .getResultStream()) {
+            for (Athlete athlete : (Iterable<Athlete>) athletes::iterator) {
+                action.accept(athlete);
+                entityManager.detach(athlete);
+                count++;
+            }
+        }
+        return count;
+    }
+
+    @Override
+    public Slice<AthleteRow> findRows(
+            final Specification<Athlete> spec, final Pageable pageable, final Set<String> attributes) {
+        final CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        final CriteriaQuery<AthleteRow> query = cb.createQuery(AthleteRow.class);
+        final Root<Athlete> root = query.from(Athlete.class);
+        final Predicate predicate = spec.toPredicate(root, query, cb);
+        query.select(cb.construct(
+                AthleteRow.class,
+                root.get("id"),
+                column(root, cb, attributes, "version", Long.class),
+                column(root, cb, attributes, "firstName", String.class),
+                column(root, cb, attributes, "lastName", String.class),
+                column(root, cb, attributes, "birthTimestamp", Long.class),
+                column(root, cb, attributes, "nationality", String.class),
+                column(root, cb, attributes, "discipline", String.class),
+                column(root, cb, attributes, "personalBest", String.class),
+                column(root, cb, attributes, "bio", String.class)));
+        if (predicate != null) {
+            query.where(predicate);
+        }
+        query.orderBy(QueryUtils.toOrders(pageable.getSort(), root, cb));
+
+        final TypedQuery<AthleteRow> typedQuery = entityManager.createQuery(query);
+        if (pageable.isUnpaged()) {
+            return new SliceImpl<>(typedQuery.getResultList(), pageable, false);
+        }
+        final List<AthleteRow> rows = typedQuery
+                .setFirstResult(Math.toIntExact(pageable.getOffset()))
+                .setMaxResults(pageable.getPageSize() + 1)
+                .getResultList();
+        final boolean hasNext = rows.size() > pageable.getPageSize();
+        return new SliceImpl<>(hasNext ? rows.subList(0, pageable.getPageSize()) : rows, pageable, hasNext);
+    }
+
+    @Override
+    public List<Long> findIds(final Specification<Athlete> spec, final Long afterId, final int limit) {
+        final CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        final CriteriaQuery<Long> query = cb.createQuery(Long.class);
+        final Root<Athlete> root = query.from(Athlete.class);
+        final List<Predicate> predicates = new ArrayList<>(2);
+        final Predicate predicate = spec.toPredicate(root, query, cb);
+        if (predicate != null) {
+            predicates.add(predicate);
+        }
+        if (afterId != null) {
+            predicates.add(cb.greaterThan(root.get("id"), afterId));
+        }
+        query.select(root.get("id")).where(predicates.toArray(Predicate[]::new)).orderBy(cb.asc(root.get("id")));
+
+        return entityManager.createQuery(query).setMaxResults(limit).getResultList();
+    }
+
+    @Override
+    public int update(final Long id, final Map<String, Object> changes, final Collection<Long> versions) {
+        final StringJoiner assignments = new StringJoiner(", ");
+        assignments.add("a.version = a.version + 1");
+        final StringJoiner differences = new StringJoiner(" or ");
+        for (String attribute : changes.keySet()) {
+            assignments.add("a." + attribute + " = :" + attribute);
+            differences.add("a." + attribute + " is distinct from :" + attribute);
+        }
+        final String versionCondition = versions == null ? "" : " and a.version in :versions";
+        final Query query = entityManager.createQuery("update Athlete a set " + assignments + " where a.id = :id"
+                + versionCondition + " and (" + differences + ")");
+        query.setParameter("id", id);
+        if (versions != null) {
+            query.setParameter("versions", versions);
+        }
+        changes.forEach(query::setParameter);
+
+        entityManager.flush();
+        final int updated = query.executeUpdate();
+        entityManager.clear();
+        return updated;
+    }
+
+    /**
+     * Selects an attribute if requested, or else a typed null literal that reads nothing from the row.
+     */
+    private static <T> Expression<T> column(
+            final Root<Athlete> root,
+            final CriteriaBuilder cb,
+            final Set<String> attributes,
+            final String attribute,
+            final Class<T> type) {
+        return attributes == null || attributes.contains(attribute) ? root.get(attribute) : cb.nullLiteral(type);
+    }
+}
@@ -1,44 +1,70 @@
 package com.interview.repository;
 
 import com.interview.model.Athlete;
+import java.util.Collection;
 import org.springframework.data.jpa.domain.Specification;
 
 /**
  * Reusable JPA Specifications for filtering {@link Athlete} entities.
- * All methods perform case-insensitive partial matching and return null for blank inputs.
+ * All filters are case-insensitive and return null for blank inputs.
  */
 public class AthleteSpecification {
 
+    private static final char LIKE_ESCAPE = '\\';
+
+    /**
+     * Combines all criteria of the given filter.
+     *
+     * @param filter the filter criteria
+     * @return specification matching every non-blank criterion of the filter
+     */
+    public static Specification<Athlete> matching(AthleteFilter filter) {
+        return Specification.allOf(
+                hasNationality(filter.nationality(), filter.match()),
+                hasDiscipline(filter.discipline(), filter.match()),
+                nameContains(filter.search()));
+    }
+
     /**
-     * Filters athletes by nationality (case-insensitive partial match).
+     * Filters athletes by nationality (case-insensitive substring match).
      *
      * @param nationality the nationality to filter by
      * @return specification for filtering by nationality, or null if blank
      */
     public static Specification<Athlete> hasNationality(String nationality) {
-        return (root, query, criteriaBuilder) -> {
-            if (nationality == null || nationality.isBlank()) {
-                return null;
-            }
-            return criteriaBuilder.like(
-                    criteriaBuilder.lower(root.get("nationality")), "%" + nationality.toLowerCase() + "%");
-        };
+        return hasNationality(nationality, MatchMode.CONTAINS);
     }
 
     /**
-     * Filters athletes by discipline (case-insensitive partial match).
+     * Filters athletes by nationality (case-insensitive) using the normalized {@code nationalityKey} column.
+     *
+     * @param nationality the nationality to filter by
+     * @param mode        how to match; null means {@link MatchMode#PREFIX}
+     * @return specification for filtering by nationality, or null if blank
+     */
+    public static Specification<Athlete> hasNationality(String nationality, MatchMode mode) {
+        return keyMatches("nationalityKey", nationality, mode);
+    }
+
+    /**
+     * Filters athletes by discipline (case-insensitive substring match).
      *
      * @param discipline the discipline to filter by
      * @return specification for filtering by discipline, or null if blank
      */
     public static Specification<Athlete> hasDiscipline(String discipline) {
-        return (root, query, criteriaBuilder) -> {
-            if (discipline == null || discipline.isBlank()) {
-                return null;
-            }
-            return criteriaBuilder.like(
-                    criteriaBuilder.lower(root.get("discipline")), "%" + discipline.toLowerCase() + "%");
-        };
+        return hasDiscipline(discipline, MatchMode.CONTAINS);
+    }
+
+    /**
+     * Filters athletes by discipline (case-insensitive) using the normalized {@code disciplineKey} column.
+     *
+     * @param discipline the discipline to filter by
+     * @param mode       how to match; null means {@link MatchMode#PREFIX}
+     * @return specification for filtering by discipline, or null if blank
+     */
+    public static Specification<Athlete> hasDiscipline(String discipline, MatchMode mode) {
+        return keyMatches("disciplineKey", discipline, mode);
     }
 
     /**
@@ -58,4 +84,41 @@ public class AthleteSpecification {
                     criteriaBuilder.like(criteriaBuilder.lower(root.get("lastName")), pattern));
         };
     }
+
+    /**
+     * Restricts athletes to the given IDs, typically candidates resolved through an index.
+     *
+     * @param ids the candidate IDs
+     * @return specification matching only the given IDs, or none if the collection is empty
+     */
+    public static Specification<Athlete> idIn(Collection<Long> ids) {
+        return (root, query, criteriaBuilder) -> {
+            if (ids.isEmpty()) {
+                return criteriaBuilder.disjunction();
+            }
+            return root.get("id").in(ids);
+        };
+    }
+
+    /**
+     * Matches a normalized key column. The column is already folded, so only the value is lower-cased and the
+     * column stays bare: equality and prefix patterns remain sargable.
+     */
+    private static Specification<Athlete> keyMatches(String attribute, String value, MatchMode mode) {
+        return (root, query, criteriaBuilder) -> {
+            if (value == null || value.isBlank()) {
+                return null;
+            }
+            String key = Athlete.toKey(value);
+            return switch (mode == null ? MatchMode.PREFIX : mode) {
+                case EXACT -> criteriaBuilder.equal(root.get(attribute), key);
+                case PREFIX -> criteriaBuilder.like(root.get(attribute), escapeLike(key) + "%", LIKE_ESCAPE);
+                case CONTAINS -> criteriaBuilder.like(root.get(attribute), "%" + escapeLike(key) + "%", LIKE_ESCAPE);
+            };
+        };
+    }
+
+    private static String escapeLike(String value) {
+        return value.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+    }
 }
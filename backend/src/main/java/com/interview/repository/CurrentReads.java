@@ -0,0 +1,52 @@
+package com.interview.repository;
+
+import java.util.function.Supplier;
+
+/**
+ * Marks reads that must reflect every write committed before they started, even within read-only
+ * transactions.
+ * <p>
+ * Cached results outlive the read that produced them and are only dropped by the writes this instance makes.
+ * A replica that has not applied those writes yet could refill a cache with rows older than a write it was
+ * already invalidated for. Cache loads therefore run through {@link #call(Supplier)}, and the routing data
+ * source only connects them to a replica known to have caught up, falling back to the primary otherwise.
+ * </p>
+ * <p>
+ * Only connections obtained within the call are affected; a transaction that has already connected keeps
+ * its connection.
+ * </p>
+ */
+public final class CurrentReads {
+
+    private static final ThreadLocal<Boolean> REQUIRED = new ThreadLocal<>();
+
+    private CurrentReads() {}
+
+    /**
+     * Runs the reads against a database that has applied every committed write.
+     *
+     * @param reads the reads to run
+     * @param <T>   the result type
+     * @return the reads' result
+     */
+    public static <T> T call(final Supplier<T> reads) {
+        if (required()) {
+            return reads.get();
+        }
+        REQUIRED.set(Boolean.TRUE);
+        try {
+            return reads.get();
+        } finally {
+            REQUIRED.remove();
+        }
+    }
+
+    /**
+     * Returns whether the current thread's reads must reflect every committed write.
+     *
+     * @return true within {@link #call(Supplier)}
+     */
+    public static boolean required() {
+        return REQUIRED.get() != null;
+    }
+}
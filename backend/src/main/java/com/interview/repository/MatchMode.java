@@ -0,0 +1,22 @@
+package com.interview.repository;
+
+/**
+ * How nationality and discipline filters match their column.
+ * {@link #EXACT} and {@link #PREFIX} can be served by an index range scan; {@link #CONTAINS} cannot.
+ */
+public enum MatchMode {
+    /**
+     * Whole value equals the filter, ignoring case and surrounding whitespace.
+     */
+    EXACT,
+
+    /**
+     * Value starts with the filter, ignoring case. The default.
+     */
+    PREFIX,
+
+    /**
+     * Value contains the filter anywhere, ignoring case. Requires a full scan.
+     */
+    CONTAINS
+}
@@ -0,0 +1,60 @@
+package com.interview.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.interview.config.AthleteCacheProperties;
+import com.interview.repository.AthleteFilter;
+import com.interview.repository.CurrentReads;
+import java.util.function.LongSupplier;
+import org.springframework.stereotype.Component;
+
+/**
+ * Caches total athlete counts per normalized filter so repeated filter combinations skip the COUNT query.
+ * <p>
+ * Entries are keyed by (filter, generation) and every write advances the {@link CacheGeneration}.
+ * </p>
+ */
+@Component
+public class AthleteCountCache {
+
+    private final Cache<Key, Long> counts;
+    private final CacheGeneration generation = new CacheGeneration();
+
+    public AthleteCountCache(final AthleteCacheProperties properties) {
+        this.counts = Caffeine.newBuilder()
+                .maximumSize(properties.getCount().getMaximumSize())
+                .expireAfterWrite(properties.getCount().getTtl())
+                .build();
+    }
+
+    /**
+     * Returns the cached count for the filter, computing it with the given counter on a miss. The count sees
+     * every committed write (see {@link CurrentReads}).
+     *
+     * @param filter  the normalized filter
+     * @param counter computes the count from the database
+     * @return the total number of matching athletes
+     */
+    public long get(final AthleteFilter filter, final LongSupplier counter) {
+        final Key key = new Key(filter, generation.current());
+        final Long cached = counts.getIfPresent(key);
+        if (cached != null) {
+            return cached;
+        }
+        // Counted outside the cache's locks, which a slow COUNT would otherwise hold for other filters too
+        final long count = CurrentReads.call(counter::getAsLong);
+        if (generation.current() == key.generation()) {
+            counts.asMap().putIfAbsent(key, count);
+        }
+        return count;
+    }
+
+    /**
+     * Invalidates all cached counts now and again once the current transaction, if any, commits.
+     */
+    public void invalidate() {
+        generation.advance();
+    }
+
+    private record Key(AthleteFilter filter, long generation) {}
+}
@@ -0,0 +1,140 @@
+package com.interview.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.interview.config.AthleteCacheProperties;
+import com.interview.model.Athlete;
+import com.interview.repository.CurrentReads;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.util.Optional;
+import java.util.function.Function;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Caches athletes by ID so repeated reads of the same athlete skip the database.
+ * <p>
+ * The cache holds detached copies and hands out fresh copies, so callers may modify what they get without
+ * corrupting the cached state. Entries are bounded by their estimated heap footprint and expire after a TTL.
+ * Hit, miss and eviction statistics are published to Micrometer under the cache name {@code athletes}.
+ * </p>
+ * <p>
+ * Writers evict immediately and again once their transaction commits, and advance a {@link CacheGeneration}
+ * before either eviction. Loads run outside the cache's locks, so a load that read the old row concurrently
+ * with the commit may publish it after the second eviction; it notes the generation before reading and takes
+ * the row back out if a write advanced it in the meantime.
+ * </p>
+ */
+@Component
+public class AthleteEntityCache {
+
+    public static final String CACHE_NAME = "athletes";
+
+    private static final int ENTRY_OVERHEAD = 128;
+
+    private final Cache<Long, Athlete> athletes;
+    private final CacheGeneration generation = new CacheGeneration();
+    private final RequestCoalescer coalescer;
+
+    public AthleteEntityCache(
+            final AthleteCacheProperties properties,
+            final MeterRegistry meterRegistry,
+            final RequestCoalescer coalescer) {
+        this.coalescer = coalescer;
+        this.athletes = Caffeine.newBuilder()
+                .maximumWeight(properties.getEntity().getMaximumWeight().toBytes())
+                .weigher((Long id, Athlete athlete) -> weigh(athlete))
+                .expireAfterWrite(properties.getEntity().getTtl())
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, athletes, CACHE_NAME);
+    }
+
+    /**
+     * Returns a copy of the cached athlete, loading it with the given loader on a miss.
+     * Concurrent misses for the same ID share a single load, which sees every committed write (see
+     * {@link CurrentReads}). Absent athletes are not cached.
+     *
+     * @param id     the athlete ID
+     * @param loader loads the athlete from the database
+     * @return a copy of the athlete, or empty if it does not exist
+     */
+    public Optional<Athlete> get(final Long id, final Function<Long, Optional<Athlete>> loader) {
+        Athlete cached = athletes.getIfPresent(id);
+        if (cached == null) {
+            // Only one caller per ID reaches the database; concurrent callers wait for its result
+            cached = coalescer.execute("findById", id, () -> load(id, loader));
+        }
+        return Optional.ofNullable(cached).map(AthleteEntityCache::copy);
+    }
+
+    /**
+     * Evicts an athlete now and again once the current transaction, if any, commits.
+     *
+     * @param id the athlete ID
+     */
+    public void evict(final Long id) {
+        generation.advance();
+        athletes.invalidate(id);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            // Registered after the generation's own synchronization, so it runs once the generation has advanced
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    athletes.invalidate(id);
+                }
+            });
+        }
+    }
+
+    // --- Private helper methods ---
+
+    /**
+     * Loads an athlete without holding any lock of the cache, so a load waiting for a connection blocks
+     * neither other keys nor, on a virtual thread, its carrier.
+     */
+    private Athlete load(final Long id, final Function<Long, Optional<Athlete>> loader) {
+        final long loadedAt = generation.current();
+        final Athlete loaded = CurrentReads.call(() -> loader.apply(id))
+                .map(AthleteEntityCache::copy)
+                .orElse(null);
+        if (loaded == null) {
+            return null;
+        }
+        final Athlete current = athletes.asMap().putIfAbsent(id, loaded);
+        if (current != null) {
+            return current;
+        }
+        if (generation.current() != loadedAt) {
+            // A write committed during the load and its eviction may have run before the put
+            athletes.asMap().remove(id, loaded);
+        }
+        return loaded;
+    }
+
+    private static Athlete copy(final Athlete athlete) {
+        return athlete.toBuilder().build();
+    }
+
+    /**
+     * Rough heap footprint of an athlete: object headers plus two bytes per character of its strings.
+     */
+    private static int weigh(final Athlete athlete) {
+        return ENTRY_OVERHEAD
+                + 2
+                        * (length(athlete.getFirstName())
+                                + length(athlete.getLastName())
+                                + length(athlete.getNationality())
+                                + length(athlete.getDiscipline())
+                                + length(athlete.getPersonalBest())
+                                + length(athlete.getBio())
+                                + length(athlete.getNationalityKey())
+                                + length(athlete.getDisciplineKey()));
+    }
+
+    private static int length(final String value) {
+        return value == null ? 0 : value.length();
+    }
+}
@@ -0,0 +1,137 @@
+package com.interview.service;
+
+import com.interview.dto.ImportJobResponse;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Mutable, thread-safe progress of a single bulk import.
+ * Counters are updated concurrently by parser and writer threads and read by status queries.
+ */
+public class AthleteImportJob {
+
+    /**
+     * Lifecycle states of an import job.
+     */
+    public enum State {
+        QUEUED,
+        RUNNING,
+        COMPLETED,
+        FAILED
+    }
+
+    private final String id;
+    private final String file;
+    private final int maxRejectionSamples;
+
+    private final AtomicLong processedBytes = new AtomicLong();
+    private final AtomicLong rowsRead = new AtomicLong();
+    private final AtomicLong rowsImported = new AtomicLong();
+    private final AtomicLong rowsRejected = new AtomicLong();
+    private final AtomicInteger sampledRejections = new AtomicInteger();
+    private final ConcurrentLinkedQueue<String> rejections = new ConcurrentLinkedQueue<>();
+
+    private volatile State state = State.QUEUED;
+    private volatile long totalBytes;
+    private volatile Instant startedAt;
+    private volatile Instant finishedAt;
+    private volatile String error;
+
+    public AthleteImportJob(final String id, final String file, final int maxRejectionSamples) {
+        this.id = id;
+        this.file = file;
+        this.maxRejectionSamples = maxRejectionSamples;
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public boolean isFailed() {
+        return state == State.FAILED;
+    }
+
+    public boolean isFinished() {
+        return state == State.COMPLETED || state == State.FAILED;
+    }
+
+    void start(final long totalBytes) {
+        this.totalBytes = totalBytes;
+        this.startedAt = Instant.now();
+        this.state = State.RUNNING;
+    }
+
+    void complete() {
+        this.finishedAt = Instant.now();
+        this.state = State.COMPLETED;
+    }
+
+    void fail(final String error) {
+        if (isFinished()) {
+            return;
+        }
+        this.error = error;
+        this.finishedAt = Instant.now();
+        this.state = State.FAILED;
+    }
+
+    void addProcessedBytes(final long bytes) {
+        processedBytes.addAndGet(bytes);
+    }
+
+    void addRowsRead(final long rows) {
+        rowsRead.addAndGet(rows);
+    }
+
+    void addRowsImported(final long rows) {
+        rowsImported.addAndGet(rows);
+    }
+
+    /**
+     * Counts a rejected row and keeps its reason if the sample limit has not been reached.
+     *
+     * @param reason why the row was rejected
+     */
+    void reject(final String reason) {
+        rowsRejected.incrementAndGet();
+        if (sampledRejections.getAndIncrement() < maxRejectionSamples) {
+            rejections.add(reason);
+        }
+    }
+
+    /**
+     * Captures a consistent-enough snapshot of the job for reporting.
+     *
+     * @return the job status
+     */
+    public ImportJobResponse toResponse() {
+        final Instant start = startedAt;
+        final Instant end = finishedAt != null ? finishedAt : Instant.now();
+        final long imported = rowsImported.get();
+        final double elapsedSeconds =
+                start == null ? 0 : Duration.between(start, end).toNanos() / 1_000_000_000.0;
+        final long total = totalBytes;
+        final long processed = processedBytes.get();
+
+        return ImportJobResponse.builder()
+                .id(id)
+                .file(file)
+                .state(state.name())
+                .totalBytes(total)
+                .processedBytes(processed)
+                .progress(total == 0 ? (isFinished() ? 1.0 : 0.0) : (double) processed / total)
+                .rowsRead(rowsRead.get())
+                .rowsImported(imported)
+                .rowsRejected(rowsRejected.get())
+                .rowsPerSecond(elapsedSeconds > 0 ? imported / elapsedSeconds : 0)
+                .startedAt(start)
+                .finishedAt(finishedAt)
+                .error(error)
+                .rejections(List.copyOf(rejections))
+                .build();
+    }
+}
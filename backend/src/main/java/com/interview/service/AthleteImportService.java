@@ -0,0 +1,403 @@
+package com.interview.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.interview.config.AthleteImportProperties;
+import com.interview.dto.AthleteCsvParser;
+import com.interview.dto.AthleteMapper;
+import com.interview.dto.AthleteRequest;
+import com.interview.exception.DuplicateAthleteException;
+import com.interview.exception.ImportJobNotFoundException;
+import com.interview.exception.InvalidImportFileException;
+import com.interview.model.Athlete;
+import jakarta.annotation.PreDestroy;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+/**
+ * Runs bulk CSV imports as background jobs.
+ * <p>
+ * The file is split into record-aligned chunks that are memory-mapped and parsed in parallel; a quoted field
+ * may span lines, so records end at line breaks outside quotes only. Parsed rows are
+ * validated against the {@link AthleteRequest} constraints and grouped into batches, which flow through a
+ * bounded queue to writer threads that persist them with {@link AthleteService#createAll}. When writers fall
+ * behind, the queue fills and parsers block, so heap use is capped at roughly
+ * {@code (queueCapacity + parserThreads) * batchSize} rows regardless of file size.
+ * </p>
+ */
+@Slf4j
+@Service
+public class AthleteImportService {
+
+    private static final List<Athlete> END_OF_INPUT = new ArrayList<>(0);
+    private static final long POLL_MILLIS = 100;
+    private static final int SCAN_BUFFER_BYTES = 64 * 1024;
+
+    private final AthleteService athleteService;
+    private final Validator validator;
+    private final AthleteImportProperties properties;
+    private final Cache<String, AthleteImportJob> jobs;
+    private final ExecutorService coordinators = Executors.newVirtualThreadPerTaskExecutor();
+
+    public AthleteImportService(
+            final AthleteService athleteService, final Validator validator, final AthleteImportProperties properties) {
+        this.athleteService = athleteService;
+        this.validator = validator;
+        this.properties = properties;
+        this.jobs =
+                Caffeine.newBuilder().maximumSize(properties.getRetainedJobs()).build();
+    }
+
+    /**
+     * Starts importing a CSV file from the import directory in the background.
+     *
+     * @param file path of the file, relative to the import directory
+     * @return the newly queued job
+     * @throws InvalidImportFileException if the file is not a readable file inside the import directory
+     */
+    public AthleteImportJob start(final String file) {
+        final Path path = resolve(file);
+        final AthleteImportJob job =
+                new AthleteImportJob(UUID.randomUUID().toString(), file, properties.getMaxRejectionSamples());
+        jobs.put(job.getId(), job);
+        coordinators.submit(() -> run(job, path));
+        log.info("Queued import job {} for file {}", job.getId(), file);
+        return job;
+    }
+
+    /**
+     * Retrieves an import job by ID.
+     *
+     * @param id the job ID
+     * @return the job
+     * @throws ImportJobNotFoundException if the job is unknown or no longer retained
+     */
+    public AthleteImportJob findJob(final String id) {
+        final AthleteImportJob job = jobs.getIfPresent(id);
+        if (job == null) {
+            throw new ImportJobNotFoundException(id);
+        }
+        return job;
+    }
+
+    @PreDestroy
+    void shutdown() {
+        coordinators.shutdownNow();
+    }
+
+    // --- Private helper methods ---
+
+    private Path resolve(final String file) {
+        final Path directory =
+                Path.of(properties.getDirectory()).toAbsolutePath().normalize();
+        final Path path = directory.resolve(file).normalize();
+        if (!path.startsWith(directory) || !Files.isRegularFile(path) || !Files.isReadable(path)) {
+            throw new InvalidImportFileException(file);
+        }
+        return path;
+    }
+
+    private void run(final AthleteImportJob job, final Path path) {
+        final BlockingQueue<List<Athlete>> queue = new ArrayBlockingQueue<>(properties.getQueueCapacity());
+
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ);
+                ExecutorService parsers = Executors.newFixedThreadPool(properties.getParserThreads());
+                ExecutorService writers = Executors.newVirtualThreadPerTaskExecutor()) {
+
+            final long size = channel.size();
+            job.start(size);
+            log.info("Import job {} started: {} bytes", job.getId(), size);
+
+            final long headerEnd = nextLineStart(channel, 0, size);
+            final AthleteCsvParser parser = new AthleteCsvParser(readHeader(channel, headerEnd));
+            job.addProcessedBytes(headerEnd);
+
+            final List<Future<?>> writerTasks = new ArrayList<>();
+            for (int i = 0; i < properties.getWriterThreads(); i++) {
+                writerTasks.add(writers.submit(() -> {
+                    writeBatches(queue, job);
+                    return null;
+                }));
+            }
+
+            final List<Future<?>> parserTasks = new ArrayList<>();
+            for (Chunk chunk : split(channel, headerEnd, size)) {
+                parserTasks.add(parsers.submit(() -> {
+                    parseChunk(channel, chunk, parser, queue, job);
+                    return null;
+                }));
+            }
+
+            awaitAll(parserTasks, job);
+            for (int i = 0; i < writerTasks.size(); i++) {
+                enqueue(queue, END_OF_INPUT, job);
+            }
+            awaitAll(writerTasks, job);
+
+            if (!job.isFailed()) {
+                job.complete();
+            }
+        } catch (IOException | IllegalArgumentException ex) {
+            job.fail(ex.getMessage());
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            job.fail("Import interrupted");
+        } catch (CancellationException ex) {
+            // A parser or writer already recorded the failure
+        }
+
+        final var status = job.toResponse();
+        log.info(
+                "Import job {} {}: {} imported, {} rejected, {} rows/s",
+                job.getId(),
+                status.getState(),
+                status.getRowsImported(),
+                status.getRowsRejected(),
+                Math.round(status.getRowsPerSecond()));
+    }
+
+    private void awaitAll(final List<Future<?>> tasks, final AthleteImportJob job) throws InterruptedException {
+        for (Future<?> task : tasks) {
+            try {
+                task.get();
+            } catch (ExecutionException ex) {
+                if (!(ex.getCause() instanceof CancellationException)) {
+                    log.error("Import job {} failed", job.getId(), ex.getCause());
+                    job.fail(ex.getCause().getMessage());
+                }
+            }
+        }
+    }
+
+    private void parseChunk(
+            final FileChannel channel,
+            final Chunk chunk,
+            final AthleteCsvParser parser,
+            final BlockingQueue<List<Athlete>> queue,
+            final AthleteImportJob job)
+            throws IOException, InterruptedException {
+        if (job.isFailed()) {
+            return;
+        }
+        final MappedByteBuffer buffer =
+                channel.map(FileChannel.MapMode.READ_ONLY, chunk.start(), chunk.end() - chunk.start());
+
+        List<Athlete> batch = new ArrayList<>(properties.getBatchSize());
+        byte[] line = new byte[512];
+        int length = 0;
+        long lineOffset = chunk.start();
+        long rows = 0;
+        // Chunks start outside quotes; an escaped quote ("") toggles twice, so the parity stays right
+        boolean quoted = false;
+
+        while (buffer.hasRemaining()) {
+            final byte b = buffer.get();
+            if (b == '"') {
+                quoted = !quoted;
+            }
+            if (b != '\n' || quoted) {
+                if (length == line.length) {
+                    line = Arrays.copyOf(line, length * 2);
+                }
+                line[length++] = b;
+                continue;
+            }
+            rows += parseLine(line, length, lineOffset, parser, batch, job);
+            lineOffset = chunk.start() + buffer.position();
+            length = 0;
+            if (batch.size() >= properties.getBatchSize()) {
+                enqueue(queue, batch, job);
+                batch = new ArrayList<>(properties.getBatchSize());
+            }
+        }
+        rows += parseLine(line, length, lineOffset, parser, batch, job);
+        if (!batch.isEmpty()) {
+            enqueue(queue, batch, job);
+        }
+
+        job.addRowsRead(rows);
+        job.addProcessedBytes(chunk.end() - chunk.start());
+    }
+
+    /**
+     * Parses and validates one record, adding it to the batch or recording the rejection.
+     *
+     * @return 1 if the line held a record, 0 if it was blank
+     */
+    private int parseLine(
+            final byte[] line,
+            int length,
+            final long offset,
+            final AthleteCsvParser parser,
+            final List<Athlete> batch,
+            final AthleteImportJob job) {
+        if (length > 0 && line[length - 1] == '\r') {
+            length--;
+        }
+        if (length == 0) {
+            return 0;
+        }
+        final String text = new String(line, 0, length, StandardCharsets.UTF_8);
+        final AthleteRequest request;
+        try {
+            request = parser.parse(text);
+        } catch (IllegalArgumentException ex) {
+            job.reject("byte " + offset + ": " + ex.getMessage());
+            return 1;
+        }
+        final Set<ConstraintViolation<AthleteRequest>> violations = validator.validate(request);
+        if (!violations.isEmpty()) {
+            job.reject("byte " + offset + ": "
+                    + violations.stream()
+                            .map(v -> v.getPropertyPath() + " " + v.getMessage())
+                            .sorted()
+                            .collect(Collectors.joining("; ")));
+            return 1;
+        }
+        batch.add(AthleteMapper.toDomain(request));
+        return 1;
+    }
+
+    private void writeBatches(final BlockingQueue<List<Athlete>> queue, final AthleteImportJob job)
+            throws InterruptedException {
+        while (true) {
+            final List<Athlete> batch = queue.poll(POLL_MILLIS, TimeUnit.MILLISECONDS);
+            if (batch == END_OF_INPUT) {
+                return;
+            }
+            if (batch == null) {
+                if (job.isFailed()) {
+                    return;
+                }
+                continue;
+            }
+            try {
+                final List<Optional<Athlete>> results = athleteService.createAll(batch);
+                long imported = 0;
+                for (int i = 0; i < results.size(); i++) {
+                    if (results.get(i).isPresent()) {
+                        imported++;
+                    } else {
+                        final Athlete athlete = batch.get(i);
+                        job.reject(new DuplicateAthleteException(athlete.getFirstName(), athlete.getLastName())
+                                .getMessage());
+                    }
+                }
+                job.addRowsImported(imported);
+            } catch (RuntimeException ex) {
+                job.fail(ex.getMessage());
+                throw ex;
+            }
+        }
+    }
+
+    /**
+     * Hands a batch to the writers, blocking while the queue is full. This is where backpressure happens.
+     *
+     * @throws CancellationException if the job failed while waiting
+     */
+    private void enqueue(
+            final BlockingQueue<List<Athlete>> queue, final List<Athlete> batch, final AthleteImportJob job)
+            throws InterruptedException {
+        while (!queue.offer(batch, POLL_MILLIS, TimeUnit.MILLISECONDS)) {
+            if (job.isFailed()) {
+                throw new CancellationException();
+            }
+        }
+    }
+
+    /**
+     * Splits the records into chunks of at least the configured size. Whether a line break ends a record
+     * depends on every quote before it, so this reads the file once, counting quotes; it does no parsing.
+     */
+    private List<Chunk> split(final FileChannel channel, final long start, final long size) throws IOException {
+        final long chunkSize = Math.max(1, Math.min(properties.getChunkSize().toBytes(), Integer.MAX_VALUE));
+        final List<Chunk> chunks = new ArrayList<>();
+        final ByteBuffer buffer = ByteBuffer.allocate(SCAN_BUFFER_BYTES);
+        long chunkStart = start;
+        long position = start;
+        boolean quoted = false;
+        while (position < size) {
+            buffer.clear();
+            final int read = channel.read(buffer, position);
+            if (read <= 0) {
+                break;
+            }
+            for (int i = 0; i < read; i++) {
+                final byte b = buffer.get(i);
+                if (b == '"') {
+                    quoted = !quoted;
+                } else if (b == '\n' && !quoted && position + i + 1 - chunkStart >= chunkSize) {
+                    chunks.add(new Chunk(chunkStart, position + i + 1));
+                    chunkStart = position + i + 1;
+                }
+            }
+            position += read;
+        }
+        if (chunkStart < size) {
+            chunks.add(new Chunk(chunkStart, size));
+        }
+        return chunks;
+    }
+
+    /**
+     * Finds the start of the line following the given position.
+     *
+     * @return the offset just past the next newline, or the file size if there is none
+     */
+    private long nextLineStart(final FileChannel channel, final long from, final long size) throws IOException {
+        final ByteBuffer buffer = ByteBuffer.allocate(8192);
+        long position = from;
+        while (position < size) {
+            buffer.clear();
+            final int read = channel.read(buffer, position);
+            if (read <= 0) {
+                break;
+            }
+            for (int i = 0; i < read; i++) {
+                if (buffer.get(i) == '\n') {
+                    return position + i + 1;
+                }
+            }
+            position += read;
+        }
+        return size;
+    }
+
+    private String readHeader(final FileChannel channel, final long headerEnd) throws IOException {
+        final ByteBuffer buffer = ByteBuffer.allocate((int) headerEnd);
+        channel.read(buffer, 0);
+        String header = new String(buffer.array(), StandardCharsets.UTF_8).strip();
+        if (header.startsWith("\uFEFF")) {
+            header = header.substring(1);
+        }
+        return header;
+    }
+
+    private record Chunk(long start, long end) {}
+}
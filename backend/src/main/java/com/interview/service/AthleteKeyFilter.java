@@ -0,0 +1,216 @@
+package com.interview.service;
+
+import com.interview.model.AthleteKey;
+import com.interview.repository.AthleteFilter;
+import com.interview.repository.AthleteRepository;
+import com.interview.repository.AthleteSpecification;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicLongArray;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Counting Bloom filter over the natural keys of all athletes, used to skip duplicate lookups on create.
+ * <p>
+ * {@link #mightContain} never returns false for a key that was added and not removed, so a negative answer
+ * proves the athlete is new without a database round trip. Each slot is a 4-bit counter rather than a bit so
+ * keys can be removed again; a counter that saturates at 15 is never decremented, which can only cause false
+ * positives. False positives merely cost the lookup the filter would otherwise have saved. Deletes, which
+ * run without loading the row, leave their keys behind for the same reason until the next rebuild.
+ * </p>
+ * <p>
+ * The filter is an optimization only. The {@code uk_athlete_duplicate_check} unique constraint stays the
+ * source of truth, so a key missed while the filter is being rebuilt cannot let a duplicate through.
+ * </p>
+ */
+@Slf4j
+@Component
+public class AthleteKeyFilter {
+
+    private static final int COUNTER_BITS = 4;
+    private static final int COUNTERS_PER_WORD = Long.SIZE / COUNTER_BITS;
+    private static final long COUNTER_MAX = (1L << COUNTER_BITS) - 1;
+
+    private final AthleteRepository repository;
+    private final long expectedInsertions;
+    private final double falsePositiveRate;
+
+    private volatile Counters counters;
+
+    public AthleteKeyFilter(
+            final AthleteRepository repository,
+            @Value("${athlete.duplicate-filter.expected-insertions:1000000}") final long expectedInsertions,
+            @Value("${athlete.duplicate-filter.false-positive-rate:0.01}") final double falsePositiveRate) {
+        this.repository = repository;
+        this.expectedInsertions = expectedInsertions;
+        this.falsePositiveRate = falsePositiveRate;
+        this.counters = new Counters(expectedInsertions, falsePositiveRate);
+    }
+
+    /**
+     * Loads the keys of every athlete once the application, including its seed data, is ready.
+     * The filter is sized for at least twice the current number of athletes.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void rebuild() {
+        final Counters rebuilt = new Counters(Math.max(expectedInsertions, 2 * repository.count()), falsePositiveRate);
+        final long loaded = repository.forEach(
+                AthleteSpecification.matching(AthleteFilter.NONE),
+                Sort.unsorted(),
+                athlete -> rebuilt.add(AthleteKey.of(athlete)));
+        counters = rebuilt;
+        log.info(
+                "Loaded {} athlete keys into duplicate filter ({} counters, {} hashes)",
+                loaded,
+                rebuilt.size,
+                rebuilt.hashes);
+    }
+
+    /**
+     * Tells whether an athlete with this key may exist.
+     *
+     * @param key the natural key
+     * @return false if no such athlete exists, true if one might
+     */
+    public boolean mightContain(final AthleteKey key) {
+        return counters.mightContain(key);
+    }
+
+    /**
+     * Records the key of an inserted athlete.
+     *
+     * @param key the natural key
+     */
+    public void add(final AthleteKey key) {
+        counters.add(key);
+    }
+
+    /**
+     * Forgets the previous key of a renamed athlete once the current transaction, if any, commits,
+     * so a rollback cannot leave a stored key unrepresented.
+     *
+     * @param key the natural key
+     */
+    public void remove(final AthleteKey key) {
+        final Counters target = counters;
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    target.remove(key);
+                }
+            });
+        } else {
+            target.remove(key);
+        }
+    }
+
+    /**
+     * Fixed-size array of 4-bit counters packed into longs, addressed by double hashing.
+     */
+    private static final class Counters {
+
+        private final AtomicLongArray words;
+        private final long size;
+        private final int hashes;
+
+        Counters(final long expectedInsertions, final double falsePositiveRate) {
+            final long n = Math.max(1, expectedInsertions);
+            final long optimal = (long) Math.ceil(-n * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2)));
+            final int wordCount =
+                    (int) Math.min(Integer.MAX_VALUE - 8, (optimal + COUNTERS_PER_WORD - 1) / COUNTERS_PER_WORD);
+            this.words = new AtomicLongArray(wordCount);
+            this.size = (long) wordCount * COUNTERS_PER_WORD;
+            this.hashes = (int) Math.max(1, Math.round((double) size / n * Math.log(2)));
+        }
+
+        boolean mightContain(final AthleteKey key) {
+            final long hash1 = hash(key);
+            final long hash2 = mix(hash1);
+            for (int i = 0; i < hashes; i++) {
+                if (counter(index(hash1, hash2, i)) == 0) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        void add(final AthleteKey key) {
+            update(key, 1);
+        }
+
+        void remove(final AthleteKey key) {
+            update(key, -1);
+        }
+
+        private void update(final AthleteKey key, final int delta) {
+            final long hash1 = hash(key);
+            final long hash2 = mix(hash1);
+            for (int i = 0; i < hashes; i++) {
+                final long index = index(hash1, hash2, i);
+                final int word = (int) (index / COUNTERS_PER_WORD);
+                final int shift = (int) (index % COUNTERS_PER_WORD) * COUNTER_BITS;
+                while (true) {
+                    final long current = words.get(word);
+                    final long value = (current >>> shift) & COUNTER_MAX;
+                    // Saturated counters are sticky; empty counters cannot go below zero
+                    if (value == COUNTER_MAX || (delta < 0 && value == 0)) {
+                        break;
+                    }
+                    final long updated = delta > 0 ? current + (1L << shift) : current - (1L << shift);
+                    if (words.compareAndSet(word, current, updated)) {
+                        break;
+                    }
+                }
+            }
+        }
+
+        private long counter(final long index) {
+            final long word = words.get((int) (index / COUNTERS_PER_WORD));
+            return (word >>> ((index % COUNTERS_PER_WORD) * COUNTER_BITS)) & COUNTER_MAX;
+        }
+
+        private long index(final long hash1, final long hash2, final int i) {
+            return Math.floorMod(hash1 + i * hash2, size);
+        }
+
+        /**
+         * 64-bit FNV-1a over the key fields, with a separator so ("ab", "c") and ("a", "bc") differ.
+         */
+        private static long hash(final AthleteKey key) {
+            long hash = 0xcbf29ce484222325L;
+            hash = fnv(hash, key.firstName());
+            hash = fnv(hash, key.lastName());
+            hash = fnv(hash, String.valueOf(key.birthTimestamp()));
+            return hash;
+        }
+
+        private static long fnv(long hash, final String value) {
+            if (value != null) {
+                for (byte b : value.getBytes(StandardCharsets.UTF_8)) {
+                    hash ^= b & 0xff;
+                    hash *= 0x100000001b3L;
+                }
+            }
+            hash ^= 0xff;
+            return hash * 0x100000001b3L;
+        }
+
+        /**
+         * SplitMix64 finalizer, used to derive an independent second hash for double hashing.
+         */
+        private static long mix(long z) {
+            z = (z ^ (z >>> 30)) * 0xbf58476d1ce4e5b9L;
+            z = (z ^ (z >>> 27)) * 0x94d049bb133111ebL;
+            return (z ^ (z >>> 31)) | 1;
+        }
+    }
+}
@@ -0,0 +1,262 @@
+package com.interview.service;
+
+import com.interview.model.Athlete;
+import com.interview.repository.AthleteFilter;
+import com.interview.repository.AthleteRepository;
+import com.interview.repository.AthleteSpecification;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * In-memory trigram inverted index over athlete first and last names.
+ * <p>
+ * A name contains a search term only if it contains every trigram of the term, so intersecting the posting
+ * lists of those trigrams yields a superset of the matching IDs without touching the table. The index is
+ * deliberately allowed to over-report: callers keep the name predicate as a recheck on the candidate rows.
+ * Postings are therefore added eagerly but only removed once the writing transaction commits, so a
+ * rollback can never hide a row that still matches.
+ * </p>
+ * <p>
+ * Until the first {@link #rebuild()} has completed the index knows nothing, so it does not narrow any search
+ * and callers scan. A rebuild fills a fresh index and swaps it in; writes made meanwhile are applied to both,
+ * and again once they commit, so the fresh index cannot miss a write its scan did not see.
+ * </p>
+ */
+@Slf4j
+@Component
+public class AthleteNameIndex {
+
+    private static final int GRAM = 3;
+
+    private final AthleteRepository repository;
+    private final int maxCandidates;
+    private volatile Index live = new Index();
+    private volatile Index building;
+    private volatile boolean ready;
+
+    public AthleteNameIndex(
+            final AthleteRepository repository,
+            @Value("${athlete.search.max-candidates:1000}") final int maxCandidates) {
+        this.repository = repository;
+        this.maxCandidates = maxCandidates;
+    }
+
+    /**
+     * Loads every athlete into the index once the application, including its seed data, is ready.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void rebuild() {
+        final Index fresh = new Index();
+        building = fresh;
+        try {
+            final long indexed = repository.forEach(
+                    AthleteSpecification.matching(AthleteFilter.NONE),
+                    Sort.by(Sort.Direction.ASC, "id"),
+                    athlete -> fresh.merge(athlete.getId(), Names.of(athlete)));
+            live = fresh;
+            ready = true;
+            log.info("Indexed names of {} athletes ({} trigrams)", indexed, fresh.postings.size());
+        } finally {
+            building = null;
+        }
+    }
+
+    /**
+     * Indexes a persisted athlete, replacing its previous names if it was indexed before.
+     *
+     * @param athlete the athlete, which must have an ID
+     */
+    public void add(final Athlete athlete) {
+        final Long id = athlete.getId();
+        final Names current = Names.of(athlete);
+        forEachIndex(index -> index.add(id, current));
+        // Again on commit, for a rebuild whose scan started after the eager add; the same names are a no-op
+        afterCommit(() -> forEachIndex(index -> index.add(id, current)));
+    }
+
+    /**
+     * Removes an athlete from the index once the current transaction, if any, commits.
+     *
+     * @param id the athlete ID
+     */
+    public void remove(final Long id) {
+        afterCommit(() -> forEachIndex(index -> index.remove(id)));
+    }
+
+    /**
+     * Looks up athletes whose first or last name may contain the search term.
+     *
+     * @param search the normalized search term
+     * @return a superset of the matching IDs, or empty if the index cannot narrow the search usefully:
+     *     it has not been built yet, the term is shorter than a trigram or too many athletes match
+     */
+    public Optional<Set<Long>> candidates(final String search) {
+        final Set<String> grams = trigrams(search);
+        if (!ready || grams.isEmpty()) {
+            return Optional.empty();
+        }
+
+        final Map<String, Set<Long>> postings = live.postings;
+        final List<Set<Long>> lists = new ArrayList<>(grams.size());
+        for (String gram : grams) {
+            final Set<Long> list = postings.get(gram);
+            if (list == null || list.isEmpty()) {
+                return Optional.of(Set.of());
+            }
+            lists.add(list);
+        }
+        // Intersect starting from the rarest trigram so the working set is as small as possible
+        lists.sort(Comparator.comparingInt(Set::size));
+        if (lists.getFirst().size() > maxCandidates * 10L) {
+            return Optional.empty();
+        }
+
+        final Set<Long> result = new HashSet<>(lists.getFirst());
+        for (int i = 1; i < lists.size() && !result.isEmpty(); i++) {
+            result.retainAll(lists.get(i));
+        }
+        return result.size() > maxCandidates ? Optional.empty() : Optional.of(Collections.unmodifiableSet(result));
+    }
+
+    // --- Private helper methods ---
+
+    /**
+     * Applies a change to the live index and to the one being rebuilt, if any. The index being rebuilt is
+     * read first: once it is gone it has become the live index.
+     */
+    private void forEachIndex(final Consumer<Index> change) {
+        final Index rebuilding = building;
+        if (rebuilding != null) {
+            change.accept(rebuilding);
+        }
+        final Index current = live;
+        if (current != rebuilding) {
+            change.accept(current);
+        }
+    }
+
+    private static void afterCommit(final Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+
+    private static Set<String> trigrams(final String value) {
+        final Set<String> grams = new HashSet<>();
+        if (value == null) {
+            return grams;
+        }
+        final String text = value.toLowerCase(Locale.ROOT);
+        for (int i = 0; i + GRAM <= text.length(); i++) {
+            grams.add(text.substring(i, i + GRAM));
+        }
+        return grams;
+    }
+
+    /**
+     * Postings per trigram and the names they were built from.
+     */
+    private static final class Index {
+        private final Map<String, Set<Long>> postings = new ConcurrentHashMap<>();
+        private final Map<Long, Names> names = new ConcurrentHashMap<>();
+
+        /**
+         * Indexes the athlete's names, replacing its previous names once the current transaction commits.
+         */
+        void add(final Long id, final Names current) {
+            final Names previous = names.put(id, current);
+            if (current.equals(previous)) {
+                return;
+            }
+            post(id, current);
+            if (previous != null) {
+                afterCommit(() -> prune(id, previous));
+            }
+        }
+
+        /**
+         * Indexes names read by a rebuild. Names a concurrent write indexed first are kept, and nothing is
+         * pruned, so a scan that read a row before the write committed can only over-report.
+         */
+        void merge(final Long id, final Names scanned) {
+            final Names current = names.putIfAbsent(id, scanned);
+            post(id, scanned);
+            if (current != null && !current.equals(scanned)) {
+                post(id, current);
+            }
+        }
+
+        void remove(final Long id) {
+            final Names previous = names.remove(id);
+            if (previous != null) {
+                prune(id, previous);
+            }
+        }
+
+        private void post(final Long id, final Names current) {
+            for (String gram : current.trigrams()) {
+                // Mutate inside compute so a concurrent prune cannot drop the list this ID is added to
+                postings.compute(gram, (key, list) -> {
+                    final Set<Long> ids = list != null ? list : ConcurrentHashMap.newKeySet();
+                    ids.add(id);
+                    return ids;
+                });
+            }
+        }
+
+        /**
+         * Drops postings for trigrams the athlete no longer has. Evaluated against the names indexed at the
+         * time it runs, so a deferred prune cannot undo a later update.
+         */
+        private void prune(final Long id, final Names stale) {
+            final Names current = names.get(id);
+            final Set<String> keep = current == null ? Set.of() : current.trigrams();
+            for (String gram : stale.trigrams()) {
+                if (!keep.contains(gram)) {
+                    postings.computeIfPresent(gram, (key, list) -> {
+                        list.remove(id);
+                        return list.isEmpty() ? null : list;
+                    });
+                }
+            }
+        }
+    }
+
+    private record Names(String firstName, String lastName) {
+        static Names of(final Athlete athlete) {
+            return new Names(athlete.getFirstName(), athlete.getLastName());
+        }
+
+        Set<String> trigrams() {
+            final Set<String> grams = AthleteNameIndex.trigrams(firstName);
+            grams.addAll(AthleteNameIndex.trigrams(lastName));
+            return grams;
+        }
+    }
+}
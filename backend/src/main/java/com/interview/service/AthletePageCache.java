@@ -0,0 +1,170 @@
+package com.interview.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.interview.config.AthleteCacheProperties;
+import com.interview.dto.AthleteResponse;
+import com.interview.dto.PagedResponse;
+import com.interview.repository.AthleteFilter;
+import com.interview.repository.CurrentReads;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.time.Instant;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Component;
+
+/**
+ * Caches finished list responses so the most frequent listings skip both the page query and the count.
+ * <p>
+ * Entries are keyed by (normalized filter, page, size, sort, withTotal, fields, generation) and every write advances
+ * the {@link CacheGeneration}, so invalidation never scans keys. Memory is capped by entry count with
+ * Caffeine's TinyLFU admission policy. Aggregate statistics are published to Micrometer under the cache name
+ * {@code athlete-pages}; per-key hit counts are available through {@link #hottest(int)}.
+ * </p>
+ * <p>
+ * Cached responses are shared between requests and must not be modified by callers.
+ * </p>
+ */
+@Component
+public class AthletePageCache {
+
+    public static final String CACHE_NAME = "athlete-pages";
+
+    private final Cache<Key, Entry> pages;
+    private final CacheGeneration generation = new CacheGeneration();
+    private final RequestCoalescer coalescer;
+
+    public AthletePageCache(
+            final AthleteCacheProperties properties,
+            final MeterRegistry meterRegistry,
+            final RequestCoalescer coalescer) {
+        this.coalescer = coalescer;
+        this.pages = Caffeine.newBuilder()
+                .maximumSize(properties.getPage().getMaximumSize())
+                .expireAfterWrite(properties.getPage().getTtl())
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, pages, CACHE_NAME);
+    }
+
+    /**
+     * Returns the cached response for the listing, building it with the given loader on a miss.
+     * Concurrent misses for the same listing share a single build, which sees every committed write (see
+     * {@link CurrentReads}).
+     *
+     * @param filter     the normalized filter
+     * @param pageable   the requested page and sort
+     * @param withTotal  whether the response includes totals
+     * @param fields     the selected fields, or null for every field
+     * @param loader     builds the response from the database
+     * @return the shared, cached response
+     */
+    public PagedResponse<AthleteResponse> get(
+            final AthleteFilter filter,
+            final Pageable pageable,
+            final boolean withTotal,
+            final Set<String> fields,
+            final Supplier<PagedResponse<AthleteResponse>> loader) {
+        final Key key = new Key(
+                filter,
+                pageable.getPageNumber(),
+                pageable.getPageSize(),
+                pageable.getSort().toString(),
+                withTotal,
+                fields,
+                generation.current());
+        final Entry cached = pages.getIfPresent(key);
+        if (cached != null) {
+            cached.hits().increment();
+            return cached.response();
+        }
+        // Only one caller per listing runs the queries; concurrent callers wait for its result
+        return coalescer.execute("list", key, () -> load(key, loader)).response();
+    }
+
+    /**
+     * Invalidates all cached responses now and again once the current transaction, if any, commits.
+     */
+    public void invalidate() {
+        generation.advance();
+    }
+
+    /**
+     * Reports the most frequently hit listings of the current generation.
+     *
+     * @param limit maximum number of listings to report
+     * @return per-listing hit counts, most hit first
+     */
+    public List<PageStats> hottest(final int limit) {
+        final long current = generation.current();
+        return pages.asMap().entrySet().stream()
+                .filter(e -> e.getKey().generation() == current)
+                .map(e -> e.getKey().toStats(e.getValue()))
+                .sorted(Comparator.comparingLong(PageStats::hits).reversed())
+                .limit(limit)
+                .toList();
+    }
+
+    /**
+     * Hit count of a single cached listing.
+     *
+     * @param filter     the normalized filter
+     * @param page       the page number
+     * @param size       the page size
+     * @param sort       the sort order
+     * @param withTotal  whether the response includes totals
+     * @param fields     the selected fields, or null for every field
+     * @param hits       requests served from the cache since the entry was built
+     * @param cachedAt   when the entry was built
+     */
+    public record PageStats(
+            AthleteFilter filter,
+            int page,
+            int size,
+            String sort,
+            boolean withTotal,
+            Set<String> fields,
+            long hits,
+            Instant cachedAt) {}
+
+    // --- Private helper methods ---
+
+    /**
+     * Builds a response without holding any lock of the cache, so a build waiting for a connection blocks
+     * neither other listings nor, on a virtual thread, its carrier. A response built while a write advanced
+     * the generation is handed to its callers but not published.
+     */
+    private Entry load(final Key key, final Supplier<PagedResponse<AthleteResponse>> loader) {
+        final Entry loaded = new Entry(CurrentReads.call(loader), Instant.now());
+        if (generation.current() != key.generation()) {
+            return loaded;
+        }
+        final Entry current = pages.asMap().putIfAbsent(key, loaded);
+        return current != null ? current : loaded;
+    }
+
+    private record Key(
+            AthleteFilter filter,
+            int page,
+            int size,
+            String sort,
+            boolean withTotal,
+            Set<String> fields,
+            long generation) {
+        PageStats toStats(final Entry entry) {
+            return new PageStats(
+                    filter, page, size, sort, withTotal, fields, entry.hits().sum(), entry.cachedAt());
+        }
+    }
+
+    private record Entry(PagedResponse<AthleteResponse> response, Instant cachedAt, LongAdder hits) {
+        Entry(final PagedResponse<AthleteResponse> response, final Instant cachedAt) {
+            this(response, cachedAt, new LongAdder());
+        }
+    }
+}
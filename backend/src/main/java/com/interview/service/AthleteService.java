@@ -1,9 +1,20 @@
 package com.interview.service;
 
 import com.interview.model.Athlete;
+import com.interview.model.AthleteRow;
+import com.interview.repository.AthleteFilter;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
 import org.springframework.data.jpa.domain.Specification;
 
 /**
@@ -28,10 +39,54 @@ public interface AthleteService {
     Page<Athlete> findAll(Specification<Athlete> spec, Pageable pageable);
 
     /**
-     * Retrieves an athlete by ID.
+     * Retrieves athletes matching the filter with pagination as read-only rows selected straight from the
+     * columns, without loading entities. The total count is cached per normalized filter until the next write.
+     *
+     * @param filter     filter criteria
+     * @param pageable   pagination and sorting parameters
+     * @param attributes entity attributes to select, or null for all; the others are null in the rows
+     * @return page of filtered rows
+     */
+    Page<AthleteRow> findRows(AthleteFilter filter, Pageable pageable, Set<String> attributes);
+
+    /**
+     * Retrieves a slice of athletes matching the filter as read-only rows, without computing a total count.
+     * Fetches one extra row to determine whether a next page exists.
+     *
+     * @param filter     filter criteria
+     * @param pageable   pagination and sorting parameters
+     * @param attributes entity attributes to select, or null for all; the others are null in the rows
+     * @return slice of filtered rows
+     */
+    Slice<AthleteRow> findRowSlice(AthleteFilter filter, Pageable pageable, Set<String> attributes);
+
+    /**
+     * Retrieves the window of athletes following the given keyset position.
+     * Seeks directly past the position instead of using an offset and never issues a COUNT query.
+     *
+     * @param filter   filter criteria
+     * @param position keyset position to continue from
+     * @param sort     sort order, must end with a unique key
+     * @param limit    maximum number of athletes to return
+     * @return window of filtered athletes
+     */
+    Window<Athlete> findAll(AthleteFilter filter, ScrollPosition position, Sort sort, int limit);
+
+    /**
+     * Streams every athlete matching the filter, in id order, to the given action.
+     * Rows are read through a forward-only cursor and detached as they go, so memory stays constant.
+     *
+     * @param filter filter criteria
+     * @param action callback invoked for each athlete
+     * @return number of athletes exported
+     */
+    long export(AthleteFilter filter, Consumer<Athlete> action);
+
+    /**
+     * Retrieves an athlete by ID, served from the entity cache when possible.
      *
      * @param id the athlete's ID
-     * @return the athlete
+     * @return a detached copy of the athlete
      * @throws com.interview.exception.AthleteNotFoundException if not found
      */
     Athlete findById(Long id);
@@ -45,9 +100,63 @@ public interface AthleteService {
     Athlete save(Athlete athlete);
 
     /**
-     * Deletes an athlete by ID.
+     * Applies a partial update with a single UPDATE statement that writes only the given columns and skips
+     * the write entirely if the row already holds every value. The athlete is not read beforehand.
+     *
+     * @param id       the athlete's ID
+     * @param changes  entity attribute names mapped to their new values
+     * @param versions versions the athlete is expected to have, or null for an unconditional update
+     * @return true if the athlete changed, false if it already held the values or no changes were given
+     * @throws com.interview.exception.AthleteNotFoundException if not found
+     * @throws com.interview.exception.PreconditionFailedException if the athlete has another version
+     * @throws com.interview.exception.DuplicateAthleteException if the change collides with another athlete
+     */
+    boolean patch(Long id, Map<String, Object> changes, Collection<Long> versions);
+
+    /**
+     * Creates many athletes in one transaction.
+     * Duplicates are detected for the whole batch with a single set-based query, both against existing
+     * athletes and within the batch itself, and inserts are sent as JDBC batches. Should another writer commit
+     * one of the athletes after that check, the batch is retried one athlete per transaction, so only the
+     * conflicting athletes are reported as duplicates. Must therefore be called outside a transaction.
+     *
+     * @param athletes the new athletes to create
+     * @return one entry per input athlete, in order: the created athlete, or empty if it was a duplicate
+     */
+    List<Optional<Athlete>> createAll(List<Athlete> athletes);
+
+    /**
+     * Deletes an athlete by ID with a single statement. Deleting an athlete that does not exist is a no-op.
      *
      * @param id the athlete's ID
      */
     void deleteById(Long id);
+
+    /**
+     * Deletes an athlete by ID with a single statement, provided it exists with one of the expected versions.
+     *
+     * @param id       the athlete's ID
+     * @param versions versions the athlete is expected to have, or null to accept any version
+     * @throws com.interview.exception.PreconditionFailedException if the athlete does not exist or has
+     *     another version
+     */
+    void deleteById(Long id, Collection<Long> versions);
+
+    /**
+     * Deletes the athletes with the given IDs using set-based deletes of at most the configured chunk size.
+     * Each chunk commits on its own, so a long cleanup never holds locks on the whole set.
+     *
+     * @param ids the athletes' IDs; unknown IDs are ignored
+     * @return number of athletes deleted
+     */
+    long deleteAllById(Collection<Long> ids);
+
+    /**
+     * Deletes every athlete matching the filter, in chunks of IDs selected in ascending order and removed
+     * with set-based deletes. Each chunk commits on its own.
+     *
+     * @param filter filter criteria, as accepted by the list endpoints
+     * @return number of athletes deleted
+     */
+    long deleteAll(AthleteFilter filter);
 }
@@ -2,29 +2,74 @@ package com.interview.service;
 
 import com.interview.exception.AthleteNotFoundException;
 import com.interview.exception.DuplicateAthleteException;
+import com.interview.exception.PreconditionFailedException;
 import com.interview.model.Athlete;
+import com.interview.model.AthleteKey;
+import com.interview.model.AthleteRow;
+import com.interview.repository.AthleteFilter;
 import com.interview.repository.AthleteRepository;
+import com.interview.repository.AthleteSpecification;
+import io.micrometer.core.annotation.Timed;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
 import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.support.PageableExecutionUtils;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 @Slf4j
 @Service
 @RequiredArgsConstructor
+@Timed(value = AthleteServiceImpl.TIMER, description = "Time spent in athlete service methods")
 public class AthleteServiceImpl implements AthleteService {
 
+    /**
+     * Timer of every public method, tagged with {@code class}, {@code method} and {@code exception}.
+     */
+    public static final String TIMER = "athlete.service";
+
+    /**
+     * Attributes that make up the natural key, and with it the indexed names.
+     */
+    private static final Set<String> KEY_ATTRIBUTES = Set.of("firstName", "lastName", "birthTimestamp");
+
     private final AthleteRepository repository;
+    private final AthleteCountCache countCache;
+    private final AthleteNameIndex nameIndex;
+    private final AthleteEntityCache entityCache;
+    private final AthletePageCache pageCache;
+    private final AthleteKeyFilter keyFilter;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${athlete.delete.chunk-size:1000}")
+    private int deleteChunkSize;
 
     @Override
     public List<Athlete> findAll() {
         log.debug("Fetching all athletes");
         final List<Athlete> athletes = repository.findAll();
-        log.info("Retrieved {} athletes", athletes.size());
+        log.debug("Retrieved {} athletes", athletes.size());
         return athletes;
     }
 
@@ -35,7 +80,7 @@ public class AthleteServiceImpl implements AthleteService {
                 pageable.getPageNumber(),
                 pageable.getPageSize());
         final Page<Athlete> athletePage = repository.findAll(spec, pageable);
-        log.info(
+        log.debug(
                 "Retrieved {} athletes matching filters (page {} of {})",
                 athletePage.getNumberOfElements(),
                 pageable.getPageNumber() + 1,
@@ -43,13 +88,72 @@ public class AthleteServiceImpl implements AthleteService {
         return athletePage;
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public Page<AthleteRow> findRows(
+            final AthleteFilter filter, final Pageable pageable, final Set<String> attributes) {
+        log.debug(
+                "Fetching athlete rows with filters and pagination: page={}, size={}",
+                pageable.getPageNumber(),
+                pageable.getPageSize());
+        final AthleteFilter normalized = filter.normalized();
+        final Specification<Athlete> spec = specification(normalized);
+        final Slice<AthleteRow> slice = repository.findRows(spec, pageable, attributes);
+        final Page<AthleteRow> rowPage = PageableExecutionUtils.getPage(
+                slice.getContent(), pageable, () -> countCache.get(normalized, () -> repository.count(spec)));
+        log.debug(
+                "Retrieved {} athlete rows matching filters (page {} of {})",
+                rowPage.getNumberOfElements(),
+                pageable.getPageNumber() + 1,
+                rowPage.getTotalPages());
+        return rowPage;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Slice<AthleteRow> findRowSlice(
+            final AthleteFilter filter, final Pageable pageable, final Set<String> attributes) {
+        log.debug(
+                "Fetching athlete row slice with filters: page={}, size={}",
+                pageable.getPageNumber(),
+                pageable.getPageSize());
+        final Slice<AthleteRow> slice = repository.findRows(specification(filter.normalized()), pageable, attributes);
+        log.debug(
+                "Retrieved {} athlete rows matching filters (page {}, hasNext={})",
+                slice.getNumberOfElements(),
+                pageable.getPageNumber() + 1,
+                slice.hasNext());
+        return slice;
+    }
+
+    @Override
+    public Window<Athlete> findAll(
+            final AthleteFilter filter, final ScrollPosition position, final Sort sort, final int limit) {
+        log.debug("Fetching athletes with filters and keyset position: limit={}, sort={}", limit, sort);
+        final Specification<Athlete> spec = specification(filter.normalized());
+        final Window<Athlete> window =
+                repository.findBy(spec, query -> query.sortBy(sort).limit(limit).scroll(position));
+        log.debug("Retrieved {} athletes matching filters (hasNext={})", window.size(), window.hasNext());
+        return window;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public long export(final AthleteFilter filter, final Consumer<Athlete> action) {
+        log.debug("Exporting athletes with filters");
+        final Specification<Athlete> spec = specification(filter.normalized());
+        final long exported = repository.forEach(spec, Sort.by(Sort.Direction.ASC, "id"), action);
+        log.debug("Exported {} athletes matching filters", exported);
+        return exported;
+    }
+
     @Override
     public Athlete findById(final Long id) {
         log.debug("Fetching athlete with id: {}", id);
-        return repository
-                .findById(id)
+        return entityCache
+                .get(id, repository::findById)
                 .map(athlete -> {
-                    log.info("Found athlete: id={}, name={} {}", id, athlete.getFirstName(), athlete.getLastName());
+                    log.debug("Found athlete: id={}, name={} {}", id, athlete.getFirstName(), athlete.getLastName());
                     return athlete;
                 })
                 .orElseThrow(() -> {
@@ -62,21 +166,39 @@ public class AthleteServiceImpl implements AthleteService {
     @Transactional
     public Athlete save(final Athlete athlete) {
         final boolean isNewAthlete = athlete.getId() == null;
+        final AthleteKey key = AthleteKey.of(athlete);
+        AthleteKey previousKey = null;
 
         if (isNewAthlete) {
             log.debug("Creating new athlete: {} {}", athlete.getFirstName(), athlete.getLastName());
 
-            // Check for duplicates when creating new athlete
-            if (repository.existsByFirstNameAndLastNameAndBirthTimestamp(
-                    athlete.getFirstName(), athlete.getLastName(), athlete.getBirthTimestamp())) {
+            // Only look for a duplicate if the key filter cannot rule one out; the unique constraint backs this up
+            if (keyFilter.mightContain(key)
+                    && repository.existsByFirstNameAndLastNameAndBirthTimestamp(
+                            athlete.getFirstName(), athlete.getLastName(), athlete.getBirthTimestamp())) {
                 log.warn("Attempted to create duplicate athlete: {} {}", athlete.getFirstName(), athlete.getLastName());
                 throw new DuplicateAthleteException(athlete.getFirstName(), athlete.getLastName());
             }
         } else {
             log.debug("Updating athlete with id: {}", athlete.getId());
+            // Loads the row into the persistence context, so the merge below does not select it again
+            previousKey =
+                    repository.findById(athlete.getId()).map(AthleteKey::of).orElse(null);
         }
 
-        final Athlete saved = repository.save(athlete);
+        final Athlete saved = saveAndFlush(athlete);
+        if (!isNewAthlete) {
+            entityCache.evict(saved.getId());
+        }
+        if (!key.equals(previousKey)) {
+            keyFilter.add(key);
+            if (previousKey != null) {
+                keyFilter.remove(previousKey);
+            }
+        }
+        nameIndex.add(saved);
+        countCache.invalidate();
+        pageCache.invalidate();
 
         if (isNewAthlete) {
             log.info(
@@ -88,15 +210,269 @@ public class AthleteServiceImpl implements AthleteService {
         return saved;
     }
 
+    @Override
+    @Transactional
+    public boolean patch(final Long id, final Map<String, Object> changes, final Collection<Long> versions) {
+        log.debug("Patching athlete with id: {}, fields: {}", id, changes.keySet());
+        if (versions != null && versions.isEmpty()) {
+            throw new PreconditionFailedException(id);
+        }
+        final int updated;
+        try {
+            updated = changes.isEmpty() ? 0 : repository.update(id, changes, versions);
+        } catch (DataIntegrityViolationException ex) {
+            if (isDuplicateCheckViolation(ex)) {
+                final Athlete existing = repository.findById(id).orElseThrow(() -> new AthleteNotFoundException(id));
+                final Athlete patched = existing.toBuilder().build();
+                changes.forEach((attribute, value) -> setName(patched, attribute, value));
+                log.warn("Patch would duplicate athlete: {} {}", patched.getFirstName(), patched.getLastName());
+                throw new DuplicateAthleteException(patched.getFirstName(), patched.getLastName());
+            }
+            throw ex;
+        }
+
+        if (updated == 0) {
+            // The athlete is missing, has another version or already holds the values; only this path reads
+            final Long version = repository.findVersionById(id).orElseThrow(() -> {
+                log.warn("Attempted to patch non-existent athlete with id: {}", id);
+                return new AthleteNotFoundException(id);
+            });
+            if (versions != null && !versions.contains(version)) {
+                log.warn("Rejected patch of athlete with id: {}, version {} not in {}", id, version, versions);
+                throw new PreconditionFailedException(id);
+            }
+            log.debug("Patch left athlete unchanged: id={}", id);
+            return false;
+        }
+
+        entityCache.evict(id);
+        if (!Collections.disjoint(changes.keySet(), KEY_ATTRIBUTES)) {
+            // Names or birth date changed: re-index from the updated row, the previous key stays in the filter
+            repository.findById(id).ifPresent(athlete -> {
+                keyFilter.add(AthleteKey.of(athlete));
+                nameIndex.add(athlete);
+            });
+        }
+        countCache.invalidate();
+        pageCache.invalidate();
+        log.info("Patched athlete: id={}, fields: {}", id, changes.keySet());
+        return true;
+    }
+
+    @Override
+    public List<Optional<Athlete>> createAll(final List<Athlete> athletes) {
+        log.debug("Creating batch of {} athletes", athletes.size());
+        if (athletes.isEmpty()) {
+            return List.of();
+        }
+
+        List<Optional<Athlete>> results;
+        try {
+            results = transactionTemplate.execute(status -> insertAll(athletes));
+        } catch (DuplicateAthleteException ex) {
+            // Another writer committed one of the keys after the duplicate check; the failed flush rolled the whole
+            // batch back, so retry each athlete in its own transaction to single out the conflicting ones
+            log.warn("Batch of {} athletes hit the duplicate constraint, retrying one by one", athletes.size());
+            results = new ArrayList<>(athletes.size());
+            for (Athlete athlete : athletes) {
+                results.add(insertOne(athlete));
+            }
+        }
+
+        log.info(
+                "Created {} of {} athletes in batch",
+                results.stream().filter(Optional::isPresent).count(),
+                athletes.size());
+        return results;
+    }
+
     @Override
     @Transactional
     public void deleteById(final Long id) {
         log.debug("Attempting to delete athlete with id: {}", id);
-        if (repository.existsById(id)) {
-            repository.deleteById(id);
+        if (repository.removeById(id) > 0) {
+            evictDeleted(List.of(id));
             log.info("Deleted athlete with id: {}", id);
         } else {
             log.warn("Attempted to delete non-existent athlete with id: {}", id);
         }
     }
+
+    @Override
+    @Transactional
+    public void deleteById(final Long id, final Collection<Long> versions) {
+        log.debug("Attempting to delete athlete with id: {}, versions: {}", id, versions);
+        final int deleted = versions == null
+                ? repository.removeById(id)
+                : versions.isEmpty() ? 0 : repository.removeByIdAndVersionIn(id, versions);
+        if (deleted == 0) {
+            log.warn("Rejected delete of athlete with id: {}, not found with versions {}", id, versions);
+            throw new PreconditionFailedException(id);
+        }
+        evictDeleted(List.of(id));
+        log.info("Deleted athlete with id: {}", id);
+    }
+
+    @Override
+    public long deleteAllById(final Collection<Long> ids) {
+        log.debug("Deleting {} athletes by id", ids.size());
+        final List<Long> distinct = List.copyOf(new LinkedHashSet<>(ids));
+        long deleted = 0;
+        for (int from = 0; from < distinct.size(); from += deleteChunkSize) {
+            deleted += deleteChunk(distinct.subList(from, Math.min(from + deleteChunkSize, distinct.size())));
+        }
+        log.info("Deleted {} of {} athletes by id", deleted, distinct.size());
+        return deleted;
+    }
+
+    @Override
+    public long deleteAll(final AthleteFilter filter) {
+        log.debug("Deleting athletes with filters");
+        final Specification<Athlete> spec = specification(filter.normalized());
+        long deleted = 0;
+        List<Long> ids = repository.findIds(spec, null, deleteChunkSize);
+        while (!ids.isEmpty()) {
+            deleted += deleteChunk(ids);
+            ids = ids.size() < deleteChunkSize ? List.of() : repository.findIds(spec, ids.getLast(), deleteChunkSize);
+        }
+        log.info("Deleted {} athletes matching filters", deleted);
+        return deleted;
+    }
+
+    // --- Private helper methods ---
+
+    /**
+     * Deletes one chunk with a single statement in its own transaction, then drops the deleted athletes
+     * from the caches and the name index.
+     */
+    private int deleteChunk(final List<Long> ids) {
+        final int deleted = repository.removeAllById(ids);
+        if (deleted > 0) {
+            evictDeleted(ids);
+        }
+        return deleted;
+    }
+
+    /**
+     * Drops deleted athletes from every in-memory structure. Their keys stay in the key filter, which only
+     * costs a duplicate lookup should the same athlete be created again.
+     */
+    private void evictDeleted(final Collection<Long> ids) {
+        ids.forEach(entityCache::evict);
+        ids.forEach(nameIndex::remove);
+        countCache.invalidate();
+        pageCache.invalidate();
+    }
+
+    /**
+     * Inserts a batch within the current transaction. Duplicates are detected for the whole batch with a single
+     * set-based query; the unique constraint catches those that commit concurrently.
+     *
+     * @throws DuplicateAthleteException if an athlete was committed by another writer after the check
+     */
+    private List<Optional<Athlete>> insertAll(final List<Athlete> athletes) {
+        // Only keys the filter cannot rule out need to be checked against the table
+        final Set<String> firstNames = new HashSet<>();
+        final Set<String> lastNames = new HashSet<>();
+        final Set<Long> birthTimestamps = new HashSet<>();
+        for (Athlete athlete : athletes) {
+            if (keyFilter.mightContain(AthleteKey.of(athlete))) {
+                firstNames.add(athlete.getFirstName());
+                lastNames.add(athlete.getLastName());
+                birthTimestamps.add(athlete.getBirthTimestamp());
+            }
+        }
+        final Set<AthleteKey> taken = firstNames.isEmpty()
+                ? new HashSet<>()
+                : new HashSet<>(repository.findKeysIn(firstNames, lastNames, birthTimestamps));
+
+        final List<Athlete> accepted = new ArrayList<>(athletes.size());
+        final List<Optional<Athlete>> results = new ArrayList<>(athletes.size());
+        for (Athlete athlete : athletes) {
+            if (taken.add(AthleteKey.of(athlete))) {
+                accepted.add(athlete);
+                results.add(Optional.of(athlete));
+            } else {
+                log.warn("Skipped duplicate athlete in batch: {} {}", athlete.getFirstName(), athlete.getLastName());
+                results.add(Optional.empty());
+            }
+        }
+
+        repository.saveAll(accepted);
+        flush(accepted.isEmpty() ? null : accepted.getFirst());
+        accepted.forEach(athlete -> keyFilter.add(AthleteKey.of(athlete)));
+        accepted.forEach(nameIndex::add);
+        countCache.invalidate();
+        pageCache.invalidate();
+        return results;
+    }
+
+    /**
+     * Inserts a single athlete of a rolled-back batch in its own transaction, returning empty if it is a duplicate.
+     */
+    private Optional<Athlete> insertOne(final Athlete athlete) {
+        // The rolled-back attempt left its id and version on the athlete, which would turn the insert into a merge
+        athlete.setId(null);
+        athlete.setVersion(null);
+        try {
+            return transactionTemplate.execute(
+                    status -> insertAll(List.of(athlete)).getFirst());
+        } catch (DuplicateAthleteException ex) {
+            return Optional.empty();
+        }
+    }
+
+    private static void setName(final Athlete athlete, final String attribute, final Object value) {
+        if ("firstName".equals(attribute)) {
+            athlete.setFirstName((String) value);
+        } else if ("lastName".equals(attribute)) {
+            athlete.setLastName((String) value);
+        }
+    }
+
+    private Athlete saveAndFlush(final Athlete athlete) {
+        final Athlete saved = repository.save(athlete);
+        flush(athlete);
+        return saved;
+    }
+
+    /**
+     * Flushes pending writes so unique constraint violations surface here, translated into
+     * {@link DuplicateAthleteException} for the given athlete.
+     */
+    private void flush(final Athlete athlete) {
+        try {
+            repository.flush();
+        } catch (DataIntegrityViolationException ex) {
+            if (athlete != null && isDuplicateCheckViolation(ex)) {
+                log.warn(
+                        "Duplicate athlete rejected by constraint: {} {}",
+                        athlete.getFirstName(),
+                        athlete.getLastName());
+                throw new DuplicateAthleteException(athlete.getFirstName(), athlete.getLastName());
+            }
+            throw ex;
+        }
+    }
+
+    private static boolean isDuplicateCheckViolation(final DataIntegrityViolationException ex) {
+        return ex.getCause() instanceof ConstraintViolationException violation
+                && violation.getConstraintName() != null
+                && violation.getConstraintName().toLowerCase(Locale.ROOT).contains(Athlete.DUPLICATE_CHECK_CONSTRAINT);
+    }
+
+    /**
+     * Builds the specification for a normalized filter. Name searches are narrowed to candidate IDs through
+     * the trigram index; the name predicate stays in place as a recheck because the index may over-report.
+     */
+    private Specification<Athlete> specification(final AthleteFilter filter) {
+        final Specification<Athlete> spec = AthleteSpecification.matching(filter);
+        if (filter.search() == null) {
+            return spec;
+        }
+        return nameIndex
+                .candidates(filter.search())
+                .map(ids -> spec.and(AthleteSpecification.idIn(ids)))
+                .orElse(spec);
+    }
 }
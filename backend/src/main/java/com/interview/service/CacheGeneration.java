@@ -0,0 +1,34 @@
+package com.interview.service;
+
+import java.util.concurrent.atomic.AtomicLong;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Generation counter for caches that invalidate by making every existing key unreachable.
+ * <p>
+ * Caches include the current generation in their keys; advancing it invalidates all entries in O(1) and the
+ * orphaned entries age out of the bounded cache. The generation advances again once the writing transaction
+ * commits, so a value computed while the write was still in flight cannot survive.
+ * </p>
+ */
+final class CacheGeneration {
+
+    private final AtomicLong value = new AtomicLong();
+
+    long current() {
+        return value.get();
+    }
+
+    void advance() {
+        value.incrementAndGet();
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    value.incrementAndGet();
+                }
+            });
+        }
+    }
+}
@@ -0,0 +1,98 @@
+package com.interview.service;
+
+import com.interview.exception.ServiceOverloadedException;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Collapses concurrent identical calls into one ("single flight").
+ * <p>
+ * The first caller for a key runs the loader on its own thread; callers arriving while it is in flight wait
+ * for its result instead of taking their own database connection. Followers wait at most
+ * {@code athlete.coalescing.max-wait} and are then shed with {@link ServiceOverloadedException}. If the loader
+ * fails, every waiting caller receives the same exception.
+ * </p>
+ * <p>
+ * Outcomes are counted in the {@code athlete.coalescing.calls} meter, tagged with the flight name and a
+ * result of {@code executed}, {@code collapsed} or {@code timed_out}.
+ * </p>
+ */
+@Component
+public class RequestCoalescer {
+
+    private static final String METER = "athlete.coalescing.calls";
+
+    private final Map<Flight, CompletableFuture<Object>> inFlight = new ConcurrentHashMap<>();
+    private final MeterRegistry meterRegistry;
+    private final Duration maxWait;
+
+    public RequestCoalescer(
+            final MeterRegistry meterRegistry, @Value("${athlete.coalescing.max-wait:PT2S}") final Duration maxWait) {
+        this.meterRegistry = meterRegistry;
+        this.maxWait = maxWait;
+    }
+
+    /**
+     * Runs the loader, or joins an identical call already in flight.
+     *
+     * @param name   the kind of call, used as metric tag and to separate key spaces
+     * @param key    identifies identical calls within the name
+     * @param loader computes the result
+     * @return the result, shared with any concurrent callers of the same key
+     * @throws ServiceOverloadedException if the in-flight call did not finish within the maximum wait
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T execute(final String name, final Object key, final Supplier<T> loader) {
+        final Flight flight = new Flight(name, key);
+        final CompletableFuture<Object> own = new CompletableFuture<>();
+        final CompletableFuture<Object> leader = inFlight.putIfAbsent(flight, own);
+
+        if (leader == null) {
+            count(name, "executed");
+            try {
+                final T result = loader.get();
+                own.complete(result);
+                return result;
+            } catch (RuntimeException | Error ex) {
+                own.completeExceptionally(ex);
+                throw ex;
+            } finally {
+                inFlight.remove(flight, own);
+            }
+        }
+
+        count(name, "collapsed");
+        try {
+            return (T) leader.get(maxWait.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException ex) {
+            count(name, "timed_out");
+            throw new ServiceOverloadedException("Timed out waiting for concurrent " + name + " call");
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new ServiceOverloadedException("Interrupted waiting for concurrent " + name + " call");
+        } catch (ExecutionException ex) {
+            if (ex.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (ex.getCause() instanceof Error cause) {
+                throw cause;
+            }
+            throw new IllegalStateException(ex.getCause());
+        }
+    }
+
+    private void count(final String name, final String result) {
+        meterRegistry.counter(METER, "name", name, "result", result).increment();
+    }
+
+    private record Flight(String name, Object key) {}
+}
@@ -0,0 +1,59 @@
+package com.interview.benchmark;
+
+import com.interview.dto.AthleteMapper;
+import com.interview.dto.AthleteRequest;
+import com.interview.dto.AthleteResponse;
+import com.interview.model.Athlete;
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the entity/DTO conversions every athlete read and write goes through, including the conversion
+ * between birth dates and stored timestamps.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AthleteMapperBenchmark {
+
+    private Athlete athlete;
+    private AthleteRequest request;
+
+    @Setup
+    public void setUp() {
+        request = new AthleteRequest(
+                "Usain",
+                "Bolt",
+                LocalDate.of(1986, 8, 21),
+                "Jamaica",
+                "Sprint",
+                "9.58",
+                "Eight-time Olympic gold medalist");
+        athlete = AthleteMapper.toDomain(request);
+        athlete.setId(42L);
+        athlete.setVersion(3L);
+    }
+
+    @Benchmark
+    public AthleteResponse toResponse() {
+        return AthleteMapper.toResponse(athlete);
+    }
+
+    @Benchmark
+    public Athlete toDomain() {
+        return AthleteMapper.toDomain(request);
+    }
+}
@@ -0,0 +1,76 @@
+package com.interview.benchmark;
+
+import com.interview.model.Athlete;
+import com.interview.repository.AthleteFilter;
+import com.interview.repository.AthleteSpecification;
+import com.interview.repository.MatchMode;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Predicate;
+import java.util.concurrent.TimeUnit;
+import org.hibernate.SessionFactory;
+import org.hibernate.cfg.Configuration;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.jpa.domain.Specification;
+
+/**
+ * Measures turning list request parameters into a criteria predicate: normalizing the {@link AthleteFilter},
+ * combining the {@link AthleteSpecification}s and building the predicate against Hibernate's criteria builder,
+ * as every list, count and export request does before reaching the database.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AthleteSpecificationBenchmark {
+
+    /**
+     * No criteria, a nationality prefix, and every criterion including a name search.
+     */
+    @Param({"none", "nationality", "all"})
+    private String criteria;
+
+    private SessionFactory sessionFactory;
+    private CriteriaBuilder criteriaBuilder;
+    private AthleteFilter filter;
+
+    @Setup
+    public void setUp() {
+        sessionFactory = new Configuration()
+                .addAnnotatedClass(Athlete.class)
+                .setProperty("hibernate.connection.url", "jdbc:h2:mem:benchmark")
+                .setProperty("hibernate.dialect", "org.hibernate.dialect.H2Dialect")
+                .buildSessionFactory();
+        criteriaBuilder = sessionFactory.getCriteriaBuilder();
+        filter = switch (criteria) {
+            case "none" -> new AthleteFilter(null, null, null);
+            case "nationality" -> new AthleteFilter(" Jamaica ", null, null);
+            default -> new AthleteFilter("Jamaica", "Sprint", "bolt", MatchMode.CONTAINS);
+        };
+    }
+
+    @TearDown
+    public void tearDown() {
+        sessionFactory.close();
+    }
+
+    @Benchmark
+    public Predicate buildPredicate() {
+        final Specification<Athlete> spec = AthleteSpecification.matching(filter.normalized());
+        final CriteriaQuery<Athlete> query = criteriaBuilder.createQuery(Athlete.class);
+        return spec.toPredicate(query.from(Athlete.class), query, criteriaBuilder);
+    }
+}
@@ -0,0 +1,153 @@
+package com.interview.benchmark;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Compares a JMH JSON result against a stored baseline and fails on regressions.
+ * <p>
+ * Results are matched by benchmark name and parameters. Two metrics are compared: the primary score, where
+ * higher is better in throughput mode and lower in every other mode, and the normalized allocation rate
+ * ({@code gc.alloc.rate.norm}, bytes per operation) reported by {@code -prof gc}. A change for the worse of
+ * more than the threshold is a regression; allocation changes of less than {@value #ALLOCATION_NOISE_BYTES}
+ * bytes per operation are ignored. Benchmarks missing from either side are listed but never fail.
+ * </p>
+ * <p>
+ * Usage: {@code BenchmarkComparison <baseline.json> <result.json> [threshold-percent]}. Exits with status 1
+ * if any benchmark regressed.
+ * </p>
+ */
+public final class BenchmarkComparison {
+
+    private static final String ALLOCATION_METRIC = "gc.alloc.rate.norm";
+    private static final double ALLOCATION_NOISE_BYTES = 16;
+    private static final double DEFAULT_THRESHOLD_PERCENT = 10;
+
+    private BenchmarkComparison() {}
+
+    public static void main(final String[] args) throws IOException {
+        if (args.length < 2) {
+            System.err.println("Usage: BenchmarkComparison <baseline.json> <result.json> [threshold-percent]");
+            System.exit(2);
+        }
+        final double threshold = args.length > 2 ? Double.parseDouble(args[2]) : DEFAULT_THRESHOLD_PERCENT;
+        final Map<String, JsonNode> baseline = load(Path.of(args[0]));
+        final Map<String, JsonNode> current = load(Path.of(args[1]));
+
+        int regressions = 0;
+        System.out.printf(
+                Locale.ROOT, "%-70s %-10s %14s %14s %9s%n", "Benchmark", "Metric", "Baseline", "Current", "Change");
+        for (Map.Entry<String, JsonNode> entry : current.entrySet()) {
+            final JsonNode before = baseline.get(entry.getKey());
+            if (before == null) {
+                System.out.printf(Locale.ROOT, "%-70s (new, no baseline)%n", entry.getKey());
+                continue;
+            }
+            final JsonNode after = entry.getValue();
+            final boolean higherIsBetter = "thrpt".equals(after.path("mode").asText());
+            final JsonNode score = after.path("primaryMetric");
+            if (report(
+                    entry.getKey(),
+                    score.path("scoreUnit").asText(),
+                    before.path("primaryMetric").path("score").asDouble(),
+                    score.path("score").asDouble(),
+                    higherIsBetter,
+                    0,
+                    threshold)) {
+                regressions++;
+            }
+            final JsonNode allocationBefore = allocation(before);
+            final JsonNode allocationAfter = allocation(after);
+            if (allocationBefore != null
+                    && allocationAfter != null
+                    && report(
+                            entry.getKey(),
+                            "B/op",
+                            allocationBefore.path("score").asDouble(),
+                            allocationAfter.path("score").asDouble(),
+                            false,
+                            ALLOCATION_NOISE_BYTES,
+                            threshold)) {
+                regressions++;
+            }
+        }
+        for (String missing : baseline.keySet()) {
+            if (!current.containsKey(missing)) {
+                System.out.printf(Locale.ROOT, "%-70s (not run)%n", missing);
+            }
+        }
+
+        if (regressions > 0) {
+            System.out.printf(Locale.ROOT, "%d regression(s) beyond %.1f%%%n", regressions, threshold);
+            System.exit(1);
+        }
+        System.out.printf(Locale.ROOT, "No regressions beyond %.1f%%%n", threshold);
+    }
+
+    // --- Private helper methods ---
+
+    /**
+     * Prints one comparison row and tells whether it is a regression.
+     */
+    private static boolean report(
+            final String benchmark,
+            final String unit,
+            final double before,
+            final double after,
+            final boolean higherIsBetter,
+            final double noise,
+            final double threshold) {
+        final double change = before == 0 ? 0 : (after - before) / before * 100;
+        final double worse = higherIsBetter ? -change : change;
+        final boolean regression = worse > threshold && Math.abs(after - before) >= noise;
+        System.out.printf(
+                Locale.ROOT,
+                "%-70s %-10s %14.3f %14.3f %+8.1f%%%s%n",
+                benchmark,
+                unit,
+                before,
+                after,
+                change,
+                regression ? "  REGRESSION" : "");
+        return regression;
+    }
+
+    /**
+     * Reads a JMH JSON result, keyed by benchmark name followed by its sorted parameters.
+     */
+    private static Map<String, JsonNode> load(final Path file) throws IOException {
+        final Map<String, JsonNode> results = new LinkedHashMap<>();
+        for (JsonNode result : new ObjectMapper().readTree(Files.readAllBytes(file))) {
+            final StringBuilder key = new StringBuilder(
+                    result.path("benchmark").asText().replaceFirst("^com\\.interview\\.benchmark\\.", ""));
+            final Map<String, String> params = new TreeMap<>();
+            for (Map.Entry<String, JsonNode> param : result.path("params").properties()) {
+                params.put(param.getKey(), param.getValue().asText());
+            }
+            params.forEach(
+                    (name, value) -> key.append(' ').append(name).append('=').append(value));
+            results.put(key.toString(), result);
+        }
+        return results;
+    }
+
+    /**
+     * The normalized allocation metric; older JMH versions prefix secondary metric names with a dot.
+     */
+    private static JsonNode allocation(final JsonNode result) {
+        for (Map.Entry<String, JsonNode> metric :
+                result.path("secondaryMetrics").properties()) {
+            if (metric.getKey().endsWith(ALLOCATION_METRIC)) {
+                return metric.getValue();
+            }
+        }
+        return null;
+    }
+}
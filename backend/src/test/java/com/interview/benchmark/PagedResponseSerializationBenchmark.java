@@ -0,0 +1,67 @@
+package com.interview.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.interview.dto.AthleteResponse;
+import com.interview.dto.PagedResponse;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+/**
+ * Measures Jackson serialization of list responses with an object mapper configured the way Spring MVC
+ * configures its own, for the default and the largest page size.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PagedResponseSerializationBenchmark {
+
+    @Param({"10", "100"})
+    private int size;
+
+    private ObjectMapper objectMapper;
+    private PagedResponse<AthleteResponse> page;
+
+    @Setup
+    public void setUp() {
+        objectMapper = Jackson2ObjectMapperBuilder.json()
+                .filters(AthleteResponse.ALL_FIELDS)
+                .build();
+        final List<AthleteResponse> content = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            content.add(AthleteResponse.builder()
+                    .id((long) i)
+                    .version(0L)
+                    .firstName("First" + i)
+                    .lastName("Last" + i)
+                    .birthDate(LocalDate.of(1990, 1, 1).plusDays(i))
+                    .nationality("Jamaica")
+                    .discipline("Sprint")
+                    .personalBest("9.58")
+                    .bio("Athlete number " + i)
+                    .build());
+        }
+        page = new PagedResponse<>(content, 0, size, 1000L, 1000 / size, true, false);
+    }
+
+    @Benchmark
+    public byte[] serialize() throws Exception {
+        return objectMapper.writeValueAsBytes(page);
+    }
+}
@@ -0,0 +1,120 @@
+package com.interview.benchmark;
+
+import com.interview.config.ClientIdentityProperties;
+import com.interview.config.ClientIds;
+import com.interview.config.ClientRateLimiter;
+import com.interview.config.RateLimitFilter;
+import com.interview.config.RateLimitProperties;
+import com.interview.config.RequestCostModel;
+import io.github.bucket4j.Bandwidth;
+import io.github.bucket4j.Bucket;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.ThreadParams;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+/**
+ * Measures the per-request overhead of {@link RateLimitFilter} under heavy concurrency.
+ * <p>
+ * {@code perClientFilter} runs the real filter with buckets per client and route; {@code clients} controls
+ * how many distinct clients the threads spread over, from all threads sharing one bucket to every thread
+ * having its own. {@code globalBucket} is the token operation of the previous design alone, a single bucket
+ * shared by every request, as a lower bound for the contended CAS. Limits are set high enough (one token per
+ * nanosecond) that no request is rejected.
+ * </p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@Threads(64)
+public class RateLimitFilterBenchmark {
+
+    private static final int UNLIMITED = 1_000_000_000;
+    private static final FilterChain NO_OP_CHAIN = (request, response) -> {};
+
+    @Param({"1", "64", "4096"})
+    private int clients;
+
+    private RateLimitFilter filter;
+    private Bucket globalBucket;
+
+    @Setup
+    public void setUp() {
+        final RateLimitProperties properties = new RateLimitProperties();
+        properties.setCapacity(UNLIMITED);
+        properties.setRefillAmount(UNLIMITED);
+        properties.setRefillDuration(Duration.ofSeconds(1));
+        properties.setRoutes(List.of(new RateLimitProperties.RouteLimit(
+                "GET", "/api/v1/athletes/export", UNLIMITED, UNLIMITED, Duration.ofSeconds(1))));
+        filter = new RateLimitFilter(
+                new ClientRateLimiter(properties, new ClientIds(new ClientIdentityProperties())),
+                new RequestCostModel(properties.getCost()),
+                new SimpleMeterRegistry());
+        globalBucket = Bucket.builder()
+                .addLimit(Bandwidth.builder()
+                        .capacity(UNLIMITED)
+                        .refillIntervally(UNLIMITED, Duration.ofSeconds(1))
+                        .build())
+                .build();
+    }
+
+    /**
+     * Requests issued by one benchmark thread, cycling through its share of the clients.
+     */
+    @State(Scope.Thread)
+    public static class Requests {
+
+        private MockHttpServletRequest[] requests;
+        private MockHttpServletResponse response;
+        private int next;
+
+        @Setup(Level.Trial)
+        public void setUp(final RateLimitFilterBenchmark benchmark, final ThreadParams threads) {
+            final int perThread = Math.max(1, benchmark.clients / threads.getThreadCount());
+            requests = new MockHttpServletRequest[perThread];
+            for (int i = 0; i < perThread; i++) {
+                final int client = (threads.getThreadIndex() * perThread + i) % benchmark.clients;
+                requests[i] = new MockHttpServletRequest("GET", "/api/v1/athletes/42");
+                requests[i].setRemoteAddr("10.0." + (client >> 8) + "." + (client & 0xff));
+            }
+            response = new MockHttpServletResponse();
+        }
+
+        MockHttpServletRequest next() {
+            final MockHttpServletRequest request = requests[next];
+            next = next + 1 == requests.length ? 0 : next + 1;
+            return request;
+        }
+    }
+
+    @Benchmark
+    public MockHttpServletResponse perClientFilter(final Requests requests) throws Exception {
+        filter.doFilter(requests.next(), requests.response, NO_OP_CHAIN);
+        return requests.response;
+    }
+
+    @Benchmark
+    public boolean globalBucket() {
+        return globalBucket.tryConsume(1);
+    }
+}
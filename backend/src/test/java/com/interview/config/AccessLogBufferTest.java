@@ -0,0 +1,84 @@
+package com.interview.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for AccessLogBuffer to ensure entries pass through in order and are dropped, not blocked, when full.
+ */
+class AccessLogBufferTest {
+
+    @Test
+    void shouldRoundCapacityUpToPowerOfTwo() {
+        assertThat(new AccessLogBuffer<>(1000).capacity()).isEqualTo(1024);
+        assertThat(new AccessLogBuffer<>(1024).capacity()).isEqualTo(1024);
+        assertThat(new AccessLogBuffer<>(1).capacity()).isEqualTo(2);
+    }
+
+    @Test
+    void shouldReturnElementsInOrder() {
+        AccessLogBuffer<Integer> buffer = new AccessLogBuffer<>(4);
+
+        for (int lap = 0; lap < 3; lap++) {
+            assertThat(buffer.offer(1)).isTrue();
+            assertThat(buffer.offer(2)).isTrue();
+            assertThat(buffer.poll()).isEqualTo(1);
+            assertThat(buffer.poll()).isEqualTo(2);
+        }
+        assertThat(buffer.poll()).isNull();
+    }
+
+    @Test
+    void shouldRejectWhenFull() {
+        AccessLogBuffer<Integer> buffer = new AccessLogBuffer<>(2);
+
+        assertThat(buffer.offer(1)).isTrue();
+        assertThat(buffer.offer(2)).isTrue();
+        assertThat(buffer.offer(3)).isFalse();
+        assertThat(buffer.poll()).isEqualTo(1);
+        assertThat(buffer.offer(3)).isTrue();
+    }
+
+    @Test
+    void shouldDeliverEveryElementFromConcurrentProducers() throws Exception {
+        AccessLogBuffer<Integer> buffer = new AccessLogBuffer<>(64);
+        int producers = 4;
+        int perProducer = 5_000;
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(producers);
+        for (int p = 0; p < producers; p++) {
+            int base = p * perProducer;
+            executor.submit(() -> {
+                start.await();
+                for (int i = 0; i < perProducer; i++) {
+                    while (!buffer.offer(base + i)) {
+                        Thread.yield();
+                    }
+                }
+                return null;
+            });
+        }
+
+        start.countDown();
+        Set<Integer> received = new HashSet<>();
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (received.size() < producers * perProducer && System.nanoTime() < deadline) {
+            Integer element = buffer.poll();
+            if (element != null) {
+                assertThat(received.add(element)).isTrue();
+            } else {
+                Thread.yield();
+            }
+        }
+        executor.shutdown();
+
+        assertThat(received).hasSize(producers * perProducer);
+    }
+}
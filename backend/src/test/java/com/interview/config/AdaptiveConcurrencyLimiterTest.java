@@ -0,0 +1,102 @@
+package com.interview.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for AdaptiveConcurrencyLimiter to ensure the limit follows latency and favors high priority requests.
+ */
+class AdaptiveConcurrencyLimiterTest {
+
+    private static final long FAST = TimeUnit.MILLISECONDS.toNanos(10);
+    private static final long SLOW = TimeUnit.MILLISECONDS.toNanos(100);
+
+    private SimpleMeterRegistry meterRegistry;
+    private AdaptiveConcurrencyLimiter limiter;
+
+    @BeforeEach
+    void setUp() {
+        ConcurrencyLimitProperties properties = new ConcurrencyLimitProperties();
+        properties.setInitialLimit(20);
+        properties.setMinLimit(4);
+        properties.setMaxLimit(100);
+        properties.setLongWindow(100);
+        properties.setLowPriorityShare(0.5);
+        meterRegistry = new SimpleMeterRegistry();
+        limiter = new AdaptiveConcurrencyLimiter(properties, meterRegistry);
+    }
+
+    @Test
+    void shouldShedLowPriorityBeforeHighPriority() {
+        for (int i = 0; i < 10; i++) {
+            assertThat(limiter.tryAcquire(false)).isTrue();
+        }
+
+        assertThat(limiter.tryAcquire(false)).isFalse();
+        assertThat(limiter.tryAcquire(true)).isTrue();
+        assertThat(meterRegistry
+                        .counter("athlete.concurrency.rejected", "priority", "low")
+                        .count())
+                .isEqualTo(1);
+        assertThat(limiter.inFlight()).isEqualTo(11);
+    }
+
+    @Test
+    void shouldShedHighPriorityAtLimit() {
+        for (int i = 0; i < 20; i++) {
+            assertThat(limiter.tryAcquire(true)).isTrue();
+        }
+
+        assertThat(limiter.tryAcquire(true)).isFalse();
+        limiter.release();
+        assertThat(limiter.tryAcquire(true)).isTrue();
+    }
+
+    @Test
+    void shouldGrowLimitWhileLatencyIsSteadyUnderLoad() {
+        for (int i = 0; i < 50; i++) {
+            fillTo(limiter.limit());
+            limiter.release(FAST);
+        }
+
+        assertThat(limiter.limit()).isGreaterThan(20);
+        assertThat(meterRegistry.get("athlete.concurrency.limit").gauge().value())
+                .isEqualTo(limiter.limit());
+    }
+
+    @Test
+    void shouldNotGrowLimitWithoutDemand() {
+        for (int i = 0; i < 50; i++) {
+            limiter.tryAcquire(true);
+            limiter.release(FAST);
+        }
+
+        assertThat(limiter.limit()).isEqualTo(20);
+    }
+
+    @Test
+    void shouldShrinkLimitWhenLatencyRises() {
+        for (int i = 0; i < 20; i++) {
+            fillTo(limiter.limit());
+            limiter.release(FAST);
+        }
+        final int grown = limiter.limit();
+
+        for (int i = 0; i < 10; i++) {
+            limiter.tryAcquire(true);
+            limiter.release(SLOW);
+        }
+
+        assertThat(limiter.limit()).isLessThan(grown * 2 / 3);
+    }
+
+    private void fillTo(final int target) {
+        while (limiter.inFlight() < target) {
+            limiter.tryAcquire(true);
+        }
+    }
+}
@@ -0,0 +1,49 @@
+package com.interview.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Set;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+/**
+ * Tests for ClientIds to ensure clients are identified by known keys and otherwise by address.
+ */
+class ClientIdsTest {
+
+    @Test
+    void shouldIdentifyClientByKnownKey() {
+        ClientIdentityProperties properties = new ClientIdentityProperties();
+        properties.setApiKeys(Set.of("known"));
+
+        assertThat(new ClientIds(properties).of(request("known"))).isEqualTo("key:known");
+    }
+
+    @Test
+    void shouldIdentifyClientByAddressForUnknownOrMissingKey() {
+        ClientIdentityProperties properties = new ClientIdentityProperties();
+        properties.setApiKeys(Set.of("known"));
+        ClientIds clientIds = new ClientIds(properties);
+
+        assertThat(clientIds.of(request("made-up"))).isEqualTo("addr:10.0.0.1");
+        assertThat(clientIds.of(request(null))).isEqualTo("addr:10.0.0.1");
+    }
+
+    @Test
+    void shouldHonorAnyKeyWhenHeaderIsTrusted() {
+        ClientIdentityProperties properties = new ClientIdentityProperties();
+        properties.setTrustHeader(true);
+
+        assertThat(new ClientIds(properties).of(request("gateway-checked"))).isEqualTo("key:gateway-checked");
+        assertThat(new ClientIds(properties).of(request("x".repeat(200)))).hasSize("key:".length() + 128);
+    }
+
+    private static MockHttpServletRequest request(final String key) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/athletes");
+        request.setRemoteAddr("10.0.0.1");
+        if (key != null) {
+            request.addHeader("X-API-Key", key);
+        }
+        return request;
+    }
+}
@@ -0,0 +1,108 @@
+package com.interview.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+/**
+ * Tests for ConcurrencyLimitFilter to ensure requests beyond the limit are shed by priority.
+ */
+@ExtendWith(MockitoExtension.class)
+class ConcurrencyLimitFilterTest {
+
+    @Mock
+    private AdaptiveConcurrencyLimiter limiter;
+
+    private ConcurrencyLimitFilter filter;
+    private MockHttpServletResponse response;
+
+    @BeforeEach
+    void setUp() {
+        filter = new ConcurrencyLimitFilter(
+                limiter, new RequestCostModel(new RateLimitProperties.Cost()), new ConcurrencyLimitProperties());
+        response = new MockHttpServletResponse();
+    }
+
+    @Test
+    void shouldAdmitPointReadWithHighPriorityAndSampleLatency() throws Exception {
+        // Given
+        when(limiter.tryAcquire(true)).thenReturn(true);
+        MockFilterChain filterChain = new MockFilterChain();
+
+        // When
+        filter.doFilter(new MockHttpServletRequest("GET", "/api/v1/athletes/42"), response, filterChain);
+
+        // Then
+        assertThat(filterChain.getRequest()).isNotNull();
+        verify(limiter).release(anyLong());
+    }
+
+    @Test
+    void shouldShedListingWithServiceUnavailable() throws Exception {
+        // Given
+        when(limiter.tryAcquire(false)).thenReturn(false);
+        MockFilterChain filterChain = new MockFilterChain();
+
+        // When
+        filter.doFilter(new MockHttpServletRequest("GET", "/api/v1/athletes"), response, filterChain);
+
+        // Then
+        assertThat(response.getStatus()).isEqualTo(503);
+        assertThat(response.getHeader("Retry-After")).isEqualTo("1");
+        assertThat(response.getContentAsString()).isEqualTo("Service overloaded");
+        assertThat(filterChain.getRequest()).isNull();
+        verify(limiter, never()).release();
+    }
+
+    @Test
+    void shouldShedExportHiddenBehindPathParameter() throws Exception {
+        // Given
+        when(limiter.tryAcquire(false)).thenReturn(false);
+        MockFilterChain filterChain = new MockFilterChain();
+
+        // When
+        filter.doFilter(new MockHttpServletRequest("GET", "/api/v1/athletes/export;x"), response, filterChain);
+
+        // Then
+        assertThat(response.getStatus()).isEqualTo(503);
+        assertThat(filterChain.getRequest()).isNull();
+    }
+
+    @Test
+    void shouldReleaseWithoutSampleOnServerError() throws Exception {
+        // Given
+        when(limiter.tryAcquire(true)).thenReturn(true);
+        response.setStatus(500);
+
+        // When
+        filter.doFilter(new MockHttpServletRequest("GET", "/api/v1/athletes/42"), response, new MockFilterChain());
+
+        // Then
+        verify(limiter).release();
+        verify(limiter, never()).release(anyLong());
+    }
+
+    @Test
+    void shouldNotLimitActuator() throws Exception {
+        // Given
+        MockFilterChain filterChain = new MockFilterChain();
+
+        // When
+        filter.doFilter(new MockHttpServletRequest("GET", "/actuator/health"), response, filterChain);
+
+        // Then
+        assertThat(filterChain.getRequest()).isNotNull();
+        verify(limiter, never()).tryAcquire(true);
+    }
+}
@@ -0,0 +1,157 @@
+package com.interview.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.interview.exception.ServiceOverloadedException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for DatabaseBulkhead to ensure callers queue within bounds, are rejected beyond them, compartments
+ * never take each other's permits, and connections return theirs when closed.
+ */
+class DatabaseBulkheadTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private DatabaseBulkhead bulkhead;
+
+    @BeforeEach
+    void setUp() {
+        DatabaseBulkheadProperties properties = new DatabaseBulkheadProperties();
+        properties.setRead(new DatabaseBulkheadProperties.Compartment(1, Duration.ofSeconds(5)));
+        properties.setWrite(new DatabaseBulkheadProperties.Compartment(1, Duration.ofMillis(50)));
+        meterRegistry = new SimpleMeterRegistry();
+        bulkhead = new DatabaseBulkhead(1, 1, Map.of("replica-1", 1), properties, meterRegistry);
+    }
+
+    @Test
+    void shouldHandOverPermitToQueuedCaller() throws Exception {
+        // Given
+        bulkhead.acquire(DatabaseBulkhead.READ);
+        CompletableFuture<Void> queued = CompletableFuture.runAsync(() -> bulkhead.acquire(DatabaseBulkhead.READ));
+        while (bulkhead.queued(DatabaseBulkhead.READ) == 0) {
+            Thread.onSpinWait();
+        }
+
+        // When
+        bulkhead.release(DatabaseBulkhead.READ);
+
+        // Then
+        queued.get(5, TimeUnit.SECONDS);
+        assertThat(bulkhead.queued(DatabaseBulkhead.READ)).isZero();
+        assertThat(meterRegistry
+                        .timer("athlete.bulkhead.wait", "compartment", "read")
+                        .count())
+                .isEqualTo(2);
+    }
+
+    @Test
+    void shouldRejectWhenQueueIsFull() throws Exception {
+        // Given
+        bulkhead.acquire(DatabaseBulkhead.READ);
+        CompletableFuture<Void> queued = CompletableFuture.runAsync(() -> bulkhead.acquire(DatabaseBulkhead.READ));
+        while (bulkhead.queued(DatabaseBulkhead.READ) == 0) {
+            Thread.onSpinWait();
+        }
+
+        // When / Then
+        assertThatThrownBy(() -> bulkhead.acquire(DatabaseBulkhead.READ))
+                .isInstanceOf(ServiceOverloadedException.class);
+        assertThat(meterRegistry
+                        .counter("athlete.bulkhead.rejected", "compartment", "read", "reason", "queue_full")
+                        .count())
+                .isEqualTo(1);
+        bulkhead.release(DatabaseBulkhead.READ);
+        queued.get(5, TimeUnit.SECONDS);
+    }
+
+    @Test
+    void shouldRejectWhenWaitExceedsBound() {
+        // Given
+        bulkhead.acquire(DatabaseBulkhead.WRITE);
+
+        // When / Then
+        assertThatThrownBy(() -> bulkhead.acquire(DatabaseBulkhead.WRITE))
+                .isInstanceOf(ServiceOverloadedException.class)
+                .hasMessageContaining("write");
+        assertThat(meterRegistry
+                        .counter("athlete.bulkhead.rejected", "compartment", "write", "reason", "timeout")
+                        .count())
+                .isEqualTo(1);
+        assertThat(bulkhead.queued(DatabaseBulkhead.WRITE)).isZero();
+    }
+
+    @Test
+    void shouldKeepCompartmentsApart() {
+        // Given
+        bulkhead.acquire(DatabaseBulkhead.READ);
+
+        // When
+        bulkhead.acquire(DatabaseBulkhead.WRITE);
+        bulkhead.acquire("replica-1");
+
+        // Then
+        assertThat(meterRegistry
+                        .get("athlete.bulkhead.available")
+                        .tag("compartment", "read")
+                        .gauge()
+                        .value())
+                .isZero();
+        assertThat(meterRegistry
+                        .get("athlete.bulkhead.available")
+                        .tag("compartment", "write")
+                        .gauge()
+                        .value())
+                .isZero();
+        assertThat(meterRegistry
+                        .get("athlete.bulkhead.available")
+                        .tag("compartment", "replica-1")
+                        .gauge()
+                        .value())
+                .isZero();
+    }
+
+    @Test
+    void shouldReleasePermitOnceWhenConnectionCloses() throws Exception {
+        // Given
+        JdbcDataSource h2 = new JdbcDataSource();
+        h2.setURL("jdbc:h2:mem:bulkhead");
+        Connection connection = bulkhead.connect(DatabaseBulkhead.WRITE, h2);
+
+        // When
+        connection.close();
+        connection.close();
+
+        // Then
+        try (Connection next = bulkhead.connect(DatabaseBulkhead.WRITE, h2)) {
+            assertThat(next.isValid(1)).isTrue();
+            assertThatThrownBy(() -> bulkhead.acquire(DatabaseBulkhead.WRITE))
+                    .isInstanceOf(ServiceOverloadedException.class);
+        }
+    }
+
+    @Test
+    void shouldReturnPermitWhenConnectionFails() {
+        // Given
+        JdbcDataSource unreachable = new JdbcDataSource();
+        unreachable.setURL("jdbc:h2:mem:bulkhead;NO_SUCH_SETTING=1");
+
+        // When / Then
+        assertThatThrownBy(() -> bulkhead.connect("replica-1", unreachable)).isInstanceOf(SQLException.class);
+        assertThat(meterRegistry
+                        .get("athlete.bulkhead.available")
+                        .tag("compartment", "replica-1")
+                        .gauge()
+                        .value())
+                .isEqualTo(1);
+    }
+}
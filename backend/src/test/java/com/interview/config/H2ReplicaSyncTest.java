@@ -0,0 +1,94 @@
+package com.interview.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.Map;
+import java.util.UUID;
+import javax.sql.DataSource;
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Tests for H2ReplicaSync to ensure replicas receive the primary's schema and rows and report their position.
+ */
+class H2ReplicaSyncTest {
+
+    private JdbcTemplate primary;
+    private JdbcTemplate replica;
+    private TransactionTemplate transactions;
+    private ReadWriteRoutingDataSource router;
+    private H2ReplicaSync sync;
+
+    @BeforeEach
+    void setUp() {
+        final DataSource primaryDataSource = database("primary");
+        final DataSource replicaDataSource = database("replica");
+        replica = new JdbcTemplate(replicaDataSource);
+        primary = new JdbcTemplate(primaryDataSource);
+        primary.execute("CREATE TABLE athlete (id BIGINT PRIMARY KEY, last_name VARCHAR(50))");
+        primary.execute("CREATE INDEX idx_athlete_last_name ON athlete(last_name)");
+        primary.update("INSERT INTO athlete VALUES (1, 'Bolt'), (2, 'Farah')");
+        router = new ReadWriteRoutingDataSource(
+                primaryDataSource,
+                Map.of("replica-1", replicaDataSource),
+                true,
+                Duration.ofSeconds(5),
+                100,
+                new ClientIds(new ClientIdentityProperties()),
+                new DatabaseBulkhead(
+                        10, 10, Map.of("replica-1", 10), new DatabaseBulkheadProperties(), new SimpleMeterRegistry()),
+                new SimpleMeterRegistry());
+        sync = new H2ReplicaSync(primaryDataSource, router.replicas(), router);
+        // Writes are counted as they commit through the router
+        final DataSource routed = new LazyConnectionDataSourceProxy(router);
+        primary = new JdbcTemplate(routed);
+        transactions = new TransactionTemplate(new DataSourceTransactionManager(routed));
+    }
+
+    @Test
+    void shouldCopySchemaAndRows() {
+        // When
+        sync.run();
+
+        // Then
+        assertThat(replica.queryForList("SELECT last_name FROM athlete ORDER BY id", String.class))
+                .containsExactly("Bolt", "Farah");
+        assertThat(router.availableReplicas()).isEqualTo(1);
+        assertThat(replica.queryForObject(
+                        "SELECT COUNT(*) FROM INFORMATION_SCHEMA.INDEXES WHERE INDEX_NAME = 'IDX_ATHLETE_LAST_NAME'",
+                        Integer.class))
+                .isEqualTo(1);
+    }
+
+    @Test
+    void shouldReplaceRowsOnLaterCopies() {
+        // Given
+        sync.run();
+        transactions.executeWithoutResult(status -> {
+            primary.update("DELETE FROM athlete WHERE id = 1");
+            primary.update("INSERT INTO athlete VALUES (3, 'Blake')");
+        });
+
+        // When
+        sync.run();
+
+        // Then
+        assertThat(replica.queryForList("SELECT last_name FROM athlete ORDER BY id", String.class))
+                .containsExactly("Farah", "Blake");
+    }
+
+    // --- Private helper methods ---
+
+    private static DataSource database(final String name) {
+        final JdbcDataSource dataSource = new JdbcDataSource();
+        dataSource.setURL("jdbc:h2:mem:sync-" + name + "-" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1");
+        return dataSource;
+    }
+}
@@ -0,0 +1,60 @@
+package com.interview.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+
+/**
+ * Tests that the Prometheus scrape exposes the service, HTTP, pool and routing meters with their SLO buckets.
+ * <p>
+ * The test resources shadow the shipped application.properties, so it is loaded explicitly to scrape the
+ * metrics exactly as configured, on a database of the test's own.
+ * </p>
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@AutoConfigureObservability(tracing = false)
+@TestPropertySource(
+        locations = "file:src/main/resources/application.properties",
+        properties = {"spring.datasource.url=jdbc:h2:mem:prometheus", "spring.sql.init.mode=never"})
+class PrometheusMetricsTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Test
+    void shouldScrapeApplicationMeters() throws Exception {
+        // Given: a listing goes through the web layer, the service and the database
+        mockMvc.perform(get("/api/v1/athletes")).andExpect(status().isOk());
+
+        // When
+        final String scrape = mockMvc.perform(get("/actuator/prometheus"))
+                .andExpect(status().isOk())
+                .andReturn()
+                .getResponse()
+                .getContentAsString();
+
+        // Then
+        assertThat(scrape)
+                .contains("application=\"athlete-api\"")
+                .contains("athlete_service_seconds_count{")
+                .contains("athlete_service_seconds_bucket{")
+                .contains("class=\"com.interview.service.AthleteServiceImpl\"")
+                .contains("http_server_requests_seconds_bucket{")
+                .contains("uri=\"/api/v1/athletes\"")
+                .contains("le=\"0.005\"")
+                .contains("hikaricp_connections_acquire_seconds_bucket{")
+                .contains("hibernate_statements_total{")
+                .contains("athlete_datasource_connections_total{")
+                .contains("athlete_concurrency_limit{")
+                .contains("athlete_bulkhead_queue{");
+    }
+}
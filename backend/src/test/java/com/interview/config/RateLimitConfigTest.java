@@ -1,55 +1,132 @@
 package com.interview.config;
 
 import static org.assertj.core.api.Assertions.assertThat;
-import static org.mockito.Mockito.when;
 
-import io.github.bucket4j.Bucket;
+import io.github.bucket4j.ConsumptionProbe;
 import java.time.Duration;
+import java.util.List;
+import java.util.Set;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
-import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.Mock;
-import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockHttpServletRequest;
 
 /**
- * Tests for RateLimitConfig to ensure proper bucket creation.
+ * Tests for RateLimitConfig to ensure clients and routes get separate buckets.
  */
-@ExtendWith(MockitoExtension.class)
 class RateLimitConfigTest {
 
-    @Mock
-    private RateLimitProperties rateLimitProperties;
-
-    private RateLimitConfig rateLimitConfig;
+    private ClientRateLimiter rateLimiter;
 
     @BeforeEach
     void setUp() {
-        rateLimitConfig = new RateLimitConfig(rateLimitProperties);
+        RateLimitProperties properties = new RateLimitProperties();
+        properties.setCapacity(3);
+        properties.setRefillAmount(3);
+        properties.setRefillDuration(Duration.ofMinutes(1));
+        properties.setRoutes(List.of(
+                new RateLimitProperties.RouteLimit("GET", "/api/v1/athletes/export", 1, 1, Duration.ofMinutes(1))));
+        ClientIdentityProperties identity = new ClientIdentityProperties();
+        identity.setApiKeys(Set.of("first", "second"));
+        rateLimiter = new RateLimitConfig(properties, new ClientIds(identity)).rateLimiter();
     }
 
     @Test
     void shouldCreateBucketWithConfiguredProperties() {
-        // Given
-        int capacity = 1000;
-        int refillAmount = 1000;
-        Duration refillDuration = Duration.ofMinutes(1);
+        MockHttpServletRequest request = request("GET", "/api/v1/athletes", "10.0.0.1");
+
+        assertThat(rateLimiter.tryConsume(request, 3).isConsumed()).isTrue();
+        assertThat(rateLimiter.tryConsume(request, 1).isConsumed()).isFalse();
+    }
+
+    @Test
+    void shouldLimitEachClientSeparately() {
+        MockHttpServletRequest noisy = request("GET", "/api/v1/athletes", "10.0.0.1");
+        MockHttpServletRequest quiet = request("GET", "/api/v1/athletes", "10.0.0.2");
+        rateLimiter.tryConsume(noisy, 3);
+
+        assertThat(rateLimiter.tryConsume(noisy, 1).isConsumed()).isFalse();
+        assertThat(rateLimiter.tryConsume(quiet, 1).getRemainingTokens()).isEqualTo(2);
+    }
+
+    @Test
+    void shouldIdentifyClientsByHeaderBeforeAddress() {
+        MockHttpServletRequest first = request("GET", "/api/v1/athletes", "10.0.0.1");
+        first.addHeader("X-API-Key", "first");
+        MockHttpServletRequest second = request("GET", "/api/v1/athletes", "10.0.0.1");
+        second.addHeader("X-API-Key", "second");
+        rateLimiter.tryConsume(first, 3);
+
+        assertThat(rateLimiter.tryConsume(second, 1).isConsumed()).isTrue();
+    }
+
+    @Test
+    void shouldNotResetLimitWhenRotatingUnknownKeys() {
+        for (int i = 0; i < 3; i++) {
+            MockHttpServletRequest request = request("GET", "/api/v1/athletes", "10.0.0.1");
+            request.addHeader("X-API-Key", "made-up-" + i);
+            assertThat(rateLimiter.tryConsume(request, 1).isConsumed()).isTrue();
+        }
+
+        MockHttpServletRequest rotated = request("GET", "/api/v1/athletes", "10.0.0.1");
+        rotated.addHeader("X-API-Key", "made-up-3");
+        assertThat(rateLimiter.tryConsume(rotated, 1).isConsumed()).isFalse();
+        assertThat(rateLimiter.bucketCount()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldHonorAnyKeyWhenClientHeaderIsTrusted() {
+        RateLimitProperties properties = new RateLimitProperties();
+        properties.setCapacity(1);
+        ClientIdentityProperties identity = new ClientIdentityProperties();
+        identity.setTrustHeader(true);
+        ClientRateLimiter trusting = new RateLimitConfig(properties, new ClientIds(identity)).rateLimiter();
+        MockHttpServletRequest first = request("GET", "/api/v1/athletes", "10.0.0.1");
+        first.addHeader("X-API-Key", "gateway-checked-1");
+        MockHttpServletRequest second = request("GET", "/api/v1/athletes", "10.0.0.1");
+        second.addHeader("X-API-Key", "gateway-checked-2");
+
+        assertThat(trusting.tryConsume(first, 1).isConsumed()).isTrue();
+        assertThat(trusting.tryConsume(second, 1).isConsumed()).isTrue();
+    }
+
+    @Test
+    void shouldApplyRouteLimitsSeparatelyFromDefault() {
+        MockHttpServletRequest export = request("GET", "/api/v1/athletes/export", "10.0.0.1");
 
-        when(rateLimitProperties.getCapacity()).thenReturn(capacity);
-        when(rateLimitProperties.getRefillAmount()).thenReturn(refillAmount);
-        when(rateLimitProperties.getRefillDuration()).thenReturn(refillDuration);
+        assertThat(rateLimiter.tryConsume(export, 1).isConsumed()).isTrue();
+        assertThat(rateLimiter.tryConsume(export, 1).isConsumed()).isFalse();
+        assertThat(rateLimiter
+                        .tryConsume(request("GET", "/api/v1/athletes", "10.0.0.1"), 1)
+                        .getRemainingTokens())
+                .isEqualTo(2);
+        assertThat(rateLimiter.bucketCount()).isEqualTo(2);
+    }
 
-        // When
-        Bucket bucket = rateLimitConfig.rateLimitBucket();
+    @Test
+    void shouldKeepReserveForCheapRequests() {
+        MockHttpServletRequest request = request("GET", "/api/v1/athletes", "10.0.0.1");
 
-        // Then
-        assertThat(bucket).isNotNull();
+        assertThat(rateLimiter.tryConsume(request, 2, 1).isConsumed()).isTrue();
+        ConsumptionProbe rejected = rateLimiter.tryConsume(request, 1, 1);
+        assertThat(rejected.isConsumed()).isFalse();
+        assertThat(rejected.getRemainingTokens()).isEqualTo(1);
+        assertThat(rejected.getNanosToWaitForRefill()).isPositive();
+        assertThat(rateLimiter.tryConsume(request, 1).isConsumed()).isTrue();
+    }
 
-        // Test that bucket allows consumption based on configured capacity
-        boolean canConsumeAll = bucket.tryConsume(capacity);
-        assertThat(canConsumeAll).isTrue();
+    @Test
+    void shouldCapCostAtCapacityAndWaiveReserveThatDoesNotFit() {
+        MockHttpServletRequest request = request("GET", "/api/v1/athletes", "10.0.0.1");
+
+        ConsumptionProbe probe = rateLimiter.tryConsume(request, 100, 1);
+
+        assertThat(probe.isConsumed()).isTrue();
+        assertThat(probe.getRemainingTokens()).isZero();
+    }
 
-        // Test that bucket is exhausted after consuming all tokens
-        boolean cannotConsumeMore = bucket.tryConsume(1);
-        assertThat(cannotConsumeMore).isFalse();
+    private static MockHttpServletRequest request(final String method, final String uri, final String address) {
+        MockHttpServletRequest request = new MockHttpServletRequest(method, uri);
+        request.setRemoteAddr(address);
+        return request;
     }
 }
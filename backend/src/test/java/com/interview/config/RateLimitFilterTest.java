@@ -1,9 +1,13 @@
 package com.interview.config;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.when;
 
-import io.github.bucket4j.Bucket;
+import io.github.bucket4j.ConsumptionProbe;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.concurrent.TimeUnit;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -20,15 +24,18 @@ import org.springframework.mock.web.MockHttpServletResponse;
 class RateLimitFilterTest {
 
     @Mock
-    private Bucket rateLimitBucket;
+    private ClientRateLimiter rateLimiter;
 
+    private SimpleMeterRegistry meterRegistry;
     private RateLimitFilter rateLimitFilter;
     private MockHttpServletRequest request;
     private MockHttpServletResponse response;
 
     @BeforeEach
     void setUp() {
-        rateLimitFilter = new RateLimitFilter(rateLimitBucket);
+        meterRegistry = new SimpleMeterRegistry();
+        rateLimitFilter =
+                new RateLimitFilter(rateLimiter, new RequestCostModel(new RateLimitProperties.Cost()), meterRegistry);
         request = new MockHttpServletRequest();
         response = new MockHttpServletResponse();
     }
@@ -36,7 +43,7 @@ class RateLimitFilterTest {
     @Test
     void shouldAllowRequestWhenBucketHasTokens() throws Exception {
         // Given
-        when(rateLimitBucket.tryConsume(1)).thenReturn(true);
+        when(rateLimiter.tryConsume(any(), eq(1L), eq(0L))).thenReturn(ConsumptionProbe.consumed(41, 0));
         MockFilterChain filterChain = new MockFilterChain();
 
         // When
@@ -44,13 +51,15 @@ class RateLimitFilterTest {
 
         // Then - filter chain should be called (status 200 means request went through)
         assertThat(response.getStatus()).isEqualTo(200);
+        assertThat(response.getHeader("X-RateLimit-Remaining")).isEqualTo("41");
         assertThat(filterChain.getRequest()).isNotNull();
     }
 
     @Test
     void shouldBlockRequestWhenBucketHasNoTokens() throws Exception {
         // Given
-        when(rateLimitBucket.tryConsume(1)).thenReturn(false);
+        when(rateLimiter.tryConsume(any(), eq(1L), eq(0L)))
+                .thenReturn(ConsumptionProbe.rejected(0, TimeUnit.MILLISECONDS.toNanos(2500), 0));
         MockFilterChain filterChain = new MockFilterChain();
 
         // When
@@ -59,6 +68,30 @@ class RateLimitFilterTest {
         // Then
         assertThat(response.getStatus()).isEqualTo(429); // TOO_MANY_REQUESTS
         assertThat(response.getContentAsString()).isEqualTo("Too many requests");
+        assertThat(response.getHeader("X-RateLimit-Remaining")).isEqualTo("0");
+        assertThat(response.getHeader("Retry-After")).isEqualTo("3");
         assertThat(filterChain.getRequest()).isNull(); // Filter chain was not called
+        assertThat(meterRegistry
+                        .counter("athlete.rate_limit.rejected", "priority", "high")
+                        .count())
+                .isEqualTo(1);
+    }
+
+    @Test
+    void shouldChargeExpensiveRequestsByCostAndKeepReserve() throws Exception {
+        // Given - a searched page of 100 rows: list 1 + rows 5 + count 2 + search 5
+        request.setMethod("GET");
+        request.setRequestURI("/api/v1/athletes");
+        request.setParameter("size", "100");
+        request.setParameter("search", "bolt");
+        when(rateLimiter.tryConsume(any(), eq(13L), eq(100L))).thenReturn(ConsumptionProbe.consumed(500, 0));
+        MockFilterChain filterChain = new MockFilterChain();
+
+        // When
+        rateLimitFilter.doFilterInternal(request, response, filterChain);
+
+        // Then
+        assertThat(response.getHeader("X-RateLimit-Remaining")).isEqualTo("500");
+        assertThat(filterChain.getRequest()).isNotNull();
     }
 }
@@ -0,0 +1,275 @@
+package com.interview.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.interview.exception.ServiceOverloadedException;
+import com.interview.repository.CurrentReads;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicReference;
+import javax.sql.DataSource;
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+/**
+ * Tests for ReadWriteRoutingDataSource to ensure reads go to caught-up, healthy replicas, clients read their
+ * own writes from the primary, and connections hold a permit of their pool's bulkhead compartment.
+ */
+class ReadWriteRoutingDataSourceTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final FailingDataSource replica = new FailingDataSource(database("replica"));
+
+    private ReadWriteRoutingDataSource router;
+    private JdbcTemplate jdbcTemplate;
+    private TransactionTemplate writes;
+    private TransactionTemplate reads;
+
+    @AfterEach
+    void tearDown() {
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    @Test
+    void shouldRouteReadOnlyTransactionsToReplica() {
+        // Given
+        route(false);
+
+        // When / Then
+        assertThat(readDatabase()).isEqualTo("REPLICA");
+        assertThat(writeDatabase()).isEqualTo("PRIMARY");
+        assertThat(currentDatabase()).isEqualTo("PRIMARY");
+        assertThat(meterRegistry
+                        .counter("athlete.datasource.connections", "target", "replica")
+                        .count())
+                .isEqualTo(1);
+    }
+
+    @Test
+    void shouldReadOwnWritesFromPrimary() {
+        // Given
+        route(false);
+        actAs("alice");
+        writeDatabase();
+
+        // When / Then
+        assertThat(readDatabase()).isEqualTo("PRIMARY");
+        actAs("bob");
+        assertThat(readDatabase()).isEqualTo("REPLICA");
+    }
+
+    @Test
+    void shouldReadCacheLoadsFromPrimaryWhileUntrackedReplicaMayLag() {
+        // Given
+        route(false);
+        assertThat(CurrentReads.call(this::readDatabase)).isEqualTo("REPLICA");
+
+        // When
+        writeDatabase();
+
+        // Then
+        assertThat(CurrentReads.call(this::readDatabase)).isEqualTo("PRIMARY");
+        assertThat(readDatabase()).isEqualTo("REPLICA");
+    }
+
+    @Test
+    void shouldReadCacheLoadsFromUntrackedReplicaOnceWritesSettle() {
+        // Given
+        route(false, 10, Duration.ZERO);
+
+        // When
+        writeDatabase();
+
+        // Then
+        assertThat(CurrentReads.call(this::readDatabase)).isEqualTo("REPLICA");
+    }
+
+    @Test
+    void shouldReadCacheLoadsFromTrackedReplicaThatCaughtUp() {
+        // Given
+        route(true);
+        writeDatabase();
+
+        // When / Then
+        assertThat(CurrentReads.call(this::readDatabase)).isEqualTo("PRIMARY");
+        router.replicated("replica-1", router.committedWrites());
+        assertThat(CurrentReads.call(this::readDatabase)).isEqualTo("REPLICA");
+    }
+
+    @Test
+    void shouldAdvanceWritePositionBeforeOtherAfterCommitCallbacks() {
+        // Given
+        route(false);
+        final AtomicReference<String> invalidationReload = new AtomicReference<>();
+
+        // When: a callback registered before the write's first statement reloads once the write commits
+        writes.execute(status -> {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    invalidationReload.set(CurrentReads.call(ReadWriteRoutingDataSourceTest.this::readDatabase));
+                }
+            });
+            return currentDatabase();
+        });
+
+        // Then
+        assertThat(invalidationReload).hasValue("PRIMARY");
+    }
+
+    @Test
+    void shouldSkipReplicaUntilItCatchesUp() {
+        // Given
+        route(true);
+
+        // When / Then
+        assertThat(readDatabase()).isEqualTo("PRIMARY");
+        router.replicated("replica-1", router.committedWrites());
+        assertThat(readDatabase()).isEqualTo("REPLICA");
+
+        writeDatabase();
+        assertThat(router.committedWrites()).isEqualTo(1);
+        assertThat(readDatabase()).isEqualTo("PRIMARY");
+        router.replicated("replica-1", router.committedWrites());
+        assertThat(readDatabase()).isEqualTo("REPLICA");
+    }
+
+    @Test
+    void shouldTakeFailedReplicaOutOfRotationUntilHealthy() {
+        // Given
+        route(false);
+        replica.down = true;
+
+        // When / Then
+        assertThat(readDatabase()).isEqualTo("PRIMARY");
+        assertThat(router.availableReplicas()).isZero();
+        assertThat(meterRegistry.counter("athlete.datasource.replica.failures").count())
+                .isEqualTo(1);
+
+        replica.down = false;
+        assertThat(readDatabase()).isEqualTo("PRIMARY");
+        router.checkReplicas(Duration.ofSeconds(1));
+        assertThat(router.availableReplicas()).isEqualTo(1);
+        assertThat(readDatabase()).isEqualTo("REPLICA");
+    }
+
+    @Test
+    void shouldKeepFallbackReadsToPrimaryReadShare() {
+        // Given: one read and one write permit on the primary, and no replica to read from
+        route(false, 1);
+        replica.down = true;
+
+        // When / Then: a read holds the primary's only read permit, so another read is rejected but a write is not
+        final String nested = reads.execute(status -> {
+            currentDatabase();
+            assertThatThrownBy(this::readDatabase).isInstanceOf(ServiceOverloadedException.class);
+            return writeDatabase();
+        });
+        assertThat(nested).isEqualTo("PRIMARY");
+        assertThat(meterRegistry
+                        .counter("athlete.bulkhead.rejected", "compartment", "read", "reason", "queue_full")
+                        .count())
+                .isEqualTo(1);
+    }
+
+    // --- Private helper methods ---
+
+    private void route(final boolean trackPositions) {
+        route(trackPositions, 10);
+    }
+
+    private void route(final boolean trackPositions, final int primaryPermits) {
+        route(trackPositions, primaryPermits, Duration.ofMinutes(1));
+    }
+
+    /**
+     * Routes with the given number of read and write permits on the primary. Nothing queues, so callers beyond
+     * them are rejected at once.
+     */
+    private void route(final boolean trackPositions, final int primaryPermits, final Duration stickiness) {
+        final Map<String, DataSource> replicas = new LinkedHashMap<>();
+        replicas.put("replica-1", replica);
+        final ClientIdentityProperties clients = new ClientIdentityProperties();
+        clients.setApiKeys(Set.of("alice", "bob"));
+        final DatabaseBulkheadProperties bulkheadProperties = new DatabaseBulkheadProperties();
+        bulkheadProperties.setRead(new DatabaseBulkheadProperties.Compartment(0, Duration.ZERO));
+        bulkheadProperties.setWrite(new DatabaseBulkheadProperties.Compartment(0, Duration.ZERO));
+        final DatabaseBulkhead bulkhead = new DatabaseBulkhead(
+                primaryPermits, primaryPermits, Map.of("replica-1", 10), bulkheadProperties, meterRegistry);
+        router = new ReadWriteRoutingDataSource(
+                database("primary"),
+                replicas,
+                trackPositions,
+                stickiness,
+                100,
+                new ClientIds(clients),
+                bulkhead,
+                meterRegistry);
+        final DataSource dataSource = new LazyConnectionDataSourceProxy(router);
+        final DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(dataSource);
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        writes = new TransactionTemplate(transactionManager);
+        writes.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        reads = new TransactionTemplate(transactionManager);
+        reads.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        reads.setReadOnly(true);
+    }
+
+    private String readDatabase() {
+        return reads.execute(status -> currentDatabase());
+    }
+
+    private String writeDatabase() {
+        return writes.execute(status -> currentDatabase());
+    }
+
+    private String currentDatabase() {
+        return jdbcTemplate.queryForObject("SELECT DATABASE()", String.class);
+    }
+
+    private void actAs(final String client) {
+        final MockHttpServletRequest request = new MockHttpServletRequest();
+        request.addHeader("X-API-Key", client);
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+    }
+
+    private static DataSource database(final String name) {
+        final JdbcDataSource dataSource = new JdbcDataSource();
+        dataSource.setURL("jdbc:h2:mem:" + name);
+        return dataSource;
+    }
+
+    private static final class FailingDataSource extends DelegatingDataSource {
+        private volatile boolean down;
+
+        private FailingDataSource(final DataSource target) {
+            super(target);
+        }
+
+        @Override
+        public Connection getConnection() throws SQLException {
+            if (down) {
+                throw new SQLException("Replica is down");
+            }
+            return super.getConnection();
+        }
+    }
+}
@@ -0,0 +1,109 @@
+package com.interview.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+/**
+ * Tests for RequestCostModel to ensure requests are charged by how expensive they are to serve.
+ */
+class RequestCostModelTest {
+
+    private final RequestCostModel costModel = new RequestCostModel(new RateLimitProperties.Cost());
+
+    @Test
+    void shouldChargePointLookupsOneToken() {
+        long cost = costModel.cost(new MockHttpServletRequest("GET", "/api/v1/athletes/42"));
+
+        assertThat(cost).isEqualTo(1);
+        assertThat(costModel.isExpensive(cost)).isFalse();
+    }
+
+    @Test
+    void shouldChargeWritesAndBulkOperations() {
+        assertThat(costModel.cost(new MockHttpServletRequest("PUT", "/api/v1/athletes/42")))
+                .isEqualTo(2);
+        assertThat(costModel.cost(new MockHttpServletRequest("POST", "/api/v1/athletes")))
+                .isEqualTo(2);
+        assertThat(costModel.cost(new MockHttpServletRequest("POST", "/api/v1/athletes:batch")))
+                .isEqualTo(50);
+        assertThat(costModel.cost(new MockHttpServletRequest("POST", "/api/v1/athletes/imports")))
+                .isEqualTo(50);
+        assertThat(costModel.cost(new MockHttpServletRequest("DELETE", "/api/v1/athletes")))
+                .isEqualTo(50);
+        assertThat(costModel.cost(new MockHttpServletRequest("GET", "/api/v1/athletes/export")))
+                .isEqualTo(100);
+    }
+
+    @Test
+    void shouldChargeDefaultListingForPageAndCount() {
+        // list 1 + 10 rows 1 + count 2
+        assertThat(costModel.cost(new MockHttpServletRequest("GET", "/api/v1/athletes")))
+                .isEqualTo(4);
+    }
+
+    @Test
+    void shouldSkipCountSurchargeForCursorAndWithoutTotal() {
+        MockHttpServletRequest cursor = new MockHttpServletRequest("GET", "/api/v1/athletes");
+        cursor.setParameter("cursor", "abc");
+        MockHttpServletRequest withoutTotal = new MockHttpServletRequest("GET", "/api/v1/athletes");
+        withoutTotal.setParameter("withTotal", "false");
+
+        assertThat(costModel.cost(cursor)).isEqualTo(2);
+        assertThat(costModel.cost(withoutTotal)).isEqualTo(2);
+    }
+
+    @Test
+    void shouldSurchargeLargePagesSearchesAndUnindexedMatches() {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/athletes");
+        request.setParameter("size", "100");
+        request.setParameter("search", "bolt");
+        request.setParameter("nationality", "jam");
+        request.setParameter("match", "CONTAINS");
+
+        // list 1 + 100 rows 5 + count 2 + search 5 + contains 5
+        assertThat(costModel.cost(request)).isEqualTo(18);
+        assertThat(costModel.isExpensive(18)).isTrue();
+    }
+
+    @Test
+    void shouldChargeInvalidSizesAsDefaultPage() {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/athletes");
+        request.setParameter("size", "lots");
+
+        assertThat(costModel.cost(request)).isEqualTo(4);
+    }
+
+    @Test
+    void shouldIgnorePathParametersWhenClassifying() {
+        MockHttpServletRequest listing = new MockHttpServletRequest("GET", "/api/v1/athletes;x");
+        listing.setParameter("size", "100");
+        listing.setParameter("search", "bolt");
+
+        assertThat(costModel.cost(new MockHttpServletRequest("GET", "/api/v1/athletes/export;x")))
+                .isEqualTo(100);
+        assertThat(costModel.cost(new MockHttpServletRequest("POST", "/api/v1/athletes:batch;jsessionid=1")))
+                .isEqualTo(50);
+        // list 1 + 100 rows 5 + count 2 + search 5
+        assertThat(costModel.cost(listing)).isEqualTo(13);
+    }
+
+    @Test
+    void shouldDecodePathBeforeClassifying() {
+        assertThat(costModel.cost(new MockHttpServletRequest("GET", "/api/v1/athletes/%65xport")))
+                .isEqualTo(100);
+        assertThat(costModel.cost(new MockHttpServletRequest("POST", "/api/v1/%61thletes/imports")))
+                .isEqualTo(50);
+        assertThat(costModel.cost(new MockHttpServletRequest("GET", "/api/v1/athlete%73")))
+                .isEqualTo(4);
+    }
+
+    @Test
+    void shouldClassifyPathWithinContext() {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/app/api/v1/athletes/export");
+        request.setContextPath("/app");
+
+        assertThat(costModel.cost(request)).isEqualTo(100);
+    }
+}
@@ -1,14 +1,20 @@
 package com.interview.config;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
 import static org.mockito.ArgumentMatchers.any;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 import com.interview.model.Athlete;
+import com.interview.model.AthleteRow;
+import com.interview.repository.AthleteFilter;
+import com.interview.service.AthleteImportService;
+import com.interview.service.AthletePageCache;
 import com.interview.service.AthleteService;
-import io.github.bucket4j.Bandwidth;
-import io.github.bucket4j.Bucket;
+import com.interview.service.RequestCoalescer;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import java.time.Duration;
 import java.util.List;
 import org.junit.jupiter.api.Test;
@@ -39,15 +45,41 @@ class RequestLoggingFilterTest {
             var mock = Mockito.mock(AthleteService.class);
             Mockito.when(mock.findAll()).thenReturn(List.of(new Athlete()));
 
-            Page<Athlete> mockPage = new PageImpl<>(List.of(new Athlete()));
-            Mockito.when(mock.findAll(any(), any(Pageable.class))).thenReturn(mockPage);
+            Page<AthleteRow> mockPage =
+                    new PageImpl<>(List.of(new AthleteRow(1L, 0L, "Usain", "Bolt", 0L, "Jamaica", "100m", null, null)));
+            Mockito.when(mock.findRows(any(AthleteFilter.class), any(Pageable.class), any()))
+                    .thenReturn(mockPage);
 
             return mock;
         }
 
         @Bean
-        public RequestLoggingFilter requestLoggingFilter() {
-            return new RequestLoggingFilter();
+        public AthletePageCache athletePageCache() {
+            SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+            return new AthletePageCache(
+                    new AthleteCacheProperties(),
+                    meterRegistry,
+                    new RequestCoalescer(meterRegistry, Duration.ofSeconds(1)));
+        }
+
+        @Bean
+        public AthleteImportService athleteImportService() {
+            return Mockito.mock(AthleteImportService.class);
+        }
+
+        @Bean
+        public MeterRegistry meterRegistry() {
+            return new SimpleMeterRegistry();
+        }
+
+        @Bean
+        public AccessLog accessLog() {
+            return new AccessLog(new AccessLogProperties(), new SimpleMeterRegistry());
+        }
+
+        @Bean
+        public RequestLoggingFilter requestLoggingFilter(final AccessLog accessLog) {
+            return new RequestLoggingFilter(accessLog, new AccessLogProperties());
         }
 
         @Bean
@@ -56,13 +88,23 @@ class RequestLoggingFilterTest {
         }
 
         @Bean
-        public Bucket rateLimitBucket() {
-            return Bucket.builder()
-                    .addLimit(Bandwidth.builder()
-                            .capacity(1000)
-                            .refillIntervally(1000, Duration.ofMinutes(1))
-                            .build())
-                    .build();
+        public ClientRateLimiter rateLimiter() {
+            return new ClientRateLimiter(new RateLimitProperties(), new ClientIds(new ClientIdentityProperties()));
+        }
+
+        @Bean
+        public RequestCostModel requestCostModel() {
+            return new RequestCostModel(new RateLimitProperties.Cost());
+        }
+
+        @Bean
+        public ConcurrencyLimitProperties concurrencyLimitProperties() {
+            return new ConcurrencyLimitProperties();
+        }
+
+        @Bean
+        public AdaptiveConcurrencyLimiter concurrencyLimiter() {
+            return new AdaptiveConcurrencyLimiter(new ConcurrencyLimitProperties(), new SimpleMeterRegistry());
         }
     }
 
@@ -70,6 +112,16 @@ class RequestLoggingFilterTest {
     void shouldLogRequest(CapturedOutput output) throws Exception {
         mockMvc.perform(get("/api/v1/athletes")).andExpect(status().isOk());
 
-        assertThat(output).contains("Incoming request: method=GET, uri=/api/v1/athletes");
+        await().atMost(Duration.ofSeconds(5)).untilAsserted(() -> assertThat(output)
+                .contains("method=GET, route=/api/v1/athletes, status=200, bytes=")
+                .contains("durationMs="));
+    }
+
+    @Test
+    void shouldLogRouteTemplateOfErrors(CapturedOutput output) throws Exception {
+        mockMvc.perform(get("/api/v1/athletes/not-a-number")).andExpect(status().isBadRequest());
+
+        await().atMost(Duration.ofSeconds(5)).untilAsserted(() -> assertThat(output)
+                .contains("method=GET, route=/api/v1/athletes/{id}, status=400"));
     }
 }
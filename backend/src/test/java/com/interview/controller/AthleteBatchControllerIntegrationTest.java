@@ -0,0 +1,164 @@
+package com.interview.controller;
+
+import static org.hamcrest.Matchers.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.interview.dto.AthleteMapper;
+import com.interview.dto.AthleteRequest;
+import com.interview.repository.AthleteRepository;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@TestPropertySource(properties = "athlete.batch.max-size=5")
+class AthleteBatchControllerIntegrationTest {
+
+    private static final String BATCH_URL = "/api/v1/athletes:batch";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private AthleteRepository athleteRepository;
+
+    /**
+     * Clean up the database before each test to ensure test isolation.
+     */
+    @BeforeEach
+    void setUp() {
+        athleteRepository.deleteAll();
+    }
+
+    @Test
+    void shouldCreateAllAthletesInBatch() throws Exception {
+        final List<AthleteRequest> batch = List.of(
+                new AthleteRequest("Anna", "Carter", LocalDate.of(1990, 1, 1), "USA", "100m", "11.0s", null),
+                new AthleteRequest("Ben", "Adams", LocalDate.of(1991, 1, 1), "USA", "200m", "21.0s", null));
+
+        mockMvc.perform(post(BATCH_URL)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(batch)))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.succeeded").value(2))
+                .andExpect(jsonPath("$.failed").value(0))
+                .andExpect(jsonPath("$.results[0].status").value(201))
+                .andExpect(jsonPath("$.results[0].athlete.id").exists())
+                .andExpect(jsonPath("$.results[1].athlete.firstName").value("Ben"));
+
+        mockMvc.perform(get("/api/v1/athletes"))
+                .andExpect(jsonPath("$.totalElements").value(2));
+    }
+
+    @Test
+    void shouldReportPerItemFailures() throws Exception {
+        final AthleteRequest existing =
+                new AthleteRequest("Usain", "Bolt", LocalDate.of(1986, 8, 21), "Jamaica", "100m", "9.58s", null);
+        mockMvc.perform(post("/api/v1/athletes")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(existing)))
+                .andExpect(status().isCreated());
+
+        final AthleteRequest fresh =
+                new AthleteRequest("Mo", "Farah", LocalDate.of(1983, 3, 23), "UK", "5000m", "12:53.11", null);
+        final List<AthleteRequest> batch =
+                List.of(existing, fresh, new AthleteRequest("", "Doe", null, "USA", "400m", null, null), fresh);
+
+        mockMvc.perform(post(BATCH_URL)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(batch)))
+                .andExpect(status().isMultiStatus())
+                .andExpect(jsonPath("$.succeeded").value(1))
+                .andExpect(jsonPath("$.failed").value(3))
+                .andExpect(jsonPath("$.results[0].status").value(409))
+                .andExpect(jsonPath("$.results[0].error").value("Conflict"))
+                .andExpect(jsonPath("$.results[0].message").value("Athlete 'Usain Bolt' already exists"))
+                .andExpect(jsonPath("$.results[1].status").value(201))
+                .andExpect(jsonPath("$.results[2].status").value(400))
+                .andExpect(jsonPath("$.results[2].errors.firstName").value("First name is required"))
+                .andExpect(jsonPath("$.results[2].errors.birthDate").value("Birth date is required"))
+                .andExpect(jsonPath("$.results[3].status").value(409));
+    }
+
+    @Test
+    void shouldCreateRestOfBatchWhenConcurrentWriterTakesAKey() throws Exception {
+        // Given: a row committed behind the service's back, as by a writer racing past the duplicate check
+        final AthleteRequest raced =
+                new AthleteRequest("Racing", "Rival", LocalDate.of(1990, 5, 5), "USA", "100m", null, null);
+        athleteRepository.saveAndFlush(AthleteMapper.toDomain(raced));
+        final AthleteRequest fresh =
+                new AthleteRequest("Clean", "Runner", LocalDate.of(1991, 6, 6), "USA", "200m", null, null);
+
+        // When / Then
+        mockMvc.perform(post(BATCH_URL)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(List.of(fresh, raced))))
+                .andExpect(status().isMultiStatus())
+                .andExpect(jsonPath("$.succeeded").value(1))
+                .andExpect(jsonPath("$.results[0].status").value(201))
+                .andExpect(jsonPath("$.results[0].athlete.id").exists())
+                .andExpect(jsonPath("$.results[1].status").value(409));
+
+        mockMvc.perform(get("/api/v1/athletes"))
+                .andExpect(jsonPath("$.totalElements").value(2));
+    }
+
+    @Test
+    void shouldRejectUnreadableItemWithoutFailingBatch() throws Exception {
+        final String body = "[{\"firstName\":\"Anna\",\"lastName\":\"Carter\",\"birthDate\":\"not-a-date\","
+                + "\"nationality\":\"USA\",\"discipline\":\"100m\"},"
+                + "{\"firstName\":\"Ben\",\"lastName\":\"Adams\",\"birthDate\":\"1991-01-01\","
+                + "\"nationality\":\"USA\",\"discipline\":\"200m\"}]";
+
+        mockMvc.perform(post(BATCH_URL).contentType(MediaType.APPLICATION_JSON).content(body))
+                .andExpect(status().isMultiStatus())
+                .andExpect(jsonPath("$.results[0].status").value(400))
+                .andExpect(jsonPath("$.results[0].message").exists())
+                .andExpect(jsonPath("$.results[1].status").value(201));
+    }
+
+    @Test
+    void shouldRejectBodyThatIsNotAnArray() throws Exception {
+        mockMvc.perform(post(BATCH_URL).contentType(MediaType.APPLICATION_JSON).content("{\"firstName\":\"Anna\"}"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.status").value(400));
+    }
+
+    @Test
+    void shouldRejectMalformedJson() throws Exception {
+        mockMvc.perform(post(BATCH_URL).contentType(MediaType.APPLICATION_JSON).content("[{invalid json}]"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.status").value(400));
+    }
+
+    @Test
+    void shouldRejectOversizedBatch() throws Exception {
+        final List<AthleteRequest> batch = new ArrayList<>();
+        for (int i = 0; i < 6; i++) {
+            batch.add(new AthleteRequest("Runner", "No" + i, LocalDate.of(1990, 1, 1), "USA", "100m", null, null));
+        }
+
+        mockMvc.perform(post(BATCH_URL)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(batch)))
+                .andExpect(status().isPayloadTooLarge())
+                .andExpect(jsonPath("$.message", containsString("5")));
+
+        mockMvc.perform(get("/api/v1/athletes"))
+                .andExpect(jsonPath("$.totalElements").value(0));
+    }
+}
@@ -1,20 +1,26 @@
 package com.interview.controller;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.hamcrest.Matchers.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.interview.dto.AthleteRequest;
+import com.interview.model.Athlete;
 import com.interview.repository.AthleteRepository;
+import com.interview.service.AthletePageCache;
 import java.time.LocalDate;
+import java.util.List;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 
 @SpringBootTest
 @AutoConfigureMockMvc
@@ -31,6 +37,9 @@ class AthleteControllerIntegrationTest {
     @Autowired
     private AthleteRepository athleteRepository;
 
+    @Autowired
+    private AthletePageCache pageCache;
+
     /**
      * Helper method to build URL for athlete resource by ID.
      *
@@ -41,6 +50,35 @@ class AthleteControllerIntegrationTest {
         return ATHLETES_BASE_URL + "/" + id;
     }
 
+    /**
+     * Helper method to create an athlete through the API.
+     *
+     * @param request the athlete to create
+     */
+    private void createAthlete(AthleteRequest request) throws Exception {
+        mockMvc.perform(post(ATHLETES_BASE_URL)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isCreated());
+    }
+
+    /**
+     * Helper method to create an athlete through the API and return its ID.
+     *
+     * @param request the athlete to create
+     * @return the ID of the created athlete
+     */
+    private Long createAthleteAndGetId(AthleteRequest request) throws Exception {
+        final String response = mockMvc.perform(post(ATHLETES_BASE_URL)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isCreated())
+                .andReturn()
+                .getResponse()
+                .getContentAsString();
+        return objectMapper.readTree(response).get("id").asLong();
+    }
+
     /**
      * Clean up the database before each test to ensure test isolation.
      */
@@ -316,6 +354,169 @@ class AthleteControllerIntegrationTest {
         mockMvc.perform(get(athleteUrl(createdId))).andExpect(status().isNotFound());
     }
 
+    @Test
+    void shouldPatchOnlyGivenFields() throws Exception {
+        final Long id = createAthleteAndGetId(
+                new AthleteRequest("Usain", "Bolt", LocalDate.of(1986, 8, 21), "Jamaica", "100m", "9.69s", "Bio"));
+
+        mockMvc.perform(patch(athleteUrl(id))
+                        .contentType(AthleteController.MERGE_PATCH_JSON_VALUE)
+                        .content("{\"personalBest\": \"9.58s\", \"bio\": null}"))
+                .andExpect(status().isNoContent());
+
+        mockMvc.perform(get(athleteUrl(id)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.personalBest").value("9.58s"))
+                .andExpect(jsonPath("$.bio").doesNotExist())
+                .andExpect(jsonPath("$.firstName").value("Usain"))
+                .andExpect(jsonPath("$.nationality").value("Jamaica"));
+    }
+
+    @Test
+    void shouldFilterByPatchedNationality() throws Exception {
+        final Long id = createAthleteAndGetId(
+                new AthleteRequest("Usain", "Bolt", LocalDate.of(1986, 8, 21), "Jamaica", "100m", null, null));
+
+        mockMvc.perform(patch(athleteUrl(id))
+                        .contentType(AthleteController.MERGE_PATCH_JSON_VALUE)
+                        .content("{\"nationality\": \"Kenya\"}"))
+                .andExpect(status().isNoContent());
+
+        mockMvc.perform(get(ATHLETES_BASE_URL).param("nationality", "kenya"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.totalElements").value(1));
+    }
+
+    @Test
+    void shouldRejectInvalidPatch() throws Exception {
+        final Long id = createAthleteAndGetId(
+                new AthleteRequest("Usain", "Bolt", LocalDate.of(1986, 8, 21), "Jamaica", "100m", null, null));
+
+        mockMvc.perform(patch(athleteUrl(id))
+                        .contentType(AthleteController.MERGE_PATCH_JSON_VALUE)
+                        .content("{\"firstName\": null, \"id\": 5}"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.errors.firstName").value("First name is required"))
+                .andExpect(jsonPath("$.errors.id").exists());
+    }
+
+    @Test
+    void shouldReturn404WhenPatchingNonExistentAthlete() throws Exception {
+        mockMvc.perform(patch(athleteUrl(99999L))
+                        .contentType(AthleteController.MERGE_PATCH_JSON_VALUE)
+                        .content("{\"personalBest\": \"9.58s\"}"))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    void shouldReturn409WhenPatchDuplicatesAnotherAthlete() throws Exception {
+        createAthlete(new AthleteRequest("Usain", "Bolt", LocalDate.of(1986, 8, 21), "Jamaica", "100m", null, null));
+        final Long id = createAthleteAndGetId(
+                new AthleteRequest("Yohan", "Bolt", LocalDate.of(1986, 8, 21), "Jamaica", "100m", null, null));
+
+        mockMvc.perform(patch(athleteUrl(id))
+                        .contentType(AthleteController.MERGE_PATCH_JSON_VALUE)
+                        .content("{\"firstName\": \"Usain\"}"))
+                .andExpect(status().isConflict());
+    }
+
+    @Test
+    void shouldReturnEtagAndNotModified() throws Exception {
+        final Long id = createAthleteAndGetId(
+                new AthleteRequest("Usain", "Bolt", LocalDate.of(1986, 8, 21), "Jamaica", "100m", null, null));
+
+        mockMvc.perform(get(athleteUrl(id)))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"0\""))
+                .andExpect(jsonPath("$.version").value(0));
+
+        mockMvc.perform(get(athleteUrl(id)).header(HttpHeaders.IF_NONE_MATCH, "\"0\""))
+                .andExpect(status().isNotModified())
+                .andExpect(content().string(""));
+    }
+
+    @Test
+    void shouldRejectStaleConditionalWrites() throws Exception {
+        final AthleteRequest request =
+                new AthleteRequest("Usain", "Bolt", LocalDate.of(1986, 8, 21), "Jamaica", "100m", null, null);
+        final Long id = createAthleteAndGetId(request);
+
+        mockMvc.perform(put(athleteUrl(id))
+                        .header(HttpHeaders.IF_MATCH, "\"0\"")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"0\""));
+
+        request.setPersonalBest("9.58s");
+        mockMvc.perform(put(athleteUrl(id))
+                        .header(HttpHeaders.IF_MATCH, "\"0\"")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"1\""));
+
+        mockMvc.perform(patch(athleteUrl(id))
+                        .header(HttpHeaders.IF_MATCH, "\"0\"")
+                        .contentType(AthleteController.MERGE_PATCH_JSON_VALUE)
+                        .content("{\"bio\": \"Stale\"}"))
+                .andExpect(status().isPreconditionFailed());
+        mockMvc.perform(put(athleteUrl(id))
+                        .header(HttpHeaders.IF_MATCH, "\"0\"")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isPreconditionFailed());
+        mockMvc.perform(delete(athleteUrl(id)).header(HttpHeaders.IF_MATCH, "\"0\""))
+                .andExpect(status().isPreconditionFailed());
+
+        mockMvc.perform(patch(athleteUrl(id))
+                        .header(HttpHeaders.IF_MATCH, "\"1\"")
+                        .contentType(AthleteController.MERGE_PATCH_JSON_VALUE)
+                        .content("{\"bio\": \"Fresh\"}"))
+                .andExpect(status().isNoContent())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"2\""));
+        mockMvc.perform(delete(athleteUrl(id)).header(HttpHeaders.IF_MATCH, "\"2\""))
+                .andExpect(status().isNoContent());
+    }
+
+    @Test
+    void shouldBulkDeleteAthletesByFilter() throws Exception {
+        createAthlete(new AthleteRequest("Usain", "Bolt", LocalDate.of(1986, 8, 21), "Jamaica", "100m", null, null));
+        createAthlete(new AthleteRequest("Yohan", "Blake", LocalDate.of(1989, 12, 26), "Jamaica", "100m", null, null));
+        createAthlete(new AthleteRequest("Noah", "Lyles", LocalDate.of(1997, 7, 18), "USA", "200m", null, null));
+
+        mockMvc.perform(delete(ATHLETES_BASE_URL).param("nationality", "jamaica"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.deleted").value(2));
+
+        mockMvc.perform(get(ATHLETES_BASE_URL))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.totalElements").value(1))
+                .andExpect(jsonPath("$.content[0].lastName").value("Lyles"));
+    }
+
+    @Test
+    void shouldBulkDeleteAthletesById() throws Exception {
+        createAthlete(new AthleteRequest("Usain", "Bolt", LocalDate.of(1986, 8, 21), "Jamaica", "100m", null, null));
+        createAthlete(new AthleteRequest("Noah", "Lyles", LocalDate.of(1997, 7, 18), "USA", "200m", null, null));
+        final List<Long> ids =
+                athleteRepository.findAll().stream().map(Athlete::getId).toList();
+
+        mockMvc.perform(delete(ATHLETES_BASE_URL)
+                        .param("id", String.valueOf(ids.get(0)), String.valueOf(ids.get(1)), "99999"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.deleted").value(2));
+
+        mockMvc.perform(get(athleteUrl(ids.get(0)))).andExpect(status().isNotFound());
+    }
+
+    @Test
+    void shouldRejectBulkDeleteWithoutCriteria() throws Exception {
+        mockMvc.perform(delete(ATHLETES_BASE_URL).param("search", " "))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.status").value(400));
+    }
+
     @Test
     void shouldHandleInvalidPageNumber() throws Exception {
         mockMvc.perform(get(ATHLETES_BASE_URL).param("page", "-1").param("size", "10"))
@@ -344,6 +545,263 @@ class AthleteControllerIntegrationTest {
                 .andExpect(jsonPath("$.content").isArray());
     }
 
+    @Test
+    void shouldOmitTotalsWhenWithTotalIsFalse() throws Exception {
+        createAthlete(new AthleteRequest("Anna", "Carter", LocalDate.of(1990, 1, 1), "USA", "100m", "11.0s", null));
+        createAthlete(new AthleteRequest("Ben", "Adams", LocalDate.of(1991, 1, 1), "USA", "200m", "21.0s", null));
+
+        mockMvc.perform(get(ATHLETES_BASE_URL)
+                        .param("page", "0")
+                        .param("size", "1")
+                        .param("withTotal", "false"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content", hasSize(1)))
+                .andExpect(jsonPath("$.totalElements").doesNotExist())
+                .andExpect(jsonPath("$.totalPages").doesNotExist())
+                .andExpect(jsonPath("$.first").value(true))
+                .andExpect(jsonPath("$.last").value(false));
+    }
+
+    @Test
+    void shouldReturnOnlyRequestedFields() throws Exception {
+        createAthlete(new AthleteRequest(
+                "Anna", "Carter", LocalDate.of(1990, 1, 1), "USA", "100m", "11.0s", "Sprinter from Ohio"));
+
+        mockMvc.perform(get(ATHLETES_BASE_URL))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content[0].bio").value("Sprinter from Ohio"))
+                .andExpect(jsonPath("$.content[0].birthDate").value("1990-01-01"));
+        mockMvc.perform(get(ATHLETES_BASE_URL).param("fields", "firstName,birthDate"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content[0].id").isNumber())
+                .andExpect(jsonPath("$.content[0].firstName").value("Anna"))
+                .andExpect(jsonPath("$.content[0].birthDate").value("1990-01-01"))
+                .andExpect(jsonPath("$.content[0].lastName").doesNotExist())
+                .andExpect(jsonPath("$.content[0].bio").doesNotExist())
+                .andExpect(jsonPath("$.totalElements").value(1));
+    }
+
+    @Test
+    void shouldIgnoreUnknownFields() throws Exception {
+        createAthlete(new AthleteRequest("Anna", "Carter", LocalDate.of(1990, 1, 1), "USA", "100m", "11.0s", null));
+
+        mockMvc.perform(get(ATHLETES_BASE_URL).param("fields", "password"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content[0].firstName").value("Anna"))
+                .andExpect(jsonPath("$.content[0].lastName").value("Carter"));
+        mockMvc.perform(get(ATHLETES_BASE_URL).param("fields", "lastName,password"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content[0].lastName").value("Carter"))
+                .andExpect(jsonPath("$.content[0].firstName").doesNotExist());
+    }
+
+    @Test
+    void shouldReturnOnlyRequestedFieldsById() throws Exception {
+        final Long id = createAthleteAndGetId(
+                new AthleteRequest("Anna", "Carter", LocalDate.of(1990, 1, 1), "USA", "100m", "11.0s", "Sprinter"));
+
+        mockMvc.perform(get(athleteUrl(id)).param("fields", "lastName"))
+                .andExpect(status().isOk())
+                .andExpect(header().exists(HttpHeaders.ETAG))
+                .andExpect(jsonPath("$.id").value(id))
+                .andExpect(jsonPath("$.lastName").value("Carter"))
+                .andExpect(jsonPath("$.firstName").doesNotExist());
+    }
+
+    @Test
+    void shouldTagEachFieldsetSeparately() throws Exception {
+        final Long id = createAthleteAndGetId(
+                new AthleteRequest("Anna", "Carter", LocalDate.of(1990, 1, 1), "USA", "100m", "11.0s", "Sprinter"));
+
+        final String lastName = mockMvc.perform(get(athleteUrl(id)).param("fields", "lastName"))
+                .andReturn()
+                .getResponse()
+                .getHeader(HttpHeaders.ETAG);
+        final String firstName = mockMvc.perform(get(athleteUrl(id)).param("fields", "firstName,id"))
+                .andReturn()
+                .getResponse()
+                .getHeader(HttpHeaders.ETAG);
+
+        assertThat(lastName).isNotEqualTo(firstName).isNotEqualTo("\"0\"");
+        mockMvc.perform(get(athleteUrl(id)).param("fields", "lastName,id").header(HttpHeaders.IF_NONE_MATCH, lastName))
+                .andExpect(status().isNotModified());
+        mockMvc.perform(get(athleteUrl(id)).header(HttpHeaders.IF_NONE_MATCH, lastName))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"0\""))
+                .andExpect(jsonPath("$.firstName").value("Anna"));
+        mockMvc.perform(get(athleteUrl(id)).param("fields", "firstName").header(HttpHeaders.IF_NONE_MATCH, lastName))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.firstName").value("Anna"));
+        mockMvc.perform(patch(athleteUrl(id))
+                        .contentType(AthleteController.MERGE_PATCH_JSON_VALUE)
+                        .header(HttpHeaders.IF_MATCH, lastName)
+                        .content("{\"bio\":\"Hurdler\"}"))
+                .andExpect(status().isNoContent());
+    }
+
+    @Test
+    void shouldReflectNewAthleteInTotalCount() throws Exception {
+        createAthlete(new AthleteRequest("Anna", "Carter", LocalDate.of(1990, 1, 1), "USA", "100m", "11.0s", null));
+
+        mockMvc.perform(get(ATHLETES_BASE_URL).param("nationality", "USA").param("size", "1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.totalElements").value(1));
+
+        createAthlete(new AthleteRequest("Ben", "Adams", LocalDate.of(1991, 1, 1), "USA", "200m", "21.0s", null));
+
+        mockMvc.perform(get(ATHLETES_BASE_URL).param("nationality", "USA").param("size", "1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.totalElements").value(2));
+    }
+
+    @Test
+    void shouldFilterByPrefixUnlessAnotherMatchModeIsRequested() throws Exception {
+        createAthlete(new AthleteRequest("Anna", "Carter", LocalDate.of(1990, 1, 1), "USA", "100m", "11.0s", null));
+        createAthlete(new AthleteRequest("Ben", "Adams", LocalDate.of(1991, 1, 1), "USA", "4x100m", "38.0s", null));
+
+        mockMvc.perform(get(ATHLETES_BASE_URL).param("discipline", "100"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content[*].firstName", contains("Anna")));
+        mockMvc.perform(get(ATHLETES_BASE_URL).param("discipline", "100").param("match", "EXACT"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content", hasSize(0)));
+        mockMvc.perform(get(ATHLETES_BASE_URL).param("discipline", "100m").param("match", "CONTAINS"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.totalElements").value(2));
+    }
+
+    @Test
+    void shouldServeRepeatedListingsFromPageCache() throws Exception {
+        createAthlete(new AthleteRequest("Anna", "Carter", LocalDate.of(1990, 1, 1), "USA", "100m", "11.0s", null));
+
+        for (int i = 0; i < 3; i++) {
+            mockMvc.perform(get(ATHLETES_BASE_URL)
+                            .param("nationality", "Cached")
+                            .param("size", "7"))
+                    .andExpect(status().isOk());
+        }
+
+        assertThat(pageCache.hottest(10))
+                .filteredOn(stats -> stats.size() == 7)
+                .singleElement()
+                .satisfies(stats -> {
+                    assertThat(stats.hits()).isEqualTo(2);
+                    assertThat(stats.filter().nationality()).isEqualTo("cached");
+                });
+    }
+
+    @Test
+    void shouldWalkAllAthletesWithCursorPagination() throws Exception {
+        createAthlete(new AthleteRequest("Anna", "Carter", LocalDate.of(1990, 1, 1), "USA", "100m", "11.0s", null));
+        createAthlete(new AthleteRequest("Ben", "Adams", LocalDate.of(1991, 1, 1), "USA", "200m", "21.0s", null));
+        createAthlete(new AthleteRequest("Cara", "Baker", LocalDate.of(1992, 1, 1), "Kenya", "800m", "2:00", null));
+
+        final String firstPage = mockMvc.perform(get(ATHLETES_BASE_URL)
+                        .param("cursor", "")
+                        .param("size", "2")
+                        .param("sortBy", "lastName"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content", hasSize(2)))
+                .andExpect(jsonPath("$.content[0].lastName").value("Adams"))
+                .andExpect(jsonPath("$.content[1].lastName").value("Baker"))
+                .andExpect(jsonPath("$.totalElements").doesNotExist())
+                .andExpect(jsonPath("$.last").value(false))
+                .andReturn()
+                .getResponse()
+                .getContentAsString();
+
+        final String nextCursor =
+                objectMapper.readTree(firstPage).get("nextCursor").asText();
+
+        mockMvc.perform(get(ATHLETES_BASE_URL)
+                        .param("cursor", nextCursor)
+                        .param("size", "2")
+                        .param("sortBy", "lastName"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content", hasSize(1)))
+                .andExpect(jsonPath("$.content[0].lastName").value("Carter"))
+                .andExpect(jsonPath("$.nextCursor").doesNotExist())
+                .andExpect(jsonPath("$.last").value(true));
+    }
+
+    @Test
+    void shouldApplyFiltersWithCursorPagination() throws Exception {
+        createAthlete(new AthleteRequest("Anna", "Carter", LocalDate.of(1990, 1, 1), "USA", "100m", "11.0s", null));
+        createAthlete(new AthleteRequest("Cara", "Baker", LocalDate.of(1992, 1, 1), "Kenya", "800m", "2:00", null));
+
+        mockMvc.perform(get(ATHLETES_BASE_URL).param("cursor", "").param("nationality", "kenya"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content", hasSize(1)))
+                .andExpect(jsonPath("$.content[0].firstName").value("Cara"))
+                .andExpect(jsonPath("$.last").value(true));
+    }
+
+    @Test
+    void shouldRejectMalformedCursor() throws Exception {
+        mockMvc.perform(get(ATHLETES_BASE_URL).param("cursor", "not-a-cursor"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.status").value(400));
+    }
+
+    @Test
+    void shouldRejectCursorIssuedForDifferentSort() throws Exception {
+        createAthlete(new AthleteRequest("Anna", "Carter", LocalDate.of(1990, 1, 1), "USA", "100m", "11.0s", null));
+        createAthlete(new AthleteRequest("Ben", "Adams", LocalDate.of(1991, 1, 1), "USA", "200m", "21.0s", null));
+
+        final String firstPage = mockMvc.perform(
+                        get(ATHLETES_BASE_URL).param("cursor", "").param("size", "1"))
+                .andExpect(status().isOk())
+                .andReturn()
+                .getResponse()
+                .getContentAsString();
+
+        final String nextCursor =
+                objectMapper.readTree(firstPage).get("nextCursor").asText();
+
+        mockMvc.perform(get(ATHLETES_BASE_URL).param("cursor", nextCursor).param("sortBy", "lastName"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void shouldExportFilteredAthletesAsNdjson() throws Exception {
+        createAthlete(new AthleteRequest("Anna", "Carter", LocalDate.of(1990, 1, 1), "USA", "100m", "11.0s", null));
+        createAthlete(new AthleteRequest("Cara", "Baker", LocalDate.of(1992, 1, 1), "Kenya", "800m", "2:00", null));
+        createAthlete(new AthleteRequest("Ben", "Adams", LocalDate.of(1991, 1, 1), "USA", "200m", "21.0s", null));
+
+        final MvcResult result = mockMvc.perform(
+                        get(ATHLETES_BASE_URL + "/export").param("nationality", "usa"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        final String body = mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType("application/x-ndjson"))
+                .andReturn()
+                .getResponse()
+                .getContentAsString();
+
+        final String[] lines = body.split("\n");
+        assertThat(lines).hasSize(2);
+        assertThat(objectMapper.readTree(lines[0]).get("firstName").asText()).isEqualTo("Anna");
+        assertThat(objectMapper.readTree(lines[1]).get("firstName").asText()).isEqualTo("Ben");
+    }
+
+    @Test
+    void shouldExportAthletesAsCsv() throws Exception {
+        createAthlete(new AthleteRequest("Anna", "Carter", LocalDate.of(1990, 1, 1), "USA", "100m", "11.0s", null));
+
+        final MvcResult result = mockMvc.perform(
+                        get(ATHLETES_BASE_URL + "/export").param("format", "CSV"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType("text/csv"))
+                .andExpect(content().string(startsWith("id,version,firstName,lastName,birthDate")))
+                .andExpect(content().string(containsString(",0,Anna,Carter,1990-01-01,USA,100m,11.0s,")));
+    }
+
     @Test
     void shouldHandleMalformedJson() throws Exception {
         mockMvc.perform(post(ATHLETES_BASE_URL)
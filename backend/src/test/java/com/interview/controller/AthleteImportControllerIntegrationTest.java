@@ -0,0 +1,238 @@
+package com.interview.controller;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.interview.dto.AthleteMapper;
+import com.interview.dto.AthleteRequest;
+import com.interview.dto.ImportRequest;
+import com.interview.repository.AthleteRepository;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+class AthleteImportControllerIntegrationTest {
+
+    private static final String IMPORTS_URL = "/api/v1/athletes/imports";
+
+    @TempDir
+    static Path importDirectory;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private AthleteRepository athleteRepository;
+
+    /**
+     * Small chunks and batches so even a tiny file is split across parser and writer threads.
+     */
+    @DynamicPropertySource
+    static void importProperties(final DynamicPropertyRegistry registry) {
+        registry.add("athlete.import.directory", importDirectory::toString);
+        registry.add("athlete.import.chunk-size", () -> "64B");
+        registry.add("athlete.import.parser-threads", () -> "2");
+        registry.add("athlete.import.batch-size", () -> "2");
+        registry.add("athlete.import.queue-capacity", () -> "1");
+    }
+
+    @BeforeEach
+    void setUp() {
+        athleteRepository.deleteAll();
+    }
+
+    @Test
+    void shouldImportValidRowsAndReportRejections() throws Exception {
+        mockMvc.perform(post("/api/v1/athletes")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new AthleteRequest(
+                                "Usain", "Bolt", LocalDate.of(1986, 8, 21), "Jamaica", "100m", "9.58s", null))))
+                .andExpect(status().isCreated());
+
+        final StringBuilder csv =
+                new StringBuilder("id,firstName,lastName,birthDate,nationality,discipline,personalBest,bio\r\n");
+        for (int i = 0; i < 20; i++) {
+            csv.append(",Runner,No").append(i).append(",1990-01-01,USA,100m,,\r\n");
+        }
+        csv.append(",Usain,Bolt,1986-08-21,Jamaica,100m,9.58s,\r\n");
+        csv.append(",,Missing,1990-01-01,USA,100m,,\r\n");
+        csv.append(",Bad,Date,not-a-date,USA,100m,,\r\n");
+        csv.append(",\"Quoted, Name\",Smith,1992-02-02,UK,200m,,\"Says \"\"hi\"\"\"");
+        Files.writeString(importDirectory.resolve("athletes.csv"), csv);
+
+        final String location = mockMvc.perform(post(IMPORTS_URL)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new ImportRequest("athletes.csv"))))
+                .andExpect(status().isAccepted())
+                .andExpect(header().string("Location", containsString(IMPORTS_URL + "/")))
+                .andExpect(jsonPath("$.file").value("athletes.csv"))
+                .andReturn()
+                .getResponse()
+                .getHeader("Location");
+
+        final JsonNode status = awaitCompletion(location);
+        assertThat(status.get("state").asText()).isEqualTo("COMPLETED");
+        assertThat(status.get("rowsRead").asLong()).isEqualTo(24);
+        assertThat(status.get("rowsImported").asLong()).isEqualTo(21);
+        assertThat(status.get("rowsRejected").asLong()).isEqualTo(3);
+        assertThat(status.get("rejections").size()).isEqualTo(3);
+        assertThat(status.get("progress").asDouble()).isEqualTo(1.0);
+
+        mockMvc.perform(get("/api/v1/athletes").param("search", "Quoted, Name"))
+                .andExpect(jsonPath("$.totalElements").value(1))
+                .andExpect(jsonPath("$.content[0].bio").value("Says \"hi\""));
+        mockMvc.perform(get("/api/v1/athletes"))
+                .andExpect(jsonPath("$.totalElements").value(22));
+    }
+
+    @Test
+    void shouldImportRestOfBatchWhenConcurrentWriterTakesAKey() throws Exception {
+        // Given: a row committed behind the service's back, as by a writer racing past the duplicate check
+        athleteRepository.saveAndFlush(AthleteMapper.toDomain(
+                new AthleteRequest("Photo", "Finish", LocalDate.of(1990, 1, 1), "USA", "100m", null, null)));
+        Files.writeString(
+                importDirectory.resolve("raced.csv"),
+                "id,version,firstName,lastName,birthDate,nationality,discipline,personalBest,bio\r\n"
+                        + "7,2,Early,Leader,1990-01-01,USA,100m,,\r\n"
+                        + "8,0,Photo,Finish,1990-01-01,USA,100m,,\r\n");
+
+        // When
+        final String location = mockMvc.perform(post(IMPORTS_URL)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new ImportRequest("raced.csv"))))
+                .andExpect(status().isAccepted())
+                .andReturn()
+                .getResponse()
+                .getHeader("Location");
+
+        // Then
+        final JsonNode status = awaitCompletion(location);
+        assertThat(status.get("state").asText()).isEqualTo("COMPLETED");
+        assertThat(status.get("rowsImported").asLong()).isEqualTo(1);
+        assertThat(status.get("rowsRejected").asLong()).isEqualTo(1);
+        assertThat(status.get("rejections").get(0).asText()).contains("Photo Finish");
+        mockMvc.perform(get("/api/v1/athletes").param("search", "Leader"))
+                .andExpect(jsonPath("$.totalElements").value(1));
+    }
+
+    @Test
+    void shouldImportOwnCsvExportWithMultiLineBios() throws Exception {
+        // Given: bios with line breaks, long enough that records span the 64-byte chunks
+        final String[] bios = {
+            "Olympic champion.\nWorld record holder, \"twice\".\nStill training.",
+            "Sprinter from Kingston.\r\nCoached by Glen Mills.\r\n",
+            "Single line bio."
+        };
+        for (int i = 0; i < bios.length; i++) {
+            mockMvc.perform(post("/api/v1/athletes")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(new AthleteRequest(
+                                    "Exported", "No" + i, LocalDate.of(1990, 1, 1), "Jamaica", "100m", null, bios[i]))))
+                    .andExpect(status().isCreated());
+        }
+        final MvcResult export = mockMvc.perform(get("/api/v1/athletes/export").param("format", "CSV"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        final String csv = mockMvc.perform(asyncDispatch(export))
+                .andExpect(status().isOk())
+                .andReturn()
+                .getResponse()
+                .getContentAsString();
+        Files.writeString(importDirectory.resolve("exported.csv"), csv);
+        athleteRepository.deleteAll();
+
+        // When
+        final String location = mockMvc.perform(post(IMPORTS_URL)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new ImportRequest("exported.csv"))))
+                .andExpect(status().isAccepted())
+                .andReturn()
+                .getResponse()
+                .getHeader("Location");
+
+        // Then
+        final JsonNode status = awaitCompletion(location);
+        assertThat(status.get("state").asText()).isEqualTo("COMPLETED");
+        assertThat(status.get("rowsImported").asLong()).isEqualTo(bios.length);
+        assertThat(status.get("rowsRejected").asLong()).isZero();
+        for (int i = 0; i < bios.length; i++) {
+            mockMvc.perform(get("/api/v1/athletes").param("search", "No" + i))
+                    .andExpect(jsonPath("$.totalElements").value(1))
+                    .andExpect(jsonPath("$.content[0].bio").value(bios[i]));
+        }
+    }
+
+    @Test
+    void shouldFailJobWhenHeaderIsMissingColumns() throws Exception {
+        Files.writeString(importDirectory.resolve("bad-header.csv"), "firstName,lastName\nUsain,Bolt\n");
+
+        final String location = mockMvc.perform(post(IMPORTS_URL)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new ImportRequest("bad-header.csv"))))
+                .andExpect(status().isAccepted())
+                .andReturn()
+                .getResponse()
+                .getHeader("Location");
+
+        final JsonNode status = awaitCompletion(location);
+        assertThat(status.get("state").asText()).isEqualTo("FAILED");
+        assertThat(status.get("error").asText()).contains("birthDate");
+    }
+
+    @Test
+    void shouldRejectFilesOutsideImportDirectory() throws Exception {
+        mockMvc.perform(post(IMPORTS_URL)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new ImportRequest("../etc/passwd"))))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message", containsString("../etc/passwd")));
+
+        mockMvc.perform(post(IMPORTS_URL)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new ImportRequest("missing.csv"))))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void shouldReturn404ForUnknownJob() throws Exception {
+        mockMvc.perform(get(IMPORTS_URL + "/does-not-exist"))
+                .andExpect(status().isNotFound())
+                .andExpect(jsonPath("$.error").value("Not Found"));
+    }
+
+    private JsonNode awaitCompletion(final String location) throws Exception {
+        for (int attempt = 0; attempt < 100; attempt++) {
+            final JsonNode status = objectMapper.readTree(mockMvc.perform(get(location))
+                    .andExpect(status().isOk())
+                    .andReturn()
+                    .getResponse()
+                    .getContentAsString());
+            final String state = status.get("state").asText();
+            if (state.equals("COMPLETED") || state.equals("FAILED")) {
+                return status;
+            }
+            Thread.sleep(100);
+        }
+        throw new AssertionError("Import job did not finish in time");
+    }
+}
@@ -0,0 +1,58 @@
+package com.interview.dto;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import org.junit.jupiter.api.Test;
+
+class AthleteExportWriterTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+
+    @Test
+    void shouldWriteOneJsonObjectPerLine() throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        try (AthleteExportWriter writer = AthleteExportWriter.create(ExportFormat.NDJSON, out, objectMapper)) {
+            writer.write(athlete(1L, "Usain", "Fastest man alive."));
+            writer.write(athlete(2L, "Mo", null));
+        }
+
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\n");
+        assertThat(lines).hasSize(2);
+        assertThat(objectMapper.readTree(lines[0]).get("firstName").asText()).isEqualTo("Usain");
+        assertThat(objectMapper.readTree(lines[1]).get("id").asLong()).isEqualTo(2L);
+    }
+
+    @Test
+    void shouldQuoteCsvFieldsContainingSeparators() throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        try (AthleteExportWriter writer = AthleteExportWriter.create(ExportFormat.CSV, out, objectMapper)) {
+            writer.write(athlete(1L, "Usain", "Fast, \"Lightning\" Bolt"));
+        }
+
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\r\n");
+        assertThat(lines[0])
+                .isEqualTo("id,version,firstName,lastName,birthDate,nationality,discipline,personalBest,bio");
+        assertThat(lines[1]).isEqualTo("1,3,Usain,Bolt,1986-08-21,Jamaica,100m,9.58s,\"Fast, \"\"Lightning\"\" Bolt\"");
+    }
+
+    private AthleteResponse athlete(Long id, String firstName, String bio) {
+        return AthleteResponse.builder()
+                .id(id)
+                .version(3L)
+                .firstName(firstName)
+                .lastName("Bolt")
+                .birthDate(LocalDate.of(1986, 8, 21))
+                .nationality("Jamaica")
+                .discipline("100m")
+                .personalBest("9.58s")
+                .bio(bio)
+                .build();
+    }
+}
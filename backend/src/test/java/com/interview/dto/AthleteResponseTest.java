@@ -33,7 +33,7 @@ class AthleteResponseTest {
     @Test
     void shouldCreateAthleteResponseWithAllArgsConstructor() {
         AthleteResponse response = new AthleteResponse(
-                1L, "John", "Doe", LocalDate.of(1990, 1, 1), "USA", "100m Sprint", "9.99s", "Fast runner");
+                1L, 0L, "John", "Doe", LocalDate.of(1990, 1, 1), "USA", "100m Sprint", "9.99s", "Fast runner");
 
         assertThat(response.getId()).isEqualTo(1L);
         assertThat(response.getFirstName()).isEqualTo("John");
@@ -0,0 +1,467 @@
+package com.interview.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import java.io.IOException;
+import java.io.Reader;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Properties;
+import java.util.SplittableRandom;
+import java.util.TreeMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Replays a weighted mix of API operations against a running application and writes a JSON latency report.
+ * <p>
+ * The driver is open-loop: requests are started on a fixed schedule at the configured rate, each on its own
+ * virtual thread, whether or not earlier ones have finished. Latency is measured from the time a request was
+ * scheduled to start, not from when it was sent, so a stalled server shows up as latency instead of silently
+ * lowering the offered load. Requests that would exceed the in-flight cap are not sent and count as errors.
+ * Requests are spread over several API keys so that the per-client rate limit does not dominate the result.
+ * </p>
+ * <p>
+ * Before the run the driver can import a CSV from the application's import directory (see
+ * {@link SyntheticAthleteGenerator}) and waits for the import to complete. Results of the warm-up period are
+ * discarded. The report is checked against the SLOs by {@link SloGate}.
+ * </p>
+ * <p>
+ * Usage: {@code LoadDriver <settings.properties> [key=value ...]}, where each {@code key=value} overrides
+ * a setting from the file.
+ * </p>
+ */
+public final class LoadDriver {
+
+    /**
+     * Operations of the mix, named as in the {@code mix.*} and {@code slo.*} settings.
+     */
+    enum Operation {
+        LIST,
+        SEARCH,
+        GET,
+        CREATE,
+        UPDATE,
+        DELETE;
+
+        String key() {
+            return name().toLowerCase(Locale.ROOT);
+        }
+
+        /**
+         * Whether a 404 is an expected outcome, as ids are drawn at random and some have been deleted.
+         */
+        boolean toleratesNotFound() {
+            return this == GET || this == UPDATE || this == DELETE;
+        }
+    }
+
+    private static final String ATHLETES_PATH = "/api/v1/athletes";
+    private static final String MERGE_PATCH_JSON = "application/merge-patch+json";
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(30);
+    // Reported status of requests that were not sent or got no response
+    private static final int NO_RESPONSE = 0;
+
+    private final Properties settings;
+    private final ObjectMapper objectMapper = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
+    private final HttpClient client;
+    private final String baseUrl;
+    private final int clients;
+    private final Map<Operation, LatencyRecorder> recorders = new EnumMap<>(Operation.class);
+    private final AtomicLong created = new AtomicLong();
+    private final String runId = Long.toString(System.currentTimeMillis(), 36);
+
+    LoadDriver(final Properties settings) {
+        this.settings = settings;
+        this.baseUrl = settings.getProperty("base-url", "http://localhost:8080");
+        this.clients = Integer.parseInt(settings.getProperty("clients", "100"));
+        this.client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+        for (Operation operation : Operation.values()) {
+            recorders.put(operation, new LatencyRecorder());
+        }
+    }
+
+    public static void main(final String[] args) throws Exception {
+        if (args.length < 1) {
+            System.err.println("Usage: LoadDriver <settings.properties> [key=value ...]");
+            System.exit(2);
+        }
+        final Properties settings = loadSettings(Path.of(args[0]), Arrays.copyOfRange(args, 1, args.length));
+        // A stale report must not pass the gate for a run that failed
+        Files.deleteIfExists(reportPath(settings));
+        try {
+            new LoadDriver(settings).run();
+        } catch (Exception e) {
+            System.err.println("Load test failed: " + e);
+            System.exit(1);
+        }
+    }
+
+    static Path reportPath(final Properties settings) {
+        return Path.of(settings.getProperty("report", "target/loadtest/report.json"));
+    }
+
+    /**
+     * Reads the settings file and applies {@code key=value} overrides; an empty value clears a setting, e.g.
+     * {@code import-file=} to run against the data already loaded.
+     */
+    static Properties loadSettings(final Path file, final String[] overrides) throws IOException {
+        final Properties settings = new Properties();
+        try (Reader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            settings.load(reader);
+        }
+        for (String override : overrides) {
+            final int separator = override.indexOf('=');
+            if (separator > 0) {
+                settings.setProperty(override.substring(0, separator).trim(), override.substring(separator + 1));
+            }
+        }
+        return settings;
+    }
+
+    void run() throws Exception {
+        final String importFile = settings.getProperty("import-file", "");
+        if (!importFile.isBlank()) {
+            importAthletes(importFile);
+        }
+        final long maxId = findMaxId();
+        System.out.printf(Locale.ROOT, "Driving load against %s with ids up to %d%n", baseUrl, maxId);
+
+        final double rate = Double.parseDouble(settings.getProperty("rate", "200"));
+        final Duration warmup = Duration.parse(settings.getProperty("warmup", "PT10S"));
+        final Duration duration = Duration.parse(settings.getProperty("duration", "PT60S"));
+        final Semaphore inFlight = new Semaphore(Integer.parseInt(settings.getProperty("max-in-flight", "256")));
+        final double[] mix = mix();
+        final SplittableRandom random = new SplittableRandom(Long.parseLong(settings.getProperty("seed", "42")));
+
+        final long interval = (long) (TimeUnit.SECONDS.toNanos(1) / rate);
+        final long start = System.nanoTime();
+        final long measureFrom = start + warmup.toNanos();
+        final long end = measureFrom + duration.toNanos();
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (long i = 0; ; i++) {
+                final long scheduled = start + i * interval;
+                if (scheduled >= end) {
+                    break;
+                }
+                waitUntil(scheduled);
+                final Operation operation = Operation.values()[SyntheticAthleteGenerator.sample(random, mix)];
+                final HttpRequest request = request(operation, random, maxId, i);
+                final LatencyRecorder recorder = scheduled >= measureFrom ? recorders.get(operation) : null;
+                if (!inFlight.tryAcquire()) {
+                    if (recorder != null) {
+                        recorder.record(System.nanoTime() - scheduled, NO_RESPONSE, false);
+                    }
+                    continue;
+                }
+                executor.execute(() -> {
+                    try {
+                        send(operation, request, scheduled, recorder);
+                    } finally {
+                        inFlight.release();
+                    }
+                });
+            }
+        }
+        final Path report = reportPath(settings);
+        writeReport(report, duration, rate);
+        System.out.println("Wrote load test report to " + report);
+    }
+
+    // --- Private helper methods ---
+
+    private void importAthletes(final String file) throws IOException, InterruptedException {
+        final ObjectNode body = objectMapper.createObjectNode().put("file", file);
+        final HttpResponse<String> started = client.send(
+                HttpRequest.newBuilder(URI.create(baseUrl + ATHLETES_PATH + "/imports"))
+                        .header("Content-Type", "application/json")
+                        .header("X-API-Key", "loadtest-setup")
+                        .POST(HttpRequest.BodyPublishers.ofString(body.toString()))
+                        .build(),
+                HttpResponse.BodyHandlers.ofString());
+        if (started.statusCode() != 202) {
+            throw new IllegalStateException("Import of " + file + " was rejected: " + started.body());
+        }
+        final String job = objectMapper.readTree(started.body()).path("id").asText();
+        final long importStart = System.nanoTime();
+        System.out.println("Importing " + file + " as job " + job);
+        final long deadline = importStart
+                + Duration.parse(settings.getProperty("import-timeout", "PT30M"))
+                        .toNanos();
+        while (System.nanoTime() < deadline) {
+            Thread.sleep(1000);
+            final JsonNode status = objectMapper.readTree(get(ATHLETES_PATH + "/imports/" + job));
+            final String state = status.path("state").asText();
+            if ("COMPLETED".equals(state)) {
+                System.out.printf(
+                        Locale.ROOT,
+                        "Imported %s in %.1f s: %s%n",
+                        file,
+                        (System.nanoTime() - importStart) / 1e9,
+                        status);
+                return;
+            }
+            if ("FAILED".equals(state)) {
+                throw new IllegalStateException("Import of " + file + " failed: " + status);
+            }
+        }
+        throw new IllegalStateException("Import of " + file + " did not complete in time");
+    }
+
+    private long findMaxId() throws IOException, InterruptedException {
+        final JsonNode page =
+                objectMapper.readTree(get(ATHLETES_PATH + "?size=1&sortBy=id&direction=DESC&withTotal=false"));
+        final JsonNode content = page.path("content");
+        return content.isEmpty() ? 1 : content.get(0).path("id").asLong();
+    }
+
+    private String get(final String path) throws IOException, InterruptedException {
+        final HttpResponse<String> response = client.send(
+                HttpRequest.newBuilder(URI.create(baseUrl + path))
+                        .header("X-API-Key", "loadtest-setup")
+                        .build(),
+                HttpResponse.BodyHandlers.ofString());
+        if (response.statusCode() != 200) {
+            throw new IllegalStateException("GET " + path + " returned " + response.statusCode());
+        }
+        return response.body();
+    }
+
+    private double[] mix() {
+        final double[] cumulative = new double[Operation.values().length];
+        double total = 0;
+        for (Operation operation : Operation.values()) {
+            total += Double.parseDouble(settings.getProperty("mix." + operation.key(), "0"));
+            cumulative[operation.ordinal()] = total;
+        }
+        if (total <= 0) {
+            throw new IllegalArgumentException("At least one mix.* weight must be positive");
+        }
+        for (int i = 0; i < cumulative.length; i++) {
+            cumulative[i] /= total;
+        }
+        return cumulative;
+    }
+
+    private HttpRequest request(
+            final Operation operation, final SplittableRandom random, final long maxId, final long sequence) {
+        final long id = 1 + random.nextLong(maxId);
+        final HttpRequest.Builder builder =
+                switch (operation) {
+                    case LIST ->
+                        HttpRequest.newBuilder(uri(ATHLETES_PATH + "?size=20&page=" + random.nextInt(5)
+                                + "&nationality="
+                                + encode(
+                                        SyntheticAthleteGenerator.NATIONALITIES[
+                                                SyntheticAthleteGenerator.sample(
+                                                        random, SyntheticAthleteGenerator.NATIONALITY_WEIGHTS)])));
+                    case SEARCH ->
+                        HttpRequest.newBuilder(uri(ATHLETES_PATH + "?size=20&search="
+                                + SyntheticAthleteGenerator.LAST_NAMES[
+                                        random.nextInt(SyntheticAthleteGenerator.LAST_NAMES.length)]
+                                        .substring(0, 3)));
+                    case GET -> HttpRequest.newBuilder(uri(ATHLETES_PATH + "/" + id));
+                    case CREATE ->
+                        HttpRequest.newBuilder(uri(ATHLETES_PATH))
+                                .header("Content-Type", "application/json")
+                                .POST(HttpRequest.BodyPublishers.ofString(newAthlete(random)));
+                    case UPDATE ->
+                        HttpRequest.newBuilder(uri(ATHLETES_PATH + "/" + id))
+                                .header("Content-Type", MERGE_PATCH_JSON)
+                                .method(
+                                        "PATCH",
+                                        HttpRequest.BodyPublishers.ofString(String.format(
+                                                Locale.ROOT,
+                                                "{\"personalBest\":\"%.2f\"}",
+                                                9.5 + random.nextDouble() * 50)));
+                    case DELETE ->
+                        HttpRequest.newBuilder(uri(ATHLETES_PATH + "/" + id)).DELETE();
+                };
+        return builder.header("X-API-Key", "loadtest-" + (sequence % clients))
+                .timeout(REQUEST_TIMEOUT)
+                .build();
+    }
+
+    private String newAthlete(final SplittableRandom random) {
+        // Created athletes get a last name unique to this run, so they never clash with imported ones
+        return objectMapper
+                .createObjectNode()
+                .put("firstName", "Load")
+                .put("lastName", "Driver-" + runId + "-" + created.incrementAndGet())
+                .put("birthDate", "1990-01-01")
+                .put(
+                        "nationality",
+                        SyntheticAthleteGenerator.NATIONALITIES[
+                                random.nextInt(SyntheticAthleteGenerator.NATIONALITIES.length)])
+                .put(
+                        "discipline",
+                        SyntheticAthleteGenerator.DISCIPLINES[
+                                random.nextInt(SyntheticAthleteGenerator.DISCIPLINES.length)])
+                .toString();
+    }
+
+    private void send(
+            final Operation operation,
+            final HttpRequest request,
+            final long scheduled,
+            final LatencyRecorder recorder) {
+        int status;
+        try {
+            status =
+                    client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+        } catch (IOException e) {
+            status = NO_RESPONSE;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            status = NO_RESPONSE;
+        }
+        if (recorder != null) {
+            final boolean ok =
+                    status != NO_RESPONSE && (status < 400 || (status == 404 && operation.toleratesNotFound()));
+            recorder.record(System.nanoTime() - scheduled, status, ok);
+        }
+    }
+
+    private void writeReport(final Path report, final Duration duration, final double rate) throws IOException {
+        final ObjectNode root = objectMapper.createObjectNode();
+        root.put("durationSeconds", duration.toMillis() / 1000.0);
+        root.put("offeredRate", rate);
+        long requests = 0;
+        long errors = 0;
+        final ObjectNode operations = root.putObject("operations");
+        for (Map.Entry<Operation, LatencyRecorder> entry : recorders.entrySet()) {
+            final LatencyRecorder recorder = entry.getValue();
+            requests += recorder.count();
+            errors += recorder.errors();
+            if (recorder.count() > 0) {
+                operations.set(entry.getKey().key(), recorder.summary(objectMapper.createObjectNode()));
+            }
+        }
+        root.put("requests", requests);
+        root.put("errors", errors);
+        // Successful requests per second; shed or failed requests do not count as served load
+        root.put("throughput", (requests - errors) / (duration.toMillis() / 1000.0));
+        root.set("all", LatencyRecorder.merge(recorders.values()).summary(objectMapper.createObjectNode()));
+
+        if (report.getParent() != null) {
+            Files.createDirectories(report.getParent());
+        }
+        objectMapper.writeValue(report.toFile(), root);
+        System.out.println(objectMapper.writeValueAsString(root));
+    }
+
+    private URI uri(final String path) {
+        return URI.create(baseUrl + path);
+    }
+
+    private static String encode(final String value) {
+        return URLEncoder.encode(value, StandardCharsets.UTF_8);
+    }
+
+    private static void waitUntil(final long deadline) {
+        long remaining;
+        while ((remaining = deadline - System.nanoTime()) > 0) {
+            LockSupport.parkNanos(remaining);
+        }
+    }
+
+    /**
+     * Latencies of one operation, kept in full so percentiles are exact. A run at a few hundred requests
+     * per second records well under a million samples, a few megabytes at most. Responses are also counted by
+     * status, with {@code 0} for requests that were not sent or got no response.
+     */
+    static final class LatencyRecorder {
+
+        private long[] latencies = new long[1024];
+        private int count;
+        private long errors;
+        private final Map<Integer, Long> statuses = new TreeMap<>();
+
+        /**
+         * Records a request; failed requests count towards the error rate and, since a user waited for them
+         * too, the latency.
+         */
+        synchronized void record(final long nanos, final int status, final boolean ok) {
+            if (count == latencies.length) {
+                latencies = Arrays.copyOf(latencies, count * 2);
+            }
+            latencies[count++] = nanos;
+            if (!ok) {
+                errors++;
+            }
+            statuses.merge(status, 1L, Long::sum);
+        }
+
+        synchronized long count() {
+            return count;
+        }
+
+        synchronized long errors() {
+            return errors;
+        }
+
+        static LatencyRecorder merge(final Iterable<LatencyRecorder> recorders) {
+            final LatencyRecorder merged = new LatencyRecorder();
+            for (LatencyRecorder recorder : recorders) {
+                synchronized (recorder) {
+                    merged.append(recorder);
+                }
+            }
+            return merged;
+        }
+
+        synchronized ObjectNode summary(final ObjectNode node) {
+            final long[] sorted = Arrays.copyOf(latencies, count);
+            Arrays.sort(sorted);
+            node.put("count", count);
+            node.put("errors", errors);
+            node.put("errorRate", count == 0 ? 0 : (double) errors / count);
+            node.put("p50Ms", percentile(sorted, 0.50));
+            node.put("p99Ms", percentile(sorted, 0.99));
+            node.put("p999Ms", percentile(sorted, 0.999));
+            node.put("maxMs", count == 0 ? 0 : sorted[count - 1] / 1e6);
+            final ObjectNode byStatus = node.putObject("statuses");
+            statuses.forEach((status, requests) -> byStatus.put(Integer.toString(status), requests));
+            return node;
+        }
+
+        private void append(final LatencyRecorder other) {
+            latencies = Arrays.copyOf(latencies, Math.max(latencies.length, count + other.count));
+            System.arraycopy(other.latencies, 0, latencies, count, other.count);
+            count += other.count;
+            errors += other.errors;
+            other.statuses.forEach((status, requests) -> statuses.merge(status, requests, Long::sum));
+        }
+
+        /**
+         * Nearest-rank percentile in milliseconds.
+         */
+        static double percentile(final long[] sorted, final double quantile) {
+            if (sorted.length == 0) {
+                return 0;
+            }
+            final int rank = (int) Math.ceil(quantile * sorted.length);
+            return sorted[Math.max(0, rank - 1)] / 1e6;
+        }
+    }
+}
@@ -0,0 +1,108 @@
+package com.interview.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.Properties;
+
+/**
+ * Checks a {@link LoadDriver} report against the SLOs in the load test settings and exits with status 1 if
+ * any is violated, failing the build.
+ * <p>
+ * Recognized settings, each optional: {@code slo.<operation>.p99} and {@code slo.<operation>.p999} in
+ * milliseconds, {@code slo.all.p99} and {@code slo.all.p999} over all operations, {@code slo.error-rate} as
+ * a fraction of requests, and {@code slo.min-throughput} in successful requests per second.
+ * </p>
+ * <p>
+ * Usage: {@code SloGate <settings.properties> [key=value ...]}, with the same overrides as the driver.
+ * </p>
+ */
+public final class SloGate {
+
+    private SloGate() {}
+
+    public static void main(final String[] args) throws IOException {
+        if (args.length < 1) {
+            System.err.println("Usage: SloGate <settings.properties> [key=value ...]");
+            System.exit(2);
+        }
+        final Properties settings = LoadDriver.loadSettings(Path.of(args[0]), Arrays.copyOfRange(args, 1, args.length));
+        final Path report = LoadDriver.reportPath(settings);
+        if (!Files.exists(report)) {
+            System.out.println("SLO VIOLATED: no load test report at " + report + ", the run failed");
+            System.exit(1);
+        }
+        final List<String> violations = check(new ObjectMapper().readTree(report.toFile()), settings);
+        if (violations.isEmpty()) {
+            System.out.println("All SLOs met");
+            return;
+        }
+        violations.forEach(violation -> System.out.println("SLO VIOLATED: " + violation));
+        System.exit(1);
+    }
+
+    /**
+     * Compares the report with the SLO settings.
+     *
+     * @param report   the JSON report written by the driver
+     * @param settings the load test settings holding the {@code slo.*} thresholds
+     * @return a description of every violated SLO, empty if all are met
+     */
+    static List<String> check(final JsonNode report, final Properties settings) {
+        final List<String> violations = new ArrayList<>();
+        final List<String> scopes = new ArrayList<>();
+        scopes.add("all");
+        for (LoadDriver.Operation operation : LoadDriver.Operation.values()) {
+            scopes.add(operation.key());
+        }
+        for (String scope : scopes) {
+            final JsonNode stats = "all".equals(scope)
+                    ? report.path("all")
+                    : report.path("operations").path(scope);
+            if (stats.isMissingNode()) {
+                continue;
+            }
+            checkAtMost(violations, settings, "slo." + scope + ".p99", scope + " p99", stats.path("p99Ms"), "ms");
+            checkAtMost(violations, settings, "slo." + scope + ".p999", scope + " p99.9", stats.path("p999Ms"), "ms");
+        }
+        checkAtMost(
+                violations,
+                settings,
+                "slo.error-rate",
+                "error rate",
+                report.path("all").path("errorRate"),
+                "");
+
+        final String minThroughput = settings.getProperty("slo.min-throughput");
+        if (minThroughput != null && report.path("throughput").asDouble() < Double.parseDouble(minThroughput)) {
+            violations.add(String.format(
+                    Locale.ROOT,
+                    "throughput %.1f req/s is below %s req/s",
+                    report.path("throughput").asDouble(),
+                    minThroughput));
+        }
+        return violations;
+    }
+
+    // --- Private helper methods ---
+
+    private static void checkAtMost(
+            final List<String> violations,
+            final Properties settings,
+            final String key,
+            final String name,
+            final JsonNode actual,
+            final String unit) {
+        final String limit = settings.getProperty(key);
+        if (limit != null && actual.asDouble() > Double.parseDouble(limit)) {
+            violations.add(
+                    String.format(Locale.ROOT, "%s %.3f%s exceeds %s%s", name, actual.asDouble(), unit, limit, unit));
+        }
+    }
+}
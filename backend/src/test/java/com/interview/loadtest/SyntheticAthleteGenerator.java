@@ -0,0 +1,253 @@
+package com.interview.loadtest;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.Locale;
+import java.util.SplittableRandom;
+
+/**
+ * Writes a deterministic CSV of synthetic athletes in the format accepted by the import endpoint.
+ * <p>
+ * The same count and seed always produce the same file. Natural keys are unique by construction: row
+ * {@code i} is mapped through a fixed permutation of the (first name, last name, birth date) space, so up to
+ * {@link #MAX_ROWS} rows never trip the duplicate check. Nationalities and disciplines follow Zipf
+ * distributions, so a few values dominate as in real data and prefix filters see both huge and tiny result
+ * sets.
+ * </p>
+ * <p>
+ * Usage: {@code SyntheticAthleteGenerator <output.csv> <rows> [seed]}.
+ * </p>
+ */
+public final class SyntheticAthleteGenerator {
+
+    static final String HEADER = "firstName,lastName,birthDate,nationality,discipline,personalBest,bio";
+
+    static final String[] FIRST_NAMES = {
+        "James", "Maria", "Wei", "Fatima", "Carlos", "Anna", "Kenji", "Aisha", "Lucas", "Sofia", "Ivan", "Olga",
+        "Ahmed", "Chloe", "Mateo", "Yuki", "Kwame", "Elena", "Noah", "Priya", "Liam", "Amara", "Jonas", "Ingrid",
+        "Diego", "Leila", "Tomas", "Mei", "Omar", "Hannah", "Rafael", "Nadia", "Erik", "Zara", "Pablo", "Sana",
+        "Henrik", "Ines", "Kofi", "Lena"
+    };
+
+    static final String[] LAST_NAMES = {
+        "Smith", "Garcia", "Wang", "Mensah", "Silva", "Kowalski", "Tanaka", "Okafor", "Muller", "Rossi",
+        "Ivanov", "Novak", "Hassan", "Dubois", "Lopez", "Sato", "Boateng", "Petrov", "Johnson", "Patel",
+        "Brown", "Nakamura", "Jensen", "Larsen", "Fernandez", "Karimi", "Horvath", "Chen", "Ali", "Schmidt",
+        "Costa", "Haddad", "Nilsson", "Khan", "Moreno", "Rahman", "Berg", "Santos", "Owusu", "Weber",
+        "Kim", "Park", "Nguyen", "Tran", "Yilmaz", "Demir", "Popescu", "Jovanovic", "Murphy", "Kelly",
+        "Andersen", "Virtanen", "Kariuki", "Kiprop", "Bekele", "Tadesse", "Campbell", "Thompson", "Fraser", "Bolt"
+    };
+
+    static final String[] NATIONALITIES = {
+        "USA",
+        "Kenya",
+        "Jamaica",
+        "Ethiopia",
+        "Great Britain",
+        "Germany",
+        "China",
+        "Japan",
+        "France",
+        "Australia",
+        "Canada",
+        "Italy",
+        "Netherlands",
+        "Brazil",
+        "Spain",
+        "Poland",
+        "Norway",
+        "Sweden",
+        "South Africa",
+        "Nigeria",
+        "Cuba",
+        "New Zealand",
+        "Ukraine",
+        "Belgium",
+        "Switzerland",
+        "Ireland",
+        "Portugal",
+        "Uganda",
+        "Morocco",
+        "Bahamas",
+        "Trinidad and Tobago",
+        "Botswana",
+        "Qatar",
+        "India",
+        "Mexico",
+        "Colombia",
+        "Ecuador",
+        "Greece",
+        "Turkey",
+        "Finland",
+        "Denmark",
+        "Czech Republic",
+        "Hungary",
+        "Croatia",
+        "Serbia",
+        "Romania",
+        "Slovenia",
+        "Estonia",
+        "Lithuania",
+        "Iceland"
+    };
+
+    static final String[] DISCIPLINES = {
+        "100m",
+        "Marathon",
+        "200m",
+        "400m",
+        "5000m",
+        "10000m",
+        "1500m",
+        "800m",
+        "110m Hurdles",
+        "400m Hurdles",
+        "Long Jump",
+        "High Jump",
+        "Triple Jump",
+        "Pole Vault",
+        "Shot Put",
+        "Discus Throw",
+        "Javelin Throw",
+        "Hammer Throw",
+        "Decathlon",
+        "Heptathlon",
+        "3000m Steeplechase",
+        "20km Race Walk",
+        "Half Marathon",
+        "4x100m Relay",
+        "Cross Country"
+    };
+
+    private static final LocalDate FIRST_BIRTH_DATE = LocalDate.of(1960, 1, 1);
+    private static final int BIRTH_DATES = 46 * 365;
+
+    /**
+     * Size of the natural key space, and so the largest number of rows with distinct keys.
+     */
+    static final long MAX_ROWS = (long) FIRST_NAMES.length * LAST_NAMES.length * BIRTH_DATES;
+
+    // Cumulative Zipf weights: the first nationalities and disciplines are by far the most common
+    static final double[] NATIONALITY_WEIGHTS = zipf(NATIONALITIES.length, 1.1);
+    static final double[] DISCIPLINE_WEIGHTS = zipf(DISCIPLINES.length, 0.9);
+
+    // Coprime to MAX_ROWS, so multiplying by it permutes the key space
+    private static final long PERMUTATION = 2_654_435_761L;
+
+    private final SplittableRandom random;
+
+    public SyntheticAthleteGenerator(final long seed) {
+        this.random = new SplittableRandom(seed);
+    }
+
+    public static void main(final String[] args) throws IOException {
+        if (args.length < 2) {
+            System.err.println("Usage: SyntheticAthleteGenerator <output.csv> <rows> [seed]");
+            System.exit(2);
+        }
+        final Path output = Path.of(args[0]);
+        final long rows = Long.parseLong(args[1]);
+        final long seed = args.length > 2 ? Long.parseLong(args[2]) : 42;
+        if (output.getParent() != null) {
+            Files.createDirectories(output.getParent());
+        }
+        final long start = System.nanoTime();
+        try (BufferedWriter out = Files.newBufferedWriter(output, StandardCharsets.UTF_8)) {
+            new SyntheticAthleteGenerator(seed).write(out, rows);
+        }
+        System.out.printf(
+                Locale.ROOT, "Wrote %d athletes to %s in %.1f s%n", rows, output, (System.nanoTime() - start) / 1e9);
+    }
+
+    /**
+     * Writes the header and the given number of athlete rows.
+     *
+     * @param out  where to write the CSV
+     * @param rows number of athletes, at most {@link #MAX_ROWS}
+     * @throws IOException if writing fails
+     */
+    public void write(final Writer out, final long rows) throws IOException {
+        if (rows < 0 || rows > MAX_ROWS) {
+            throw new IllegalArgumentException("Rows must be between 0 and " + MAX_ROWS);
+        }
+        out.write(HEADER);
+        out.write('\n');
+        final StringBuilder line = new StringBuilder(128);
+        for (long i = 0; i < rows; i++) {
+            line.setLength(0);
+            appendRow(line, i);
+            out.append(line);
+        }
+    }
+
+    /**
+     * Draws an index from a cumulative distribution such as those built by {@link #zipf(int, double)}.
+     */
+    static int sample(final SplittableRandom random, final double[] cumulative) {
+        final double value = random.nextDouble();
+        int low = 0;
+        int high = cumulative.length - 1;
+        while (low < high) {
+            final int mid = (low + high) >>> 1;
+            if (cumulative[mid] < value) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Cumulative Zipf distribution over {@code n} ranks with exponent {@code s}.
+     */
+    static double[] zipf(final int n, final double s) {
+        final double[] cumulative = new double[n];
+        double total = 0;
+        for (int rank = 1; rank <= n; rank++) {
+            total += 1 / Math.pow(rank, s);
+            cumulative[rank - 1] = total;
+        }
+        for (int i = 0; i < n; i++) {
+            cumulative[i] /= total;
+        }
+        cumulative[n - 1] = 1.0;
+        return cumulative;
+    }
+
+    // --- Private helper methods ---
+
+    private void appendRow(final StringBuilder line, final long index) {
+        long key = Math.floorMod(index * PERMUTATION, MAX_ROWS);
+        final int birthDate = (int) (key % BIRTH_DATES);
+        key /= BIRTH_DATES;
+        final int firstName = (int) (key % FIRST_NAMES.length);
+        final int lastName = (int) (key / FIRST_NAMES.length);
+
+        final String discipline = DISCIPLINES[sample(random, DISCIPLINE_WEIGHTS)];
+        line.append(FIRST_NAMES[firstName])
+                .append(',')
+                .append(LAST_NAMES[lastName])
+                .append(',')
+                .append(FIRST_BIRTH_DATE.plusDays(birthDate))
+                .append(',')
+                .append(NATIONALITIES[sample(random, NATIONALITY_WEIGHTS)])
+                .append(',')
+                .append(discipline)
+                .append(',');
+        // About a third of athletes have no recorded personal best, and most have no bio
+        if (random.nextInt(3) != 0) {
+            line.append(String.format(Locale.ROOT, "%.2f", 9.5 + random.nextDouble() * 50));
+        }
+        line.append(',');
+        if (random.nextInt(5) == 0) {
+            line.append(discipline).append(" specialist");
+        }
+        line.append('\n');
+    }
+}
@@ -0,0 +1,96 @@
+package com.interview.loadtest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.interview.dto.AthleteCsvParser;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import jakarta.validation.ValidatorFactory;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for SyntheticAthleteGenerator to ensure generated data is reproducible, importable and skewed.
+ */
+class SyntheticAthleteGeneratorTest {
+
+    @Test
+    void shouldGenerateSameRowsForSameSeed() throws IOException {
+        // When
+        String first = generate(1_000, 7);
+        String second = generate(1_000, 7);
+        String other = generate(1_000, 8);
+
+        // Then
+        assertThat(first).isEqualTo(second);
+        assertThat(other).isNotEqualTo(first);
+    }
+
+    @Test
+    void shouldGenerateUniqueNaturalKeys() throws IOException {
+        // When
+        List<String[]> rows = rows(generate(50_000, 42));
+
+        // Then
+        assertThat(rows).hasSize(50_000);
+        Set<String> keys = new HashSet<>();
+        for (String[] row : rows) {
+            assertThat(keys.add(row[0] + "|" + row[1] + "|" + row[2])).isTrue();
+        }
+    }
+
+    @Test
+    void shouldSkewNationalities() throws IOException {
+        // When
+        Map<String, Long> counts = rows(generate(50_000, 42)).stream()
+                .collect(Collectors.groupingBy(row -> row[3], Collectors.counting()));
+
+        // Then - the most common nationality dominates the rarest by more than an order of magnitude
+        long mostCommon = counts.get(SyntheticAthleteGenerator.NATIONALITIES[0]);
+        long rarest = counts.values().stream().mapToLong(Long::longValue).min().orElseThrow();
+        assertThat(mostCommon).isGreaterThan(10 * rarest);
+        assertThat(counts).hasSizeGreaterThan(SyntheticAthleteGenerator.NATIONALITIES.length / 2);
+    }
+
+    @Test
+    void shouldGenerateRowsAcceptedByImport() throws IOException {
+        // Given
+        List<String> lines = generate(1_000, 42).lines().toList();
+        AthleteCsvParser parser = new AthleteCsvParser(lines.get(0));
+
+        // When / Then
+        try (ValidatorFactory factory = Validation.buildDefaultValidatorFactory()) {
+            Validator validator = factory.getValidator();
+            for (String line : lines.subList(1, lines.size())) {
+                assertThat(validator.validate(parser.parse(line))).as(line).isEmpty();
+            }
+        }
+    }
+
+    @Test
+    void shouldRejectMoreRowsThanDistinctKeys() {
+        // When / Then
+        assertThatThrownBy(() -> new SyntheticAthleteGenerator(42)
+                        .write(new StringWriter(), SyntheticAthleteGenerator.MAX_ROWS + 1))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    // --- Private helper methods ---
+
+    private static String generate(final long rows, final long seed) throws IOException {
+        StringWriter out = new StringWriter();
+        new SyntheticAthleteGenerator(seed).write(out, rows);
+        return out.toString();
+    }
+
+    private static List<String[]> rows(final String csv) {
+        return csv.lines().skip(1).map(line -> line.split(",", -1)).toList();
+    }
+}
@@ -3,11 +3,20 @@ package com.interview.repository;
 import static org.assertj.core.api.Assertions.assertThat;
 
 import com.interview.model.Athlete;
+import com.interview.model.AthleteRow;
+import jakarta.persistence.EntityManager;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Set;
+import org.hibernate.Session;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
 
 @DataJpaTest
 class AthleteRepositoryTest {
@@ -15,6 +24,9 @@ class AthleteRepositoryTest {
     @Autowired
     private AthleteRepository athleteRepository;
 
+    @Autowired
+    private EntityManager entityManager;
+
     @Test
     @DisplayName("Should save and retrieve an athlete")
     void testSaveAndFindAthlete() {
@@ -37,4 +49,94 @@ class AthleteRepositoryTest {
         assertThat(all).hasSize(1);
         assertThat(all.getFirst()).usingRecursiveComparison().isEqualTo(saved);
     }
+
+    @Test
+    @DisplayName("Should select a page of rows without loading entities")
+    void testFindRowsSelectsProjections() {
+        // given
+        athleteRepository.save(athlete("Usain", "Bolt", "Jamaica").toBuilder()
+                .bio("Fastest man alive.")
+                .build());
+        athleteRepository.save(athlete("Mo", "Farah", "UK"));
+        athleteRepository.save(athlete("Yohan", "Blake", "Jamaica"));
+        entityManager.flush();
+        entityManager.clear();
+        Specification<Athlete> jamaica = AthleteSpecification.matching(new AthleteFilter("jamaica", null, null));
+
+        // when
+        Slice<AthleteRow> first = athleteRepository.findRows(jamaica, PageRequest.of(0, 1, Sort.by("id")), null);
+        Slice<AthleteRow> second =
+                athleteRepository.findRows(jamaica, PageRequest.of(1, 1, Sort.by("id")), Set.of("lastName"));
+
+        // then
+        assertThat(first.getContent()).extracting(AthleteRow::lastName).containsExactly("Bolt");
+        assertThat(first.getContent().getFirst().bio()).isEqualTo("Fastest man alive.");
+        assertThat(first.hasNext()).isTrue();
+        assertThat(second.getContent()).extracting(AthleteRow::lastName).containsExactly("Blake");
+        assertThat(second.getContent().getFirst().id()).isNotNull();
+        assertThat(second.getContent().getFirst().firstName()).isNull();
+        assertThat(second.getContent().getFirst().birthTimestamp()).isNull();
+        assertThat(second.hasNext()).isFalse();
+        assertThat(entityManager.unwrap(Session.class).getStatistics().getEntityCount())
+                .isZero();
+    }
+
+    @Test
+    @DisplayName("Should stream matching athletes in order and detach them")
+    void testForEachStreamsAndDetaches() {
+        // given
+        Athlete usain = athleteRepository.save(athlete("Usain", "Bolt", "Jamaica"));
+        athleteRepository.save(athlete("Mo", "Farah", "UK"));
+        Athlete yohan = athleteRepository.save(athlete("Yohan", "Blake", "Jamaica"));
+        List<Athlete> streamed = new ArrayList<>();
+
+        // when
+        long count = athleteRepository.forEach(
+                AthleteSpecification.matching(new AthleteFilter("jamaica", null, null)), Sort.by("id"), streamed::add);
+
+        // then
+        assertThat(count).isEqualTo(2);
+        assertThat(streamed).extracting(Athlete::getId).containsExactly(usain.getId(), yohan.getId());
+        assertThat(entityManager.contains(streamed.getFirst())).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should match normalized keys exactly, by prefix, or by substring")
+    void testMatchModes() {
+        // given
+        Athlete usain = athleteRepository.save(athlete("Usain", "Bolt", " Jamaica "));
+        Athlete mo = athleteRepository.save(athlete("Mo", "Farah", "UK"));
+        entityManager.flush();
+
+        // when
+        mo.setNationality("Great_Britain");
+        entityManager.flush();
+
+        // then
+        assertThat(usain.getNationalityKey()).isEqualTo("jamaica");
+        assertThat(idsMatching("JAMAICA", MatchMode.EXACT)).containsExactly(usain.getId());
+        assertThat(idsMatching("jam", MatchMode.EXACT)).isEmpty();
+        assertThat(idsMatching("jam", MatchMode.PREFIX)).containsExactly(usain.getId());
+        assertThat(idsMatching("maica", MatchMode.PREFIX)).isEmpty();
+        assertThat(idsMatching("maica", MatchMode.CONTAINS)).containsExactly(usain.getId());
+        assertThat(idsMatching("great_", MatchMode.PREFIX)).containsExactly(mo.getId());
+        assertThat(idsMatching("great%", MatchMode.PREFIX)).isEmpty();
+        assertThat(idsMatching("uk", MatchMode.EXACT)).isEmpty();
+    }
+
+    private List<Long> idsMatching(String nationality, MatchMode mode) {
+        return athleteRepository.findAll(AthleteSpecification.hasNationality(nationality, mode), Sort.by("id")).stream()
+                .map(Athlete::getId)
+                .toList();
+    }
+
+    private Athlete athlete(String firstName, String lastName, String nationality) {
+        return Athlete.builder()
+                .firstName(firstName)
+                .lastName(lastName)
+                .birthTimestamp(524966400000L)
+                .nationality(nationality)
+                .discipline("100m")
+                .build();
+    }
 }
@@ -0,0 +1,63 @@
+package com.interview.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.interview.config.AthleteCacheProperties;
+import com.interview.repository.AthleteFilter;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for AthleteCountCache to ensure counts are reused per filter and dropped on writes.
+ */
+class AthleteCountCacheTest {
+
+    private AthleteCountCache countCache;
+    private AtomicInteger counterCalls;
+
+    @BeforeEach
+    void setUp() {
+        countCache = new AthleteCountCache(new AthleteCacheProperties());
+        counterCalls = new AtomicInteger();
+    }
+
+    @Test
+    void shouldReuseCountForSameNormalizedFilter() {
+        AthleteFilter filter = new AthleteFilter("USA", null, null).normalized();
+
+        long first = countCache.get(filter, this::countFive);
+        long second = countCache.get(new AthleteFilter(" usa ", "", null).normalized(), this::countFive);
+
+        assertThat(first).isEqualTo(5);
+        assertThat(second).isEqualTo(5);
+        assertThat(counterCalls).hasValue(1);
+    }
+
+    @Test
+    void shouldRecountAfterInvalidation() {
+        AthleteFilter filter = AthleteFilter.NONE;
+
+        countCache.get(filter, this::countFive);
+        countCache.invalidate();
+        countCache.get(filter, this::countFive);
+
+        assertThat(counterCalls).hasValue(2);
+    }
+
+    @Test
+    void shouldNotKeepCountTakenDuringWrite() {
+        countCache.get(AthleteFilter.NONE, () -> {
+            countCache.invalidate();
+            return countFive();
+        });
+        countCache.get(AthleteFilter.NONE, this::countFive);
+
+        assertThat(counterCalls).hasValue(2);
+    }
+
+    private long countFive() {
+        counterCalls.incrementAndGet();
+        return 5;
+    }
+}
@@ -0,0 +1,117 @@
+package com.interview.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.interview.config.AthleteCacheProperties;
+import com.interview.model.Athlete;
+import com.interview.repository.CurrentReads;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for AthleteEntityCache to ensure athletes are reused by ID, isolated from callers and evicted on writes.
+ */
+class AthleteEntityCacheTest {
+
+    private AthleteEntityCache entityCache;
+    private SimpleMeterRegistry meterRegistry;
+    private AtomicInteger loads;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        entityCache = new AthleteEntityCache(
+                new AthleteCacheProperties(),
+                meterRegistry,
+                new RequestCoalescer(meterRegistry, Duration.ofSeconds(1)));
+        loads = new AtomicInteger();
+    }
+
+    @Test
+    void shouldLoadOnceAndReportHits() {
+        entityCache.get(1L, this::load);
+        entityCache.get(1L, this::load);
+
+        assertThat(loads).hasValue(1);
+        assertThat(meterRegistry
+                        .get("cache.gets")
+                        .tag("cache", AthleteEntityCache.CACHE_NAME)
+                        .tag("result", "hit")
+                        .functionCounter()
+                        .count())
+                .isEqualTo(1.0);
+    }
+
+    @Test
+    void shouldHandOutCopies() {
+        entityCache.get(1L, this::load).orElseThrow().setLastName("Changed");
+
+        assertThat(entityCache.get(1L, this::load))
+                .hasValueSatisfying(athlete -> assertThat(athlete.getLastName()).isEqualTo("Bolt"));
+    }
+
+    @Test
+    void shouldReloadAfterEviction() {
+        entityCache.get(1L, this::load);
+        entityCache.evict(1L);
+        entityCache.get(1L, this::load);
+
+        assertThat(loads).hasValue(2);
+    }
+
+    @Test
+    void shouldNotKeepAthleteLoadedDuringWrite() {
+        entityCache.get(1L, id -> {
+            Optional<Athlete> athlete = load(id);
+            entityCache.evict(1L);
+            return athlete;
+        });
+        entityCache.get(1L, this::load);
+
+        assertThat(loads).hasValue(2);
+    }
+
+    @Test
+    void shouldLoadOtherIdsWhileALoadIsInFlight() {
+        entityCache.get(1L, id -> {
+            assertThat(entityCache.get(2L, this::load)).isPresent();
+            return load(id);
+        });
+        entityCache.get(1L, this::load);
+        entityCache.get(2L, this::load);
+
+        assertThat(loads).hasValue(2);
+    }
+
+    @Test
+    void shouldLoadWithCurrentReads() {
+        entityCache.get(1L, id -> {
+            assertThat(CurrentReads.required()).isTrue();
+            return load(id);
+        });
+
+        assertThat(loads).hasValue(1);
+        assertThat(CurrentReads.required()).isFalse();
+    }
+
+    @Test
+    void shouldNotCacheMissingAthletes() {
+        entityCache.get(2L, id -> {
+            loads.incrementAndGet();
+            return Optional.empty();
+        });
+        entityCache.get(2L, this::load);
+
+        assertThat(loads).hasValue(2);
+    }
+
+    private Optional<Athlete> load(final Long id) {
+        loads.incrementAndGet();
+        return Optional.of(
+                Athlete.builder().id(id).firstName("Usain").lastName("Bolt").build());
+    }
+}
@@ -0,0 +1,76 @@
+package com.interview.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.interview.model.AthleteKey;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for AthleteKeyFilter to ensure it never misses a stored key and forgets removed ones.
+ */
+class AthleteKeyFilterTest {
+
+    private static final AthleteKey BOLT = new AthleteKey("Usain", "Bolt", 493344000000L);
+
+    private AthleteKeyFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        filter = new AthleteKeyFilter(null, 1000, 0.01);
+    }
+
+    @Test
+    void shouldContainAddedKeys() {
+        IntStream.range(0, 1000).mapToObj(AthleteKeyFilterTest::key).forEach(filter::add);
+
+        assertThat(IntStream.range(0, 1000).mapToObj(AthleteKeyFilterTest::key)).allMatch(filter::mightContain);
+    }
+
+    @Test
+    void shouldRarelyReportUnknownKeys() {
+        IntStream.range(0, 1000).mapToObj(AthleteKeyFilterTest::key).forEach(filter::add);
+
+        final long falsePositives = IntStream.range(1000, 11000)
+                .mapToObj(AthleteKeyFilterTest::key)
+                .filter(filter::mightContain)
+                .count();
+
+        // Configured for 1%; allow generous slack so the test is not flaky
+        assertThat(falsePositives).isLessThan(300);
+    }
+
+    @Test
+    void shouldForgetRemovedKeys() {
+        filter.add(BOLT);
+        assertThat(filter.mightContain(BOLT)).isTrue();
+
+        filter.remove(BOLT);
+
+        assertThat(filter.mightContain(BOLT)).isFalse();
+    }
+
+    @Test
+    void shouldKeepKeyAddedTwiceUntilRemovedTwice() {
+        filter.add(BOLT);
+        filter.add(BOLT);
+
+        filter.remove(BOLT);
+        assertThat(filter.mightContain(BOLT)).isTrue();
+
+        filter.remove(BOLT);
+        assertThat(filter.mightContain(BOLT)).isFalse();
+    }
+
+    @Test
+    void shouldDistinguishFieldBoundaries() {
+        filter.add(new AthleteKey("ab", "c", 1L));
+
+        assertThat(filter.mightContain(new AthleteKey("a", "bc", 1L))).isFalse();
+    }
+
+    private static AthleteKey key(final int i) {
+        return new AthleteKey("First" + i, "Last" + i, (long) i * 86_400_000L);
+    }
+}
@@ -0,0 +1,115 @@
+package com.interview.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+
+import com.interview.model.Athlete;
+import com.interview.repository.AthleteRepository;
+import java.util.List;
+import java.util.function.Consumer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for AthleteNameIndex to ensure trigram lookups narrow searches and stay in sync with writes.
+ */
+class AthleteNameIndexTest {
+
+    private final AthleteRepository repository = mock(AthleteRepository.class);
+    private AthleteNameIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new AthleteNameIndex(repository, 2);
+        scan(() -> {}, athlete(1L, "Usain", "Bolt"), athlete(2L, "Yohan", "Blake"), athlete(3L, "Boltina", "Smith"));
+        index.rebuild();
+    }
+
+    @Test
+    void shouldReturnIdsContainingEveryTrigram() {
+        assertThat(index.candidates("bolt"))
+                .hasValueSatisfying(ids -> assertThat(ids).containsExactlyInAnyOrder(1L, 3L));
+        assertThat(index.candidates("yohan"))
+                .hasValueSatisfying(ids -> assertThat(ids).containsExactly(2L));
+        assertThat(index.candidates("xyz"))
+                .hasValueSatisfying(ids -> assertThat(ids).isEmpty());
+    }
+
+    @Test
+    void shouldNotNarrowShortOrUnselectiveTerms() {
+        index.add(athlete(4L, "Bolton", "Jones"));
+
+        assertThat(index.candidates("bo")).isEmpty();
+        assertThat(index.candidates("bol")).isEmpty();
+    }
+
+    @Test
+    void shouldFollowRenamesAndRemovals() {
+        index.add(athlete(1L, "Usain", "Lightning"));
+        index.remove(3L);
+
+        assertThat(index.candidates("bolt"))
+                .hasValueSatisfying(ids -> assertThat(ids).isEmpty());
+        assertThat(index.candidates("lightning"))
+                .hasValueSatisfying(ids -> assertThat(ids).containsExactly(1L));
+    }
+
+    @Test
+    void shouldNotNarrowSearchesUntilBuilt() {
+        AthleteNameIndex unbuilt = new AthleteNameIndex(repository, 2);
+        unbuilt.add(athlete(1L, "Usain", "Bolt"));
+
+        assertThat(unbuilt.candidates("bolt")).isEmpty();
+        assertThat(unbuilt.candidates("xyz")).isEmpty();
+    }
+
+    @Test
+    void shouldServeCurrentIndexWhileRebuilding() {
+        scan(
+                () -> assertThat(index.candidates("bolt"))
+                        .hasValueSatisfying(ids -> assertThat(ids).containsExactlyInAnyOrder(1L, 3L)),
+                athlete(1L, "Usain", "Bolt"));
+
+        index.rebuild();
+
+        assertThat(index.candidates("bolt"))
+                .hasValueSatisfying(ids -> assertThat(ids).containsExactly(1L));
+    }
+
+    @Test
+    void shouldKeepWritesMadeDuringRebuild() {
+        scan(
+                () -> {
+                    index.add(athlete(1L, "Usain", "Lightning"));
+                    index.add(athlete(4L, "Noah", "Lyles"));
+                },
+                athlete(1L, "Usain", "Bolt"));
+
+        index.rebuild();
+
+        assertThat(index.candidates("lightning"))
+                .hasValueSatisfying(ids -> assertThat(ids).containsExactly(1L));
+        assertThat(index.candidates("lyles"))
+                .hasValueSatisfying(ids -> assertThat(ids).containsExactly(4L));
+    }
+
+    /**
+     * Makes the repository stream the given athletes, running the concurrent action before the first one.
+     */
+    private void scan(final Runnable concurrently, final Athlete... athletes) {
+        doAnswer(invocation -> {
+                    Consumer<Athlete> action = invocation.getArgument(2);
+                    concurrently.run();
+                    List.of(athletes).forEach(action);
+                    return (long) athletes.length;
+                })
+                .when(repository)
+                .forEach(any(), any(), any());
+    }
+
+    private Athlete athlete(final Long id, final String firstName, final String lastName) {
+        return Athlete.builder().id(id).firstName(firstName).lastName(lastName).build();
+    }
+}
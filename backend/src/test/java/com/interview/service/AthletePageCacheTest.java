@@ -0,0 +1,101 @@
+package com.interview.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.interview.config.AthleteCacheProperties;
+import com.interview.dto.AthleteResponse;
+import com.interview.dto.PagedResponse;
+import com.interview.repository.AthleteFilter;
+import com.interview.repository.CurrentReads;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+
+/**
+ * Tests for AthletePageCache to ensure responses are reused per listing, tracked per key and dropped on writes.
+ */
+class AthletePageCacheTest {
+
+    private AthletePageCache pageCache;
+    private AtomicInteger loads;
+
+    @BeforeEach
+    void setUp() {
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        pageCache = new AthletePageCache(
+                new AthleteCacheProperties(),
+                meterRegistry,
+                new RequestCoalescer(meterRegistry, Duration.ofSeconds(1)));
+        loads = new AtomicInteger();
+    }
+
+    @Test
+    void shouldReuseResponseForSameListing() {
+        AthleteFilter usa = new AthleteFilter("USA", null, null).normalized();
+
+        PagedResponse<AthleteResponse> first = pageCache.get(usa, PageRequest.of(0, 10), true, null, this::load);
+        PagedResponse<AthleteResponse> second = pageCache.get(
+                new AthleteFilter(" usa ", null, null).normalized(), PageRequest.of(0, 10), true, null, this::load);
+        pageCache.get(usa, PageRequest.of(0, 10, Sort.by("lastName")), true, null, this::load);
+        pageCache.get(usa, PageRequest.of(0, 10), false, null, this::load);
+        pageCache.get(usa, PageRequest.of(0, 10), true, Set.of("lastName"), this::load);
+
+        assertThat(second).isSameAs(first);
+        assertThat(loads).hasValue(4);
+    }
+
+    @Test
+    void shouldReportHitsPerListing() {
+        pageCache.get(AthleteFilter.NONE, PageRequest.of(0, 10), true, null, this::load);
+        pageCache.get(AthleteFilter.NONE, PageRequest.of(0, 10), true, null, this::load);
+        pageCache.get(AthleteFilter.NONE, PageRequest.of(0, 10), true, null, this::load);
+        pageCache.get(AthleteFilter.NONE, PageRequest.of(1, 10), true, null, this::load);
+
+        List<AthletePageCache.PageStats> hottest = pageCache.hottest(10);
+
+        assertThat(hottest).extracting(AthletePageCache.PageStats::page).containsExactly(0, 1);
+        assertThat(hottest).extracting(AthletePageCache.PageStats::hits).containsExactly(2L, 0L);
+    }
+
+    @Test
+    void shouldReloadAfterInvalidation() {
+        pageCache.get(AthleteFilter.NONE, PageRequest.of(0, 10), true, null, this::load);
+        pageCache.invalidate();
+        pageCache.get(AthleteFilter.NONE, PageRequest.of(0, 10), true, null, this::load);
+
+        assertThat(loads).hasValue(2);
+        assertThat(pageCache.hottest(10)).hasSize(1);
+    }
+
+    @Test
+    void shouldNotPublishResponseBuiltDuringWrite() {
+        pageCache.get(AthleteFilter.NONE, PageRequest.of(0, 10), true, null, () -> {
+            pageCache.invalidate();
+            return load();
+        });
+
+        assertThat(pageCache.hottest(10)).isEmpty();
+    }
+
+    @Test
+    void shouldLoadWithCurrentReads() {
+        pageCache.get(AthleteFilter.NONE, PageRequest.of(0, 10), true, null, () -> {
+            assertThat(CurrentReads.required()).isTrue();
+            return load();
+        });
+
+        assertThat(loads).hasValue(1);
+        assertThat(CurrentReads.required()).isFalse();
+    }
+
+    private PagedResponse<AthleteResponse> load() {
+        loads.incrementAndGet();
+        return new PagedResponse<>(List.of(), 0, 10, 0L, 0, true, true);
+    }
+}
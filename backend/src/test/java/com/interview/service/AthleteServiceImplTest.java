@@ -3,15 +3,34 @@ package com.interview.service;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
+import com.interview.config.AthleteCacheProperties;
 import com.interview.exception.AthleteNotFoundException;
+import com.interview.exception.DuplicateAthleteException;
+import com.interview.exception.PreconditionFailedException;
 import com.interview.model.Athlete;
+import com.interview.model.AthleteRow;
+import com.interview.repository.AthleteFilter;
 import com.interview.repository.AthleteRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
 @DataJpaTest
 class AthleteServiceImplTest {
@@ -19,11 +38,43 @@ class AthleteServiceImplTest {
     @Autowired
     private AthleteRepository repository;
 
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
     private AthleteServiceImpl service;
 
     @BeforeEach
     void setUp() {
-        service = new AthleteServiceImpl(repository);
+        AthleteCacheProperties cacheProperties = new AthleteCacheProperties();
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        RequestCoalescer coalescer = new RequestCoalescer(meterRegistry, Duration.ofSeconds(1));
+        AthleteNameIndex nameIndex = new AthleteNameIndex(repository, 1000);
+        nameIndex.rebuild();
+        service = new AthleteServiceImpl(
+                repository,
+                new AthleteCountCache(cacheProperties),
+                nameIndex,
+                new AthleteEntityCache(cacheProperties, meterRegistry, coalescer),
+                new AthletePageCache(cacheProperties, meterRegistry, coalescer),
+                new AthleteKeyFilter(repository, 1000, 0.01),
+                new TransactionTemplate(transactionManager));
+    }
+
+    @Test
+    @DisplayName("Should reject a duplicate athlete")
+    void testSaveDuplicateAthlete() {
+        service.save(validAthlete());
+
+        assertThrows(DuplicateAthleteException.class, () -> service.save(validAthlete()));
+    }
+
+    @Test
+    @DisplayName("Should reject a duplicate athlete the key filter does not know about")
+    void testSaveDuplicateAthleteRejectedByConstraint() {
+        repository.saveAndFlush(validAthlete());
+
+        // The filter has not seen the row above, so only the unique constraint can catch the duplicate
+        assertThrows(DuplicateAthleteException.class, () -> service.save(validAthlete()));
     }
 
     @Test
@@ -58,6 +109,20 @@ class AthleteServiceImplTest {
         assertThat(found.getFirstName()).isEqualTo("Usain");
     }
 
+    @Test
+    @DisplayName("Should not serve a cached athlete after it was updated")
+    void testFindByIdAfterUpdate() {
+        Athlete saved = service.save(validAthlete());
+        Athlete cached = service.findById(saved.getId());
+        cached.setPersonalBest("9.63s");
+
+        assertThat(service.findById(saved.getId()).getPersonalBest()).isEqualTo("9.58s");
+
+        service.save(cached);
+
+        assertThat(service.findById(saved.getId()).getPersonalBest()).isEqualTo("9.63s");
+    }
+
     @Test
     @DisplayName("Should throw AthleteNotFoundException when athlete not found")
     void testFindByIdNotFound() {
@@ -74,6 +139,216 @@ class AthleteServiceImplTest {
         assertThrows(AthleteNotFoundException.class, () -> service.findById(saved.getId()));
     }
 
+    @Test
+    @DisplayName("Should patch only the given columns and skip unchanged values")
+    void testPatch() {
+        Athlete saved = service.save(validAthlete());
+
+        assertThat(service.patch(saved.getId(), Map.of("personalBest", "9.57s"), null))
+                .isTrue();
+        assertThat(service.patch(saved.getId(), Map.of("personalBest", "9.57s"), null))
+                .isFalse();
+
+        Athlete found = service.findById(saved.getId());
+        assertThat(found.getPersonalBest()).isEqualTo("9.57s");
+        assertThat(found.getBio()).isEqualTo("Fastest man alive.");
+    }
+
+    @Test
+    @DisplayName("Should patch only when the athlete has an expected version")
+    void testPatchWithVersion() {
+        Athlete saved = service.save(validAthlete());
+        Long version = saved.getVersion();
+
+        assertThrows(
+                PreconditionFailedException.class,
+                () -> service.patch(saved.getId(), Map.of("bio", "x"), Set.of(version + 1)));
+        assertThat(service.patch(saved.getId(), Map.of("bio", "x"), Set.of(version)))
+                .isTrue();
+        assertThat(service.findById(saved.getId()).getVersion()).isEqualTo(version + 1);
+    }
+
+    @Test
+    @DisplayName("Should delete only when the athlete has an expected version")
+    void testDeleteByIdWithVersion() {
+        Athlete saved = service.save(validAthlete());
+
+        assertThrows(
+                PreconditionFailedException.class,
+                () -> service.deleteById(saved.getId(), Set.of(saved.getVersion() + 1)));
+        service.deleteById(saved.getId(), Set.of(saved.getVersion()));
+
+        assertThrows(PreconditionFailedException.class, () -> service.deleteById(saved.getId(), null));
+    }
+
+    @Test
+    @DisplayName("Should throw when patching a missing athlete")
+    void testPatchNotFound() {
+        assertThrows(AthleteNotFoundException.class, () -> service.patch(99999L, Map.of("bio", "x"), null));
+    }
+
+    @Test
+    @DisplayName("Should find a patched athlete by its new name")
+    void testPatchReindexesName() {
+        Athlete saved = service.save(validAthlete());
+
+        service.patch(saved.getId(), Map.of("lastName", "Lightning"), null);
+
+        Page<AthleteRow> page =
+                service.findRows(new AthleteFilter(null, null, "lightning"), PageRequest.of(0, 10), null);
+        assertThat(page.getContent()).extracting(AthleteRow::id).containsExactly(saved.getId());
+    }
+
+    @Test
+    @DisplayName("Should delete athletes by ID in chunks")
+    void testDeleteAllById() {
+        ReflectionTestUtils.setField(service, "deleteChunkSize", 2);
+        List<Long> ids = List.of(
+                service.save(validAthlete()).getId(),
+                service.save(validAthlete().toBuilder().firstName("Mo").build()).getId(),
+                service.save(validAthlete().toBuilder().firstName("Yohan").build())
+                        .getId());
+
+        long deleted = service.deleteAllById(List.of(ids.get(0), ids.get(1), ids.get(2), ids.get(0), 99999L));
+
+        assertThat(deleted).isEqualTo(3);
+        assertThat(repository.count()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should delete only athletes matching the filter in chunks")
+    void testDeleteAllByFilter() {
+        ReflectionTestUtils.setField(service, "deleteChunkSize", 2);
+        service.save(validAthlete());
+        service.save(
+                validAthlete().toBuilder().firstName("Yohan").lastName("Blake").build());
+        service.save(
+                validAthlete().toBuilder().firstName("Asafa").lastName("Powell").build());
+        service.save(validAthlete().toBuilder()
+                .firstName("Mo")
+                .lastName("Farah")
+                .nationality("GBR")
+                .build());
+
+        long deleted = service.deleteAll(new AthleteFilter("jam", null, null));
+
+        assertThat(deleted).isEqualTo(3);
+        assertThat(repository.findAll()).extracting(Athlete::getLastName).containsExactly("Farah");
+    }
+
+    @Test
+    @DisplayName("Should refresh cached total count after a write")
+    void testFindAllRefreshesCountAfterWrite() {
+        service.save(validAthlete());
+        service.save(
+                validAthlete().toBuilder().firstName("Yohan").lastName("Blake").build());
+        AthleteFilter jamaica = new AthleteFilter("Jamaica", null, null);
+
+        Page<AthleteRow> before = service.findRows(jamaica, PageRequest.of(0, 1), null);
+        service.save(validAthlete().toBuilder()
+                .firstName("Shelly-Ann")
+                .lastName("Fraser-Pryce")
+                .build());
+        Page<AthleteRow> after =
+                service.findRows(new AthleteFilter(" jamaica ", null, null), PageRequest.of(0, 1), null);
+
+        assertThat(before.getTotalElements()).isEqualTo(2);
+        assertThat(after.getTotalElements()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("Should return slice without total count")
+    void testFindSlice() {
+        service.save(validAthlete());
+        service.save(
+                validAthlete().toBuilder().firstName("Mo").lastName("Farah").build());
+
+        Slice<AthleteRow> first = service.findRowSlice(AthleteFilter.NONE, PageRequest.of(0, 1), null);
+        Slice<AthleteRow> second = service.findRowSlice(AthleteFilter.NONE, PageRequest.of(1, 1), null);
+
+        assertThat(first.getContent()).hasSize(1);
+        assertThat(first.hasNext()).isTrue();
+        assertThat(second.hasNext()).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should return filtered, sorted rows with only the requested attributes")
+    void testFindRowsFiltersSortsAndSelects() {
+        service.save(validAthlete());
+        service.save(
+                validAthlete().toBuilder().firstName("Yohan").lastName("Blake").build());
+        service.save(validAthlete().toBuilder()
+                .firstName("Mo")
+                .lastName("Farah")
+                .nationality("GBR")
+                .build());
+
+        Page<AthleteRow> page = service.findRows(
+                new AthleteFilter("jamaica", null, null),
+                PageRequest.of(0, 10, Sort.by(Sort.Direction.DESC, "lastName")),
+                Set.of("id", "lastName"));
+
+        assertThat(page.getTotalElements()).isEqualTo(2);
+        assertThat(page.getContent()).extracting(AthleteRow::lastName).containsExactly("Bolt", "Blake");
+        assertThat(page.getContent()).extracting(AthleteRow::firstName).containsOnlyNulls();
+    }
+
+    @Test
+    @DisplayName("Should continue a sorted listing from a keyset position")
+    void testFindAllFromKeysetPosition() {
+        service.save(validAthlete());
+        service.save(
+                validAthlete().toBuilder().firstName("Yohan").lastName("Blake").build());
+        service.save(
+                validAthlete().toBuilder().firstName("Mo").lastName("Farah").build());
+        Sort sort = Sort.by("lastName", "id");
+
+        Window<Athlete> first = service.findAll(AthleteFilter.NONE, ScrollPosition.keyset(), sort, 2);
+        Window<Athlete> second = service.findAll(AthleteFilter.NONE, first.positionAt(first.size() - 1), sort, 2);
+
+        assertThat(first.getContent()).extracting(Athlete::getLastName).containsExactly("Blake", "Bolt");
+        assertThat(first.hasNext()).isTrue();
+        assertThat(second.getContent()).extracting(Athlete::getLastName).containsExactly("Farah");
+        assertThat(second.hasNext()).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should create batch and skip existing and repeated athletes")
+    void testCreateAll() {
+        service.save(validAthlete());
+        Athlete mo =
+                validAthlete().toBuilder().firstName("Mo").lastName("Farah").build();
+        Athlete moAgain = mo.toBuilder().build();
+
+        List<Optional<Athlete>> results = service.createAll(List.of(validAthlete(), mo, moAgain));
+
+        assertThat(results).hasSize(3);
+        assertThat(results.get(0)).isEmpty();
+        assertThat(results.get(1))
+                .hasValueSatisfying(saved -> assertThat(saved.getId()).isNotNull());
+        assertThat(results.get(2)).isEmpty();
+        assertThat(service.findAll()).hasSize(2);
+    }
+
+    @Test
+    @DisplayName("Should search names through the index and follow renames")
+    void testFindAllSearchesNameIndex() {
+        Athlete bolt = service.save(validAthlete());
+        service.save(
+                validAthlete().toBuilder().firstName("Yohan").lastName("Blake").build());
+
+        Page<AthleteRow> found = service.findRows(new AthleteFilter(null, null, "OLT"), PageRequest.of(0, 10), null);
+        assertThat(found.getContent()).extracting(AthleteRow::firstName).containsExactly("Usain");
+
+        service.save(bolt.toBuilder().lastName("Lightning").build());
+        Page<AthleteRow> renamed =
+                service.findRows(new AthleteFilter(null, null, "lightn"), PageRequest.of(0, 10), null);
+        Page<AthleteRow> stale = service.findRows(new AthleteFilter(null, null, "bolt"), PageRequest.of(0, 10), null);
+
+        assertThat(renamed.getContent()).extracting(AthleteRow::firstName).containsExactly("Usain");
+        assertThat(stale.getContent()).isEmpty();
+    }
+
     private Athlete validAthlete() {
         return Athlete.builder()
                 .firstName("Usain")
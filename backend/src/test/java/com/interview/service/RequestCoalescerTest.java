@@ -0,0 +1,133 @@
+package com.interview.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.interview.exception.AthleteNotFoundException;
+import com.interview.exception.ServiceOverloadedException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for RequestCoalescer to ensure concurrent identical calls share one execution, its result and its failure.
+ */
+class RequestCoalescerTest {
+
+    private static final int CALLERS = 8;
+
+    private SimpleMeterRegistry meterRegistry;
+    private ExecutorService executor;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        executor = Executors.newVirtualThreadPerTaskExecutor();
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void shouldShareOneExecutionBetweenConcurrentCallers() throws Exception {
+        RequestCoalescer coalescer = new RequestCoalescer(meterRegistry, Duration.ofSeconds(5));
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger executions = new AtomicInteger();
+
+        List<Future<String>> results = startCallers(() -> coalescer.execute("test", 1L, () -> {
+            executions.incrementAndGet();
+            await(release);
+            return "value";
+        }));
+        awaitCollapsed(CALLERS - 1);
+        release.countDown();
+
+        for (Future<String> result : results) {
+            assertThat(result.get(5, TimeUnit.SECONDS)).isEqualTo("value");
+        }
+        assertThat(executions).hasValue(1);
+        assertThat(coalescer.execute("test", 1L, () -> "fresh")).isEqualTo("fresh");
+    }
+
+    @Test
+    void shouldPropagateFailureToEveryCaller() throws Exception {
+        RequestCoalescer coalescer = new RequestCoalescer(meterRegistry, Duration.ofSeconds(5));
+        CountDownLatch release = new CountDownLatch(1);
+
+        List<Future<String>> results = startCallers(() -> coalescer.execute("test", 1L, () -> {
+            await(release);
+            throw new AthleteNotFoundException(1L);
+        }));
+        awaitCollapsed(CALLERS - 1);
+        release.countDown();
+
+        for (Future<String> result : results) {
+            ExecutionException ex = assertThrows(ExecutionException.class, () -> result.get(5, TimeUnit.SECONDS));
+            assertThat(ex.getCause()).isInstanceOf(AthleteNotFoundException.class);
+        }
+    }
+
+    @Test
+    void shouldShedFollowersAfterMaximumWait() throws Exception {
+        RequestCoalescer coalescer = new RequestCoalescer(meterRegistry, Duration.ofMillis(50));
+        CountDownLatch release = new CountDownLatch(1);
+
+        Future<String> leader = executor.submit(() -> coalescer.execute("test", 1L, () -> {
+            await(release);
+            return "value";
+        }));
+        while (counted("executed") == 0) {
+            Thread.sleep(5);
+        }
+
+        assertThrows(ServiceOverloadedException.class, () -> coalescer.execute("test", 1L, () -> "other"));
+        assertThat(counted("timed_out")).isEqualTo(1);
+
+        release.countDown();
+        assertThat(leader.get(5, TimeUnit.SECONDS)).isEqualTo("value");
+    }
+
+    private List<Future<String>> startCallers(final Callable<String> call) {
+        List<Future<String>> results = new ArrayList<>();
+        for (int i = 0; i < CALLERS; i++) {
+            results.add(executor.submit(call));
+        }
+        return results;
+    }
+
+    private void awaitCollapsed(final int expected) throws InterruptedException {
+        while (counted("collapsed") < expected) {
+            Thread.sleep(5);
+        }
+    }
+
+    private double counted(final String result) {
+        var counter = meterRegistry
+                .find("athlete.coalescing.calls")
+                .tag("result", result)
+                .counter();
+        return counter == null ? 0 : counter.count();
+    }
+
+    private static void await(final CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}